@@ -0,0 +1,16 @@
+package edu.neu.csye7374;
+
+/**
+ * Design Pattern: Strategy
+ * ------------------------
+ * Supplies the decisions that Demo.gameRun normally reads from the
+ * keyboard, so the console loop can run unattended (see DemoAutoplay).
+ *
+ * Choices use the same numbering as the console menus:
+ *  - chooseAction:   1 = act (attack / heal), 2 = change strategy, 3 = quit
+ *  - chooseStrategy: 1 = Aggressive, 2 = Defensive
+ */
+public interface AutoplayPolicy {
+    int chooseAction(Character player, Character enemy);
+    int chooseStrategy(Character player, Character enemy);
+}
@@ -28,30 +28,14 @@ public class Demo {
 
         // --- Singleton Pattern in use ---
         System.out.println("[Pattern] Using Singleton (GameConfig) for difficulty.");
-        GameConfig config = GameConfig.getInstance();
 
         int diff = readIntInRange(sc,
                 "Enter difficulty (1-Easy, 2-Normal, 3-Hard): ",
                 1, 3);
-        config.setDifficulty(diff);
+        GameConfig config = GameConfig.current().withDifficulty(diff);
 
         // Goblin HP scaling based on difficulty
-        int goblinHP;
-        switch (diff) {
-            case 1:
-                goblinHP = 50;
-                break;
-            case 2:
-                goblinHP = 80;
-                break;
-            case 3:
-                goblinHP = 120;
-                break;
-            default:
-                goblinHP = 80;
-                break;
-        }
-        if (goblinHP < 1) goblinHP = 1;
+        int goblinHP = config.getGoblinHp();
 
         System.out.println();
         System.out.println("-------------------------------------------");
@@ -77,15 +61,17 @@ public class Demo {
         }
 
         Character player = (choice == 1)
-                ? CharacterFactory.createCharacter("warrior", name)
-                : CharacterFactory.createCharacter("mage", name);
-        player.addObserver(logger);
+                ? CharacterFactory.createCharacter("warrior", name, config)
+                : CharacterFactory.createCharacter("mage", name, config);
+        ObserverChannel channel = new ObserverChannel();
+        channel.addObserver(logger);
+        player.joinChannel(channel);
 
         CharacterBuilder enemyBuilder = new CharacterBuilder()
                 .setName("Goblin")
                 .setHealth(goblinHP);
         Character enemy = enemyBuilder.build();
-        enemy.addObserver(logger);
+        enemy.joinChannel(channel);
 
         // --- Strategy Pattern ---
         System.out.println();
@@ -98,11 +84,11 @@ public class Demo {
                 1, 2);
 
         if (strat == 1) {
-            player.setStrategy(new AggressiveAttack());
+            player.setStrategy(config.strategies().aggressive());
         } else {
-            player.setStrategy(new DefensiveAttack());
+            player.setStrategy(config.strategies().defensive());
         }
-        enemy.setStrategy(new AggressiveAttack());
+        enemy.setStrategy(config.strategies().aggressive());
 
         // --- Command Pattern ---
         System.out.println("[Pattern] Using Command + CommandInvoker to queue actions.\n");
@@ -111,23 +97,11 @@ public class Demo {
         boolean playing = true;
         while (playing) {
             // ===== Menu & Status =====
-            System.out.println();
-            System.out.println("===========================================");
-            System.out.println("                 BATTLE MENU               ");
-            System.out.println("===========================================");
-            System.out.println("Current Strategy : [" + playerStrategyName(player) + "]");
-            System.out.println("Player HP        : " + player.getHealth());
-            System.out.println("Goblin HP        : " + enemy.getHealth());
-            System.out.println("-------------------------------------------");
+            StringBuilder menu = new StringBuilder(512);
+            renderMenu(menu, player, enemy);
+            System.out.print(menu);
 
             String currentStrat = playerStrategyName(player).toLowerCase();
-            if (currentStrat.equals("aggressive")) {
-                System.out.println("  1. Attack Enemy");
-            } else {
-                System.out.println("  1. Heal Yourself");
-            }
-            System.out.println("  2. Change Strategy");
-            System.out.println("  3. Quit Game");
 
             int action = readIntInRange(sc, "\nChoose an option: ", 1, 3);
             System.out.println();
@@ -137,7 +111,7 @@ public class Demo {
                     if (currentStrat.equals("aggressive")) {
                         invoker.addCommand(new AttackCommand(player, enemy));
                     } else {
-                        invoker.addCommand(new HealCommand(player, 10));
+                        invoker.addCommand(new HealCommand(player, config.getHealAmount()));
                     }
                     break;
 
@@ -149,9 +123,9 @@ public class Demo {
                                     + "Enter choice: ",
                             1, 2);
                     if (s == 1) {
-                        player.setStrategy(new AggressiveAttack());
+                        player.setStrategy(config.strategies().aggressive());
                     } else {
-                        player.setStrategy(new DefensiveAttack());
+                        player.setStrategy(config.strategies().defensive());
                     }
                     System.out.println("\n[Info] Strategy changed successfully.\n");
                     continue;
@@ -192,7 +166,30 @@ public class Demo {
         sc.close();
     }
 
-    private static String playerStrategyName(Character player) {
+    /**
+     * Renders the battle menu and stats into {@code out} so callers can
+     * emit the whole block with a single write.
+     */
+    static void renderMenu(StringBuilder out, Character player, Character enemy) {
+        out.append('\n')
+                .append("===========================================\n")
+                .append("                 BATTLE MENU               \n")
+                .append("===========================================\n")
+                .append("Current Strategy : [").append(playerStrategyName(player)).append("]\n")
+                .append("Player HP        : ").append(player.getHealth()).append('\n')
+                .append("Goblin HP        : ").append(enemy.getHealth()).append('\n')
+                .append("-------------------------------------------\n");
+
+        if (playerStrategyName(player).equalsIgnoreCase("aggressive")) {
+            out.append("  1. Attack Enemy\n");
+        } else {
+            out.append("  1. Heal Yourself\n");
+        }
+        out.append("  2. Change Strategy\n")
+                .append("  3. Quit Game\n");
+    }
+
+    static String playerStrategyName(Character player) {
         AttackStrategy s = player.getStrategy();
         return (s == null) ? "None" : s.getName();
     }
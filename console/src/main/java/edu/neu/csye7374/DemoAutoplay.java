@@ -0,0 +1,208 @@
+package edu.neu.csye7374;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * Unattended version of the Demo console loop for soak testing.
+ *
+ * Design Pattern: Template Method (same battle loop as Demo.gameRun)
+ * ------------------------------------------------------------------
+ * Decisions come from an AutoplayPolicy instead of a blocking Scanner,
+ * and all output for a turn (menu, observer events, results) is collected
+ * in one StringBuilder and written to a BufferedWriter in a single call.
+ * When a battle ends a new one starts, until the turn budget is spent.
+ *
+ * Usage:
+ *   DemoAutoplay [--script file] [--heal-below hp] [--turns n]
+ *                [--difficulty 1-3] [--report n] [--out file]
+ *                [--render] [--quiet]
+ *
+ *  --render  also render the battle menu every turn (off by default)
+ *  --quiet   drop observer events too; only throughput reports are written
+ */
+public class DemoAutoplay {
+
+    private final AutoplayPolicy policy;
+    private final GameConfig config;
+    private final boolean renderMenu;
+    private final boolean logEvents;
+
+    // Per-run counters
+    private long turns;
+    private long battles;
+    private long wins;
+
+    public DemoAutoplay(AutoplayPolicy policy, int difficulty, boolean renderMenu, boolean logEvents) {
+        this.policy = policy;
+        this.config = GameConfig.current().withDifficulty(difficulty);
+        this.renderMenu = renderMenu;
+        this.logEvents = logEvents;
+    }
+
+    /**
+     * Plays battles back to back until {@code maxTurns} turns have been
+     * taken, writing a throughput line every {@code reportEvery} turns
+     * (0 disables the reports).
+     */
+    public void run(long maxTurns, long reportEvery, Writer out) throws IOException {
+        StringBuilder buf = new StringBuilder(1024);
+        BufferedLogger logger = logEvents ? new BufferedLogger("GameLogger", buf) : null;
+        CommandInvoker invoker = new CommandInvoker();
+        CharacterPool pool = new CharacterPool(2);
+        ObserverChannel channel = new ObserverChannel();
+        if (logger != null) {
+            channel.addObserver(logger);
+        }
+
+        long start = System.nanoTime();
+        long lastReportTime = start;
+        long lastReportTurns = 0;
+
+        while (turns < maxTurns) {
+            Character player = pool.acquire(CharacterPrototypes.WARRIOR, "Hero", config);
+            Character enemy = pool.acquire(CharacterPrototypes.GOBLIN, "Goblin", config);
+            player.joinChannel(channel);
+            enemy.joinChannel(channel);
+            player.setStrategy(policy.chooseStrategy(player, enemy) == 1
+                    ? config.strategies().aggressive() : config.strategies().defensive());
+            enemy.setStrategy(config.strategies().aggressive());
+            battles++;
+
+            boolean playing = true;
+            while (playing && turns < maxTurns) {
+                turns++;
+                if (renderMenu) {
+                    Demo.renderMenu(buf, player, enemy);
+                }
+
+                boolean aggressive = Demo.playerStrategyName(player).equalsIgnoreCase("aggressive");
+                boolean acted = true;
+                switch (policy.chooseAction(player, enemy)) {
+                    case 1:
+                        if (aggressive) {
+                            invoker.addCommand(new AttackCommand(player, enemy));
+                        } else {
+                            invoker.addCommand(new HealCommand(player, config.getHealAmount()));
+                        }
+                        break;
+                    case 2:
+                        player.setStrategy(policy.chooseStrategy(player, enemy) == 1
+                                ? config.strategies().aggressive() : config.strategies().defensive());
+                        acted = false;
+                        break;
+                    default:
+                        playing = false;
+                        acted = false;
+                        break;
+                }
+
+                if (acted) {
+                    invoker.executeAll();
+                    if (enemy.isAlive() && player.isAlive()) {
+                        enemy.attack(player);
+                    }
+
+                    if (!player.isAlive()) {
+                        if (logEvents) buf.append("YOU WERE DEFEATED\n");
+                        playing = false;
+                    } else if (!enemy.isAlive()) {
+                        if (logEvents) buf.append("YOU DEFEATED GOBLIN\n");
+                        wins++;
+                        playing = false;
+                    }
+                }
+                flush(buf, out);
+
+                // Switch and quit turns count too, so every interval is reported
+                if (reportEvery > 0 && turns - lastReportTurns >= reportEvery) {
+                    long now = System.nanoTime();
+                    report(out, turns - lastReportTurns, now - lastReportTime, false);
+                    lastReportTime = now;
+                    lastReportTurns = turns;
+                }
+            }
+            pool.release(player);
+            pool.release(enemy);
+        }
+        report(out, turns, System.nanoTime() - start, true);
+        out.flush();
+    }
+
+    private static void flush(StringBuilder buf, Writer out) throws IOException {
+        if (buf.length() > 0) {
+            out.append(buf);
+            buf.setLength(0);
+        }
+    }
+
+    private void report(Writer out, long intervalTurns, long intervalNanos, boolean total) throws IOException {
+        double seconds = intervalNanos / 1e9;
+        StringBuilder line = new StringBuilder(128)
+                .append(total ? "[Autoplay] total: " : "[Autoplay] ")
+                .append(turns).append(" turns, ")
+                .append(battles).append(" battles, ")
+                .append(wins).append(" wins, ")
+                .append(String.format("%.0f turns/s", seconds > 0 ? intervalTurns / seconds : 0.0))
+                .append('\n');
+        out.append(line);
+        out.flush();
+    }
+
+    public long getTurns() {
+        return turns;
+    }
+
+    public long getBattles() {
+        return battles;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    public static void main(String[] args) throws IOException {
+        AutoplayPolicy policy = null;
+        int healBelow = 30;
+        long maxTurns = 1_000_000;
+        long reportEvery = 100_000;
+        int difficulty = 2;
+        boolean render = false;
+        boolean quiet = false;
+        String outFile = null;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--script":     policy = ScriptedPolicy.fromFile(Paths.get(args[++i])); break;
+                case "--heal-below": healBelow = Integer.parseInt(args[++i]); break;
+                case "--turns":      maxTurns = Long.parseLong(args[++i]); break;
+                case "--report":     reportEvery = Long.parseLong(args[++i]); break;
+                case "--difficulty": difficulty = Integer.parseInt(args[++i]); break;
+                case "--out":        outFile = args[++i]; break;
+                case "--render":     render = true; break;
+                case "--quiet":      quiet = true; break;
+                default:
+                    System.err.println("[Warning] Unknown option: " + args[i]);
+            }
+        }
+        if (policy == null) {
+            policy = new ThresholdPolicy(healBelow);
+        }
+
+        Writer out = (outFile == null)
+                ? new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 1 << 16)
+                : Files.newBufferedWriter(Paths.get(outFile), StandardCharsets.UTF_8);
+        try {
+            new DemoAutoplay(policy, difficulty, render && !quiet, !quiet)
+                    .run(maxTurns, reportEvery, out);
+        } finally {
+            if (outFile != null) out.close();
+            else out.flush();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package edu.neu.csye7374;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Scanner;
+
+/**
+ * 
+ * @author Yash Zaveri
+ * 
+ */
+
+public class Driver {
+	public static void main(String[] args) {
+
+         //Add your code in between these two print statements
+		System.out.println("============Main Execution Start===================\n");
+
+        // Singleton: load config snapshot from game.properties (or -Dgame.config=...)
+        // and keep watching it so balance changes apply without a restart
+        Path configFile = Paths.get(System.getProperty("game.config", "game.properties"));
+        if (Files.isRegularFile(configFile)) {
+            try {
+                GameConfigWatcher.start(configFile);
+            } catch (IOException | IllegalArgumentException e) {
+                System.out.println("[Warning] Using default config: " + e.getMessage());
+            }
+        }
+
+        Scanner sc = new Scanner(System.in);
+        System.out.println("Select mode:");
+        System.out.println("1. Console RPG (Demo.gameRun)");
+        System.out.println("2. GUI RPG (GameGUI)");
+        System.out.println("3. Console autoplay soak test (DemoAutoplay)");
+        System.out.print("Enter choice (1, 2 or 3): ");
+
+        int choice = 1;
+        try {
+            choice = Integer.parseInt(sc.nextLine().trim());
+        } catch (NumberFormatException e) {
+            choice = 1;
+        }
+
+        if (choice == 2) {
+            launchGui();
+        } else if (choice == 3) {
+            try {
+                DemoAutoplay.main(new String[0]);
+            } catch (IOException e) {
+                System.out.println("[Warning] Autoplay failed: " + e.getMessage());
+            }
+        } else {
+            Demo.gameRun();
+        }
+		 
+		System.out.println("\n\n============Main Execution End===================");
+	}
+
+    /**
+     * Loads the Swing front-end only when it is actually chosen, so console
+     * and headless runs never touch AWT/Swing (the gui module is a runtime
+     * dependency and may be absent from the classpath entirely).
+     */
+    private static void launchGui() {
+        try {
+            Class.forName("edu.neu.csye7374.GameGUI").getMethod("launch").invoke(null);
+        } catch (ClassNotFoundException e) {
+            System.out.println("[Warning] GUI module is not on the classpath.");
+        } catch (ReflectiveOperationException e) {
+            System.out.println("[Warning] Could not start the GUI: " + e);
+        }
+    }
+
+}
@@ -0,0 +1,59 @@
+package edu.neu.csye7374;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Design Pattern: Strategy (Concrete Strategy)
+ * -------------------------------------------
+ * Replays menu choices from a script file. The file holds whitespace
+ * separated integers exactly as they would be typed at the console
+ * ("#" starts a comment). The script loops when it runs out, so a short
+ * file can drive an arbitrarily long soak run.
+ */
+public class ScriptedPolicy implements AutoplayPolicy {
+
+    private final int[] choices;
+    private int pos = 0;
+
+    public ScriptedPolicy(int[] choices) {
+        if (choices.length == 0) {
+            throw new IllegalArgumentException("Autoplay script is empty");
+        }
+        this.choices = Arrays.copyOf(choices, choices.length);
+    }
+
+    public static ScriptedPolicy fromFile(Path file) throws IOException {
+        int[] parsed = new int[16];
+        int n = 0;
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            int hash = line.indexOf('#');
+            if (hash >= 0) line = line.substring(0, hash);
+            for (String token : line.trim().split("\\s+")) {
+                if (token.isEmpty()) continue;
+                if (n == parsed.length) parsed = Arrays.copyOf(parsed, n * 2);
+                parsed[n++] = Integer.parseInt(token);
+            }
+        }
+        return new ScriptedPolicy(Arrays.copyOf(parsed, n));
+    }
+
+    private int next() {
+        int value = choices[pos];
+        pos = (pos + 1 == choices.length) ? 0 : pos + 1;
+        return value;
+    }
+
+    @Override
+    public int chooseAction(Character player, Character enemy) {
+        return next();
+    }
+
+    @Override
+    public int chooseStrategy(Character player, Character enemy) {
+        return next();
+    }
+}
@@ -0,0 +1,28 @@
+package edu.neu.csye7374;
+
+/**
+ * Design Pattern: Strategy (Concrete Strategy)
+ * -------------------------------------------
+ * Built-in autoplay policy: switch to Defensive when HP drops below a
+ * threshold, switch back to Aggressive once recovered, otherwise act.
+ */
+public class ThresholdPolicy implements AutoplayPolicy {
+
+    private final int healBelow;
+
+    public ThresholdPolicy(int healBelow) {
+        this.healBelow = healBelow;
+    }
+
+    @Override
+    public int chooseAction(Character player, Character enemy) {
+        boolean aggressive = player.getStrategy() instanceof AggressiveAttack;
+        boolean wantHeal = player.getHealth() < healBelow;
+        return (aggressive == wantHeal) ? 2 : 1;
+    }
+
+    @Override
+    public int chooseStrategy(Character player, Character enemy) {
+        return player.getHealth() < healBelow ? 2 : 1;
+    }
+}
@@ -0,0 +1,64 @@
+package edu.neu.csye7374;
+
+/**
+ * Design Pattern: Strategy (Concrete Strategy)
+ * -------------------------------------------
+ * Aggressive attack behavior: deals 10–20 damage to the target
+ * (range taken from GameConfig), scaled by attacker and defender stats
+ * (StatBlock.damage).
+ *
+ * Stateless apart from its config pin (dice come from the attacker), so a
+ * single instance can be shared by any number of characters.
+ */
+public class AggressiveAttack implements AttackStrategy {
+
+    private final GameConfig config; // null = follow GameConfig.current()
+
+    public AggressiveAttack() {
+        this(null);
+    }
+
+    /** Pins this strategy to one config snapshot (e.g. a game session's). */
+    public AggressiveAttack(GameConfig config) {
+        this.config = config;
+    }
+
+    @Override
+    public void execute(Character self, Character target) {
+        if (target == null) return;
+
+        GameConfig cfg = (config != null) ? config : GameConfig.current();
+        int min = cfg.getAggressiveMinDamage();
+        int roll = self.getRandom().nextInt(cfg.getAggressiveMaxDamage() - min + 1) + min; // 10–20 inclusive by default
+        int damage = StatBlock.damage(roll, self.getStats(), target.getStats());
+        target.takeDamage(damage);
+        if (self.hasObservers(GameEventType.ATTACK)) {
+            self.notifyObservers(GameEventType.ATTACK,
+                    self.getName() + " attacked " + target.getName()
+                            + " for " + damage + " damage!");
+        }
+    }
+
+    @Override
+    public boolean resolve(Character self, Character target, EffectBatch batch) {
+        if (target == null) return true;
+
+        GameConfig cfg = (config != null) ? config : GameConfig.current();
+        int min = cfg.getAggressiveMinDamage();
+        int roll = self.getRandom().nextInt(cfg.getAggressiveMaxDamage() - min + 1) + min;
+        int damage = StatBlock.damage(roll, self.getStats(), target.getStats());
+        batch.damage(self, target, damage, GameEventType.ATTACK);
+        return true;
+    }
+
+    @Override
+    public long fingerprint() {
+        GameConfig cfg = (config != null) ? config : GameConfig.current();
+        return StateHash.mix(cfg.fingerprint() + "Aggressive".hashCode());
+    }
+
+    @Override
+    public String getName() {
+        return "Aggressive";
+    }
+}
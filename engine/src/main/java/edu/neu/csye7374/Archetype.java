@@ -0,0 +1,67 @@
+package edu.neu.csye7374;
+
+/**
+ * Design Pattern: Prototype
+ * -------------------------
+ * Immutable template for a character type ("warrior", "mage", "goblin").
+ * CharacterFactory and CharacterPool stamp new or recycled Characters from
+ * an archetype instead of re-deciding stats at every call site.
+ *
+ * Health comes from the GameConfig snapshot: player archetypes use the
+ * player HP, enemy archetypes the goblin HP for the snapshot's difficulty.
+ * Stats are one packed StatBlock held here once and copied (8 bytes) into
+ * every character the archetype stamps.
+ */
+public final class Archetype {
+
+    private final String type;
+    private final boolean enemy;
+    private final String defaultStrategy;   // SharedStrategies.byName key
+    private final long stats;               // StatBlock
+
+    public Archetype(String type, boolean enemy, String defaultStrategy) {
+        this(type, enemy, defaultStrategy, StatBlock.NONE);
+    }
+
+    public Archetype(String type, boolean enemy, String defaultStrategy, long stats) {
+        this.type = type.toLowerCase();
+        this.enemy = enemy;
+        this.defaultStrategy = defaultStrategy;
+        this.stats = stats;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public boolean isEnemy() {
+        return enemy;
+    }
+
+    public long getStats() {
+        return stats;
+    }
+
+    public int baseHealth(GameConfig config) {
+        return enemy ? config.getGoblinHp() : config.getPlayerHealth();
+    }
+
+    /** Builds a new Character from this archetype. */
+    public Character create(String name, GameConfig config) {
+        Character c = new CharacterBuilder()
+                .setName(name)
+                .setHealth(baseHealth(config))
+                .setStats(stats)
+                .build();
+        c.setStrategy(config.strategies().byName(defaultStrategy));
+        return c;
+    }
+
+    /** Re-stamps a recycled Character as if it had just been created. */
+    public Character reset(Character c, String name, GameConfig config) {
+        c.reset(name, baseHealth(config));
+        c.setStats(stats);
+        c.setStrategy(config.strategies().byName(defaultStrategy));
+        return c;
+    }
+}
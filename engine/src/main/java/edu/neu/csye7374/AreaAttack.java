@@ -0,0 +1,64 @@
+package edu.neu.csye7374;
+
+/**
+ * Design Pattern: Strategy (Template Method for area casts)
+ * ---------------------------------------------------------
+ * Base for area-of-effect strategies (CleaveAttack, FireballAttack,
+ * ChainLightningAttack). A cast rolls the aggressive damage range once,
+ * applies the caster's and the horde's stats, lets the subclass hit its
+ * members in one bulk pass over the Horde's HP array, and then publishes a
+ * single ATTACK event summarising the cast, however many members it hit.
+ *
+ * Against a single Character (execute) the spell simply hits that target.
+ */
+public abstract class AreaAttack implements AttackStrategy {
+
+    private final GameConfig config; // null = follow GameConfig.current()
+
+    protected AreaAttack(GameConfig config) {
+        this.config = config;
+    }
+
+    /** Hits members of {@code horde} for {@code damage} (one bulk Horde call). */
+    protected abstract void strike(Character self, Horde horde, int damage);
+
+    /** Shape parameters (width, radius, jumps...) folded into fingerprint(). */
+    protected abstract long shape();
+
+    private int roll(Character self) {
+        GameConfig cfg = (config != null) ? config : GameConfig.current();
+        int min = cfg.getAggressiveMinDamage();
+        return self.getRandom().nextInt(cfg.getAggressiveMaxDamage() - min + 1) + min;
+    }
+
+    @Override
+    public void execute(Character self, Character target) {
+        if (target == null) return;
+        int damage = StatBlock.damage(roll(self), self.getStats(), target.getStats());
+        target.takeDamage(damage);
+        if (self.hasObservers(GameEventType.ATTACK)) {
+            self.notifyObservers(GameEventType.ATTACK,
+                    self.getName() + "'s " + getName() + " hit " + target.getName()
+                            + " for " + damage + " damage!");
+        }
+    }
+
+    @Override
+    public boolean executeArea(Character self, Horde horde) {
+        if (horde == null || horde.isDefeated()) return true;
+        strike(self, horde, StatBlock.damage(roll(self), self.getStats(), horde.getStats()));
+        if (self.hasObservers(GameEventType.ATTACK)) {
+            self.notifyObservers(GameEventType.ATTACK,
+                    self.getName() + " cast " + getName() + " on " + horde.getName() + ": "
+                            + horde.lastDealt() + " damage to " + horde.lastHits() + " enemies, "
+                            + horde.lastKilled() + " defeated (" + horde.getAlive() + " left)");
+        }
+        return true;
+    }
+
+    @Override
+    public long fingerprint() {
+        GameConfig cfg = (config != null) ? config : GameConfig.current();
+        return StateHash.mix(cfg.fingerprint() + getName().hashCode() + StateHash.mix(shape()));
+    }
+}
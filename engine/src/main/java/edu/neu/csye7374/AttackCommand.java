@@ -0,0 +1,44 @@
+package edu.neu.csye7374;
+
+public class AttackCommand implements ReversibleCommand, PhasedCommand {
+
+	private final Character attacker;
+	private final Character target;
+
+	public AttackCommand(Character attacker, Character target) {
+		this.attacker = attacker;
+		this.target = target;
+	}
+
+	@Override
+	public void execute() {
+		attacker.attack(target);
+	}
+
+	// Same checks and messages as Character.attack, against projected HP
+	@Override
+	public boolean validate(EffectBatch batch) {
+		String reason = null;
+		if (!batch.isAlive(attacker)) {
+			reason = " is already defeated and cannot attack!";
+		} else if (attacker.getStrategy() == null) {
+			reason = " has no attack strategy set!";
+		} else if (!batch.isAlive(target)) {
+			reason = " tried to attack, but the target is already defeated!";
+		}
+		if (reason == null) return true;
+		batch.reject(attacker, attacker.hasObservers(GameEventType.MESSAGE) ? attacker.getName() + reason : null);
+		return false;
+	}
+
+	@Override
+	public boolean resolve(EffectBatch batch) {
+		return attacker.getStrategy().resolve(attacker, target, batch);
+	}
+
+	@Override
+	public void capture(UndoLog log) {
+		log.capture(attacker);   // dice position
+		log.capture(target);     // HP
+	}
+}
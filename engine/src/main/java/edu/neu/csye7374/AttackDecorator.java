@@ -13,4 +13,10 @@ public abstract class AttackDecorator implements AttackStrategy {
     public String getName() {
         return inner.getName();
     }
+
+    // Decorators add to single-target hits; area casts pass straight through
+    @Override
+    public boolean executeArea(Character self, Horde horde) {
+        return inner.executeArea(self, horde);
+    }
 }
@@ -0,0 +1,45 @@
+package edu.neu.csye7374;
+
+/**
+ * Design Pattern: Strategy
+ * ------------------------
+ * Encapsulates different attack behaviors for a Character.
+ * Concrete strategies: AggressiveAttack, DefensiveAttack, CriticalStrikeDecorator,
+ * and the area strategies CleaveAttack, FireballAttack, ChainLightningAttack.
+ */
+public interface AttackStrategy {
+    void execute(Character self, Character target);
+    String getName();
+
+    /**
+     * Identifies how this strategy plays, for BattleCache: two strategies
+     * with the same fingerprint must act identically given the same dice
+     * and HP. Include the config snapshot or script version the behaviour
+     * depends on. 0 (the default) means unknown; battles using such a
+     * strategy are never cached.
+     */
+    default long fingerprint() {
+        return 0;
+    }
+
+    /**
+     * Phased form of execute for CommandInvoker's pipeline: roll the same
+     * dice execute would, but record the effects in {@code batch} (reading
+     * HP through it) instead of changing any Character. Return false,
+     * recording nothing, if the strategy can't do that (the default); the
+     * invoker then calls execute at that point instead.
+     */
+    default boolean resolve(Character self, Character target, EffectBatch batch) {
+        return false;
+    }
+
+    /**
+     * Attacks a whole Horde (Character.attack(Horde)). Area strategies hit
+     * many members in one bulk pass and publish one event per cast (see
+     * AreaAttack). Return false if the strategy can only hit single
+     * targets (the default).
+     */
+    default boolean executeArea(Character self, Horde horde) {
+        return false;
+    }
+}
@@ -0,0 +1,299 @@
+package edu.neu.csye7374;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Balance-tuning parameter sweep.
+ *
+ * Explores goblin HP (for one difficulty), the AggressiveAttack damage band
+ * and the CriticalStrikeDecorator crit chance, either as a full grid or as a
+ * random search. Points run in parallel on all cores, each on its own
+ * BattleSimulator with a GameConfig snapshot built for that point.
+ *
+ * Sequential testing: instead of a fixed sample count, every point plays
+ * batches of battles until the 95% Wilson interval of the player win rate
+ * is narrower than the target half-width, or until the interval lies
+ * entirely outside the acceptable win-rate band (the point is clearly too
+ * easy or too hard and further battles would not change the verdict).
+ *
+ * Usage:
+ *   BalanceSweep [--difficulty d] [--hp from:to:step] [--min from:to:step]
+ *                [--max from:to:step] [--crit from:to:step] [--random n]
+ *                [--ci halfWidth] [--band lo:hi] [--max-battles n]
+ *                [--seed s] [--threads n] [--out results.csv] [--cache file]
+ *
+ * {@code --cache} memoizes battles in a BattleCache file; re-running a
+ * sweep over points seen before reads outcomes instead of simulating.
+ */
+public class BalanceSweep {
+
+    private static final int BATCH = 256;
+    private static final int MIN_BATTLES = 512;
+    private static final double Z95 = 1.959964;
+
+    /** One point in the parameter space, plus its results once simulated. */
+    static final class Point {
+        final int goblinHp;
+        final int minDamage;
+        final int maxDamage;
+        final int critChance;
+
+        long battles;
+        long wins;
+        long totalTurns;
+        double low;
+        double high;
+        String stopReason;
+
+        Point(int goblinHp, int minDamage, int maxDamage, int critChance) {
+            this.goblinHp = goblinHp;
+            this.minDamage = minDamage;
+            this.maxDamage = maxDamage;
+            this.critChance = critChance;
+        }
+    }
+
+    private final int difficulty;
+    private final double targetHalfWidth;
+    private final double bandLow;
+    private final double bandHigh;
+    private final long maxBattles;
+    private final long seed;
+    private BattleCache cache;
+
+    public BalanceSweep(int difficulty, double targetHalfWidth, double bandLow, double bandHigh,
+                        long maxBattles, long seed) {
+        this.difficulty = difficulty;
+        this.targetHalfWidth = targetHalfWidth;
+        this.bandLow = bandLow;
+        this.bandHigh = bandHigh;
+        this.maxBattles = maxBattles;
+        this.seed = seed;
+    }
+
+    /** Memoizes battles in {@code cache}; set before run(). */
+    public void setCache(BattleCache cache) {
+        this.cache = cache;
+    }
+
+    /** Simulates one point until its win rate is settled. */
+    void simulate(Point p, int index, BattleSimulator sim) {
+        GameConfig config = GameConfig.current().toBuilder()
+                .setDifficulty(difficulty)
+                .setGoblinHp(difficulty, p.goblinHp)
+                .setAggressiveDamage(p.minDamage, p.maxDamage)
+                .setCritChance(p.critChance)
+                .build();
+        SharedStrategies strategies = config.strategies();
+        AttackStrategy player = strategies.aggressiveCrit();
+        AttackStrategy enemy = strategies.aggressive();
+
+        long base = seed + (long) index * 0x9E3779B97F4A7C15L;
+        while (true) {
+            for (int i = 0; i < BATCH; i++) {
+                BattleOutcome o = sim.simulate(config, player, enemy, base + p.battles);
+                p.battles++;
+                if (o.isPlayerWon()) p.wins++;
+                p.totalTurns += o.getTurns();
+            }
+            wilson(p);
+            if (p.battles < MIN_BATTLES) continue;
+            if ((p.high - p.low) / 2 <= targetHalfWidth) {
+                p.stopReason = "converged";
+                return;
+            }
+            if (p.high < bandLow || p.low > bandHigh) {
+                p.stopReason = "outside-band";
+                return;
+            }
+            if (p.battles >= maxBattles) {
+                p.stopReason = "max-battles";
+                return;
+            }
+        }
+    }
+
+    private static void wilson(Point p) {
+        double n = p.battles;
+        double phat = p.wins / n;
+        double z2 = Z95 * Z95;
+        double denom = 1 + z2 / n;
+        double centre = (phat + z2 / (2 * n)) / denom;
+        double half = Z95 * Math.sqrt(phat * (1 - phat) / n + z2 / (4 * n * n)) / denom;
+        p.low = Math.max(0, centre - half);
+        p.high = Math.min(1, centre + half);
+    }
+
+    /** Runs all points on {@code threads} workers and returns them in input order. */
+    public List<Point> run(List<Point> points, int threads) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        ThreadLocal<BattleSimulator> sims = ThreadLocal.withInitial(() -> {
+            BattleSimulator sim = new BattleSimulator();
+            sim.setCache(cache);
+            return sim;
+        });
+        try {
+            List<Future<?>> futures = new ArrayList<>(points.size());
+            for (int i = 0; i < points.size(); i++) {
+                final Point p = points.get(i);
+                final int index = i;
+                futures.add(pool.submit(() -> simulate(p, index, sims.get())));
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Sweep point failed", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+        return points;
+    }
+
+    public void writeCsv(List<Point> points, PrintWriter out) {
+        out.println("difficulty,goblin_hp,damage_min,damage_max,crit_chance,"
+                + "battles,wins,win_rate,ci_low,ci_high,avg_turns,stop_reason");
+        for (Point p : points) {
+            out.printf("%d,%d,%d,%d,%d,%d,%d,%.4f,%.4f,%.4f,%.2f,%s%n",
+                    difficulty, p.goblinHp, p.minDamage, p.maxDamage, p.critChance,
+                    p.battles, p.wins, (double) p.wins / p.battles, p.low, p.high,
+                    (double) p.totalTurns / p.battles, p.stopReason);
+        }
+        out.flush();
+    }
+
+    // --- Search spaces ---
+
+    static List<Point> grid(int[] hp, int[] min, int[] max, int[] crit) {
+        List<Point> points = new ArrayList<>();
+        for (int h : hp)
+            for (int lo : min)
+                for (int hi : max)
+                    for (int c : crit)
+                        if (lo <= hi) points.add(new Point(h, lo, hi, c));
+        return points;
+    }
+
+    static List<Point> random(int n, int[] hp, int[] min, int[] max, int[] crit, long seed) {
+        checkDamageRanges(min, max);
+        Random r = new Random(seed);
+        List<Point> points = new ArrayList<>(n);
+        while (points.size() < n) {
+            int lo = pick(r, min);
+            int hi = pick(r, max);
+            if (lo > hi) continue;
+            points.add(new Point(pick(r, hp), lo, hi, pick(r, crit)));
+        }
+        return points;
+    }
+
+    // Without a pair with min <= max, random() would never find a point
+    private static void checkDamageRanges(int[] min, int[] max) {
+        if (min[0] > max[1]) {
+            throw new IllegalArgumentException("Every --min value is above every --max value: min from "
+                    + min[0] + ", max to " + max[1]);
+        }
+    }
+
+    private static int pick(Random r, int[] range) {
+        // range = {from, to, step}
+        int steps = (range[1] - range[0]) / range[2] + 1;
+        return range[0] + r.nextInt(steps) * range[2];
+    }
+
+    private static int[] range(String spec) {
+        String[] parts = spec.split(":");
+        int from = Integer.parseInt(parts[0]);
+        int to = parts.length > 1 ? Integer.parseInt(parts[1]) : from;
+        int step = parts.length > 2 ? Integer.parseInt(parts[2]) : 1;
+        if (step <= 0 || to < from) throw new IllegalArgumentException("Bad range: " + spec);
+        return new int[] {from, to, step};
+    }
+
+    private static int[] values(int[] range) {
+        int[] v = new int[(range[1] - range[0]) / range[2] + 1];
+        for (int i = 0; i < v.length; i++) v[i] = range[0] + i * range[2];
+        return v;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int difficulty = 2;
+        int[] hp = range("40:160:10");
+        int[] min = range("8:12:2");
+        int[] max = range("16:24:4");
+        int[] crit = range("10:50:10");
+        int randomPoints = 0;
+        double ci = 0.01;
+        double bandLow = 0.40;
+        double bandHigh = 0.60;
+        long maxBattles = 200_000;
+        long seed = 7374;
+        int threads = Runtime.getRuntime().availableProcessors();
+        String out = "balance-sweep.csv";
+        String cacheFile = null;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--difficulty":  difficulty = Integer.parseInt(args[++i]); break;
+                case "--hp":          hp = range(args[++i]); break;
+                case "--min":         min = range(args[++i]); break;
+                case "--max":         max = range(args[++i]); break;
+                case "--crit":        crit = range(args[++i]); break;
+                case "--random":      randomPoints = Integer.parseInt(args[++i]); break;
+                case "--ci":          ci = Double.parseDouble(args[++i]); break;
+                case "--band": {
+                    String[] b = args[++i].split(":");
+                    bandLow = Double.parseDouble(b[0]);
+                    bandHigh = Double.parseDouble(b[1]);
+                    break;
+                }
+                case "--max-battles": maxBattles = Long.parseLong(args[++i]); break;
+                case "--seed":        seed = Long.parseLong(args[++i]); break;
+                case "--threads":     threads = Integer.parseInt(args[++i]); break;
+                case "--out":         out = args[++i]; break;
+                case "--cache":       cacheFile = args[++i]; break;
+                default:
+                    System.err.println("[Warning] Unknown option: " + args[i]);
+            }
+        }
+
+        checkDamageRanges(min, max);
+        List<Point> points = (randomPoints > 0)
+                ? random(randomPoints, hp, min, max, crit, seed)
+                : grid(values(hp), values(min), values(max), values(crit));
+
+        System.out.println("[Sweep] " + points.size() + " points on " + threads + " threads");
+        long start = System.nanoTime();
+        BalanceSweep sweep = new BalanceSweep(difficulty, ci, bandLow, bandHigh, maxBattles, seed);
+        BattleCache cache = cacheFile != null ? BattleCache.open(Paths.get(cacheFile), 1 << 20, 1 << 24) : null;
+        sweep.setCache(cache);
+        try {
+            sweep.run(points, threads);
+        } finally {
+            if (cache != null) cache.close();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        long battles = 0;
+        for (Point p : points) battles += p.battles;
+        try (PrintWriter w = new PrintWriter(Files.newBufferedWriter(Paths.get(out), StandardCharsets.UTF_8))) {
+            sweep.writeCsv(points, w);
+        }
+        System.out.printf("[Sweep] %d battles in %.1fs (%.0f battles/s), results in %s%n",
+                battles, seconds, battles / seconds, out);
+        if (cache != null) {
+            System.out.println("[Sweep] cache: " + cache.getStats());
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package edu.neu.csye7374;
+
+/**
+ * Mergeable summary of many simulated battles: counts plus a histogram of
+ * battle length in turns. Merging is plain addition, so partial aggregates
+ * from any number of shards or workers combine exactly.
+ */
+public class BattleAggregate {
+
+    private long battles;
+    private long wins;
+    private long draws;
+    private final long[] turnHistogram = new long[BattleSimulator.MAX_TURNS + 1];
+
+    public void add(BattleOutcome o) {
+        battles++;
+        if (o.isPlayerWon()) wins++;
+        if (o.isDraw()) draws++;
+        turnHistogram[o.getTurns()]++;
+    }
+
+    public void merge(BattleAggregate other) {
+        battles += other.battles;
+        wins += other.wins;
+        draws += other.draws;
+        for (int i = 0; i < turnHistogram.length; i++) {
+            turnHistogram[i] += other.turnHistogram[i];
+        }
+    }
+
+    public long getBattles() {
+        return battles;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    public long getDraws() {
+        return draws;
+    }
+
+    public long getLosses() {
+        return battles - wins - draws;
+    }
+
+    public long turnCount(int turns) {
+        return turnHistogram[turns];
+    }
+
+    public double meanTurns() {
+        long sum = 0;
+        for (int i = 0; i < turnHistogram.length; i++) sum += i * turnHistogram[i];
+        return battles == 0 ? 0 : (double) sum / battles;
+    }
+
+    /** Text form used by the shard protocol: "battles wins draws t:n,t:n,..." */
+    public String encode() {
+        StringBuilder sb = new StringBuilder(64)
+                .append(battles).append(' ').append(wins).append(' ').append(draws).append(' ');
+        boolean first = true;
+        for (int i = 0; i < turnHistogram.length; i++) {
+            if (turnHistogram[i] == 0) continue;
+            if (!first) sb.append(',');
+            sb.append(i).append(':').append(turnHistogram[i]);
+            first = false;
+        }
+        if (first) sb.append('-');
+        return sb.toString();
+    }
+
+    public static BattleAggregate decode(String text) {
+        String[] parts = text.trim().split(" ");
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Malformed aggregate: " + text);
+        }
+        BattleAggregate a = new BattleAggregate();
+        a.battles = Long.parseLong(parts[0]);
+        a.wins = Long.parseLong(parts[1]);
+        a.draws = Long.parseLong(parts[2]);
+        if (!parts[3].equals("-")) {
+            for (String bucket : parts[3].split(",")) {
+                int colon = bucket.indexOf(':');
+                a.turnHistogram[Integer.parseInt(bucket.substring(0, colon))] =
+                        Long.parseLong(bucket.substring(colon + 1));
+            }
+        }
+        return a;
+    }
+
+    public boolean sameAs(BattleAggregate other) {
+        return battles == other.battles && wins == other.wins && draws == other.draws
+                && java.util.Arrays.equals(turnHistogram, other.turnHistogram);
+    }
+}
@@ -0,0 +1,364 @@
+package edu.neu.csye7374;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Two-tier memo of deterministic BattleSimulator results.
+ *
+ * A battle is fully determined by (config, player strategy, enemy strategy,
+ * seed), so key() folds GameConfig.fingerprint(), both strategies'
+ * fingerprints, the seed and the simulator FORMAT into one 64-bit key.
+ * Changing the config snapshot or a script changes the key, so stale
+ * entries simply stop matching and age out; nothing has to be flushed.
+ * Strategies with an unknown fingerprint (0) are never cached.
+ *
+ * The outcome packs into one long (bit 63 = present, winner 2 bits,
+ * turns 10, crits 10, damage dealt 20, damage taken 21), so an entry is
+ * 16 bytes in either tier:
+ *   memory: set-associative table, 8 ways per set, each entry with a 4-bit
+ *           hit counter. New entries start at 0 and a full set evicts its
+ *           least-hit way, so a one-off scan mostly replaces its own
+ *           entries instead of flushing frequently hit battles. Every
+ *           2 x WAYS evictions a set halves its counters, so formerly hot
+ *           entries age out (LFU with aging).
+ *   disk:   memory-mapped file with the same 8-way layout (128-byte sets);
+ *           a full set overwrites the way picked by the key. Persists
+ *           between runs; a hit is copied into the memory tier.
+ * Puts write through to both tiers.
+ *
+ * Thread-safe: sets are guarded by striped locks. Hit-ratio counters are
+ * LongAdders (see getStats()).
+ */
+public final class BattleCache implements Closeable {
+
+    /** Bump when BattleSimulator or the prototypes change what a battle produces. */
+    static final int FORMAT = 3;
+
+    static final int SIMULATE = 1;
+    static final int DUEL = 2;
+
+    private static final int WAYS = 8;
+    private static final int STRIPES = 64;
+    private static final int MAGIC = 0x4243_0001;      // "BC"
+    private static final int HEADER = 64;
+    private static final int MAX_FREQ = 15;
+
+    // --- Memory tier ---
+    private final long[] memKeys;
+    private final long[] memValues;
+    private final byte[] memFreq;
+    private final byte[] memEvictions;     // per set, drives aging
+    private final int memSetMask;
+
+    // --- Disk tier (null = memory only) ---
+    private final FileChannel channel;
+    private final MappedByteBuffer disk;
+    private final int diskSetMask;
+
+    private final Object[] locks = new Object[STRIPES];
+
+    private final LongAdder memoryHits = new LongAdder();
+    private final LongAdder diskHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder uncacheable = new LongAdder();
+
+    private BattleCache(int memoryEntries, FileChannel channel, MappedByteBuffer disk, int diskSets) {
+        int sets = Integer.highestOneBit(Math.max(1, memoryEntries / WAYS));
+        memKeys = new long[sets * WAYS];
+        memValues = new long[sets * WAYS];
+        memFreq = new byte[sets * WAYS];
+        memEvictions = new byte[sets];
+        memSetMask = sets - 1;
+        this.channel = channel;
+        this.disk = disk;
+        this.diskSetMask = diskSets - 1;
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /** Memory tier only, holding about {@code entries} battles. */
+    public static BattleCache inMemory(int entries) {
+        return new BattleCache(entries, null, null, 1);
+    }
+
+    /**
+     * Memory tier backed by a mapped file holding about {@code diskEntries}
+     * battles (rounded down to a power of two, at most 2^26). An existing
+     * file with the same layout is reused; anything else is overwritten.
+     */
+    public static BattleCache open(Path file, int memoryEntries, int diskEntries) throws IOException {
+        int sets = Integer.highestOneBit(Math.max(1, Math.min(diskEntries, 1 << 26) / WAYS));
+        long size = HEADER + (long) sets * WAYS * 16;
+        FileChannel ch = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            boolean fresh = ch.size() != size;
+            if (fresh) {
+                ch.truncate(0);
+            }
+            MappedByteBuffer map = ch.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            map.order(ByteOrder.LITTLE_ENDIAN);
+            if (fresh || map.getInt(0) != MAGIC || map.getInt(4) != FORMAT || map.getInt(8) != sets) {
+                if (!fresh) {                      // a truncated file reads back as zeros already
+                    for (long p = HEADER; p < size; p += 8) {
+                        map.putLong((int) p, 0);
+                    }
+                }
+                map.putInt(0, MAGIC);
+                map.putInt(4, FORMAT);
+                map.putInt(8, sets);
+            }
+            return new BattleCache(memoryEntries, ch, map, sets);
+        } catch (IOException | RuntimeException e) {
+            ch.close();
+            throw e;
+        }
+    }
+
+    // --- Keys and values ---
+
+    /** Cache key for one battle; 0 if a strategy has no fingerprint. */
+    static long key(int kind, GameConfig config, AttackStrategy player, AttackStrategy enemy, long seed) {
+        long p = player.fingerprint();
+        long e = enemy.fingerprint();
+        if (p == 0 || e == 0) return 0;
+        long h = StateHash.mix(((long) FORMAT << 8) + kind);
+        h = StateHash.mix(h ^ config.fingerprint());
+        h = StateHash.mix(h ^ p);
+        h = StateHash.mix(h + Long.rotateLeft(e, 29));
+        h = StateHash.mix(h ^ seed);
+        return h != 0 ? h : 1;
+    }
+
+    // 0 = doesn't fit
+    static long pack(BattleOutcome o) {
+        if (o.turns >= 1 << 10 || o.crits >= 1 << 10 || o.damageDealt < 0 || o.damageDealt >= 1 << 20
+                || o.damageTaken < 0 || o.damageTaken >= 1 << 21) {
+            return 0;
+        }
+        long winner = o.draw ? 2 : o.playerWon ? 1 : 0;
+        return Long.MIN_VALUE | winner << 61 | (long) o.turns << 51 | (long) o.crits << 41
+                | (long) o.damageDealt << 21 | o.damageTaken;
+    }
+
+    static void unpack(long v, BattleOutcome into) {
+        int winner = (int) (v >>> 61) & 3;
+        into.playerWon = winner == 1;
+        into.draw = winner == 2;
+        into.turns = (int) (v >>> 51) & 0x3FF;
+        into.crits = (int) (v >>> 41) & 0x3FF;
+        into.damageDealt = (int) (v >>> 21) & 0xFFFFF;
+        into.damageTaken = (int) v & 0x1FFFFF;
+    }
+
+    // --- Lookup ---
+
+    /** Fills {@code into} and returns true on a hit. {@code key} from key(). */
+    boolean get(long key, BattleOutcome into) {
+        long v = memGet(key);
+        if (v != 0) {
+            memoryHits.increment();
+        } else if (disk != null && (v = diskGet(key)) != 0) {
+            diskHits.increment();
+            memPut(key, v);
+        } else {
+            misses.increment();
+            return false;
+        }
+        unpack(v, into);
+        return true;
+    }
+
+    void put(long key, BattleOutcome outcome) {
+        long v = pack(outcome);
+        if (v == 0) {
+            uncacheable.increment();
+            return;
+        }
+        puts.increment();
+        memPut(key, v);
+        if (disk != null) {
+            diskPut(key, v);
+        }
+    }
+
+    /** Counts a battle that could not be keyed (see key()). */
+    void skipped() {
+        uncacheable.increment();
+    }
+
+    private Object lock(int set) {
+        return locks[set & (STRIPES - 1)];
+    }
+
+    private long memGet(long key) {
+        int set = (int) (key >>> 32) & memSetMask;
+        int base = set * WAYS;
+        synchronized (lock(set)) {
+            for (int w = base; w < base + WAYS; w++) {
+                if (memKeys[w] == key) {
+                    if (memFreq[w] < MAX_FREQ) memFreq[w]++;
+                    return memValues[w];
+                }
+            }
+        }
+        return 0;
+    }
+
+    private void memPut(long key, long value) {
+        int set = (int) (key >>> 32) & memSetMask;
+        int base = set * WAYS;
+        synchronized (lock(set)) {
+            int victim = -1;
+            for (int w = base; w < base + WAYS; w++) {
+                if (memKeys[w] == key) {
+                    memValues[w] = value;
+                    return;
+                }
+                if (victim < 0 && memKeys[w] == 0) victim = w;
+            }
+            if (victim < 0) {
+                victim = base;
+                for (int w = base; w < base + WAYS; w++) {
+                    if (memFreq[w] < memFreq[victim]) victim = w;
+                }
+                if (++memEvictions[set] == 2 * WAYS) {
+                    memEvictions[set] = 0;
+                    for (int w = base; w < base + WAYS; w++) {
+                        memFreq[w] >>= 1;
+                    }
+                }
+                evictions.increment();
+            }
+            memKeys[victim] = key;
+            memValues[victim] = value;
+            memFreq[victim] = 0;
+        }
+    }
+
+    private long diskGet(long key) {
+        int set = (int) key & diskSetMask;
+        int base = HEADER + set * WAYS * 16;
+        synchronized (lock(set)) {
+            for (int p = base; p < base + WAYS * 16; p += 16) {
+                long k = disk.getLong(p);
+                if (k == key) return disk.getLong(p + 8);
+                if (k == 0) return 0;                     // ways fill in order
+            }
+        }
+        return 0;
+    }
+
+    private void diskPut(long key, long value) {
+        int set = (int) key & diskSetMask;
+        int base = HEADER + set * WAYS * 16;
+        synchronized (lock(set)) {
+            int slot = base + (int) ((key >>> 58) & (WAYS - 1)) * 16;   // used when the set is full
+            for (int p = base; p < base + WAYS * 16; p += 16) {
+                long k = disk.getLong(p);
+                if (k == key || k == 0) {
+                    slot = p;
+                    break;
+                }
+            }
+            disk.putLong(slot + 8, value);
+            disk.putLong(slot, key);
+        }
+    }
+
+    // --- Metrics and lifecycle ---
+
+    public Stats getStats() {
+        return new Stats(memoryHits.sum(), diskHits.sum(), misses.sum(), puts.sum(),
+                evictions.sum(), uncacheable.sum());
+    }
+
+    public void resetStats() {
+        memoryHits.reset();
+        diskHits.reset();
+        misses.reset();
+        puts.reset();
+        evictions.reset();
+        uncacheable.reset();
+    }
+
+    /** Writes dirty disk-tier pages back to the file. */
+    public void flush() {
+        if (disk != null) {
+            disk.force();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            flush();
+            channel.close();
+        }
+    }
+
+    /** Snapshot of the cache counters. */
+    public static final class Stats {
+        private final long memoryHits;
+        private final long diskHits;
+        private final long misses;
+        private final long puts;
+        private final long evictions;
+        private final long uncacheable;
+
+        Stats(long memoryHits, long diskHits, long misses, long puts, long evictions, long uncacheable) {
+            this.memoryHits = memoryHits;
+            this.diskHits = diskHits;
+            this.misses = misses;
+            this.puts = puts;
+            this.evictions = evictions;
+            this.uncacheable = uncacheable;
+        }
+
+        public long getMemoryHits() {
+            return memoryHits;
+        }
+
+        public long getDiskHits() {
+            return diskHits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public long getPuts() {
+            return puts;
+        }
+
+        public long getEvictions() {
+            return evictions;
+        }
+
+        public long getUncacheable() {
+            return uncacheable;
+        }
+
+        /** Hits (either tier) over lookups; 0 before the first lookup. */
+        public double getHitRatio() {
+            long lookups = memoryHits + diskHits + misses;
+            return lookups == 0 ? 0 : (double) (memoryHits + diskHits) / lookups;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("hit ratio %.1f%% (memory %d, disk %d, miss %d), puts %d, evictions %d, uncacheable %d",
+                    getHitRatio() * 100, memoryHits, diskHits, misses, puts, evictions, uncacheable);
+        }
+    }
+}
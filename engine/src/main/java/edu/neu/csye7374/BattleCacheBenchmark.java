@@ -0,0 +1,138 @@
+package edu.neu.csye7374;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * BattleCache hit ratios and throughput on a repeated sweep.
+ *
+ * A sweep of {@code --configs} goblin-HP variants x {@code --seeds} seeds
+ * runs four times: cold (all misses), warm (memory hits), from a reopened
+ * file with a small memory tier (disk hits), and after the config snapshot
+ * changed (misses again: the key includes the config fingerprint). Every
+ * cached outcome is checked against a fresh simulation. A last phase
+ * mixes a hot set with a one-off scan larger than the memory tier to show
+ * frequent entries survive eviction.
+ *
+ * Usage: BattleCacheBenchmark [--configs n] [--seeds n] [--memory n]
+ */
+public class BattleCacheBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int configs = 20;
+        int seeds = 10_000;
+        int memory = 1 << 18;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--configs": configs = Integer.parseInt(args[++i]); break;
+                case "--seeds":   seeds = Integer.parseInt(args[++i]); break;
+                case "--memory":  memory = Integer.parseInt(args[++i]); break;
+                default:
+                    System.err.println("[Warning] Unknown option: " + args[i]);
+            }
+        }
+
+        GameConfig[] points = new GameConfig[configs];
+        for (int c = 0; c < configs; c++) {
+            points[c] = GameConfig.defaults().toBuilder().setGoblinHp(1, 40 + 5 * c).setDifficulty(1).build();
+        }
+        Path file = Files.createTempFile("battle", ".cache");
+        int total = configs * seeds;
+        try {
+            BattleCache warmup = BattleCache.inMemory(memory);      // JIT warm-up, not reported
+            for (int r = 0; r < 3; r++) {
+                sweep(null, warmup, points, seeds);
+            }
+            baseline(points, seeds);
+            try (BattleCache cache = BattleCache.open(file, memory, total * 4)) {
+                sweep("cold", cache, points, seeds);
+                sweep("warm", cache, points, seeds);
+            }
+            try (BattleCache cache = BattleCache.open(file, 1024, total * 4)) {
+                sweep("reopened", cache, points, seeds);
+                GameConfig[] changed = new GameConfig[configs];
+                for (int c = 0; c < configs; c++) {
+                    changed[c] = points[c].toBuilder().setCritChance(31).build();
+                }
+                sweep("config changed", cache, changed, seeds);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+        hotSet(memory);
+    }
+
+    private static void sweep(String label, BattleCache cache, GameConfig[] points, int seeds) {
+        BattleSimulator cached = new BattleSimulator();
+        cached.setCache(cache);
+        BattleSimulator plain = new BattleSimulator();
+        cache.resetStats();
+
+        long checksum = 0;
+        long start = System.nanoTime();
+        for (GameConfig config : points) {
+            SharedStrategies s = config.strategies();
+            for (int seed = 0; seed < seeds; seed++) {
+                BattleOutcome o = cached.simulate(config, s.aggressiveCrit(), s.aggressive(), seed);
+                checksum += o.getTurns() * 31L + o.getDamageDealt() + (o.isPlayerWon() ? 1 : 0);
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        long expected = 0;
+        for (GameConfig config : points) {
+            SharedStrategies s = config.strategies();
+            for (int seed = 0; seed < seeds; seed++) {
+                BattleOutcome o = plain.simulate(config, s.aggressiveCrit(), s.aggressive(), seed);
+                expected += o.getTurns() * 31L + o.getDamageDealt() + (o.isPlayerWon() ? 1 : 0);
+            }
+        }
+        if (checksum != expected) {
+            throw new IllegalStateException(label + ": cached outcomes differ from simulation");
+        }
+        long battles = (long) points.length * seeds;
+        if (label == null) return;
+        System.out.printf("[Cache] %-15s %,10.0f battles/s  %s%n", label, battles / seconds, cache.getStats());
+    }
+
+    private static void baseline(GameConfig[] points, int seeds) {
+        BattleSimulator plain = new BattleSimulator();
+        long start = System.nanoTime();
+        long turns = 0;
+        for (int r = 0; r < 2; r++) {
+            for (GameConfig config : points) {
+                SharedStrategies s = config.strategies();
+                for (int seed = 0; seed < seeds; seed++) {
+                    turns += plain.simulate(config, s.aggressiveCrit(), s.aggressive(), seed).getTurns();
+                }
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("[Cache] %-15s %,10.0f battles/s  (%.1f turns per battle)%n", "no cache",
+                2.0 * points.length * seeds / seconds, turns / (2.0 * points.length * seeds));
+    }
+
+    // Hot set of 1/4 of the memory tier hit 4x, interleaved with a scan 4x the tier's size
+    private static void hotSet(int memory) {
+        BattleCache cache = BattleCache.inMemory(memory);
+        BattleSimulator sim = new BattleSimulator();
+        sim.setCache(cache);
+        GameConfig config = GameConfig.defaults();
+        SharedStrategies s = config.strategies();
+        int hot = memory / 4;
+        for (int round = 0; round < 4; round++) {
+            for (int i = 0; i < hot; i++) {
+                sim.simulate(config, s.aggressiveCrit(), s.aggressive(), i);
+            }
+        }
+        for (int i = 0; i < memory * 4; i++) {
+            sim.simulate(config, s.aggressiveCrit(), s.aggressive(), 1_000_000L + i);
+        }
+        cache.resetStats();
+        for (int i = 0; i < hot; i++) {
+            sim.simulate(config, s.aggressiveCrit(), s.aggressive(), i);
+        }
+        System.out.printf("[Cache] hot set after a %dx scan: %s%n", 4, cache.getStats());
+    }
+}
@@ -0,0 +1,55 @@
+package edu.neu.csye7374;
+
+/**
+ * One combat event as seen by stream subscribers (see BattleEventPublisher).
+ * Immutable, so a single instance is shared by every subscriber.
+ */
+public final class BattleEvent {
+
+    private final long sessionId;
+    private final long sequence;        // per session, starts at 1
+    private final GameEventType type;
+    private final String source;        // character name, null for session messages
+    private final String message;
+    private final long timestampNanos;  // System.nanoTime() when published
+
+    public BattleEvent(long sessionId, long sequence, GameEventType type,
+                       String source, String message, long timestampNanos) {
+        this.sessionId = sessionId;
+        this.sequence = sequence;
+        this.type = type;
+        this.source = source;
+        this.message = message;
+        this.timestampNanos = timestampNanos;
+    }
+
+    public long getSessionId() {
+        return sessionId;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public GameEventType getType() {
+        return type;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public long getTimestampNanos() {
+        return timestampNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "#" + sessionId + "." + sequence + " " + type
+                + (source != null ? " [" + source + "] " : " ") + message;
+    }
+}
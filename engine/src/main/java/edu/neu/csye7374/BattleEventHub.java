@@ -0,0 +1,58 @@
+package edu.neu.csye7374;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Design Pattern: Singleton
+ * -------------------------
+ * Server-wide stream of battle events from every GameFacade session.
+ *
+ * Sessions register here when created (weakly, so abandoned sessions are
+ * collected). They only forward events while the server publisher has
+ * subscribers, so an unobserved server pays nothing per event.
+ */
+public final class BattleEventHub {
+
+    private static final BattleEventHub INSTANCE = new BattleEventHub();
+
+    private final Set<GameFacade> sessions = Collections.newSetFromMap(new WeakHashMap<>());
+    private final BattleEventPublisher server;
+
+    private BattleEventHub() {
+        server = new BattleEventPublisher(this::refreshSessions);
+    }
+
+    /** Publisher carrying the events of all sessions. */
+    public static BattleEventPublisher server() {
+        return INSTANCE.server;
+    }
+
+    static BattleEventHub get() {
+        return INSTANCE;
+    }
+
+    boolean isActive() {
+        return server.hasSubscribers();
+    }
+
+    void register(GameFacade session) {
+        synchronized (sessions) {
+            sessions.add(session);
+        }
+    }
+
+    // Server subscribers changed: sessions (un)hook their forwarders
+    private void refreshSessions() {
+        List<GameFacade> live;
+        synchronized (sessions) {
+            live = new ArrayList<>(sessions);
+        }
+        for (GameFacade session : live) {
+            session.updateEventForwarding();
+        }
+    }
+}
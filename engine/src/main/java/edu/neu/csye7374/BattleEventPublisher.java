@@ -0,0 +1,291 @@
+package edu.neu.csye7374;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Design Pattern: Observer (reactive streams)
+ * -------------------------------------------
+ * Flow.Publisher of battle events with per-subscriber backpressure.
+ *
+ *  - publish() never blocks: it appends to each subscriber's bounded ring
+ *    buffer and schedules a drain on the executor, so a slow subscriber
+ *    cannot slow the battle down.
+ *  - Each subscriber gets its own buffer size and OverflowPolicy, and
+ *    onNext is only called while it has outstanding demand (request(n)).
+ *  - Memory is bounded by the sum of the buffer sizes.
+ *
+ * Sessions expose one via GameFacade.events(); BattleEventHub.server()
+ * carries the events of every session.
+ */
+public class BattleEventPublisher implements Flow.Publisher<BattleEvent>, AutoCloseable {
+
+    public static final int DEFAULT_BUFFER_SIZE = 256;
+
+    // Events delivered per drain task before yielding the executor thread,
+    // so one slow subscriber can't monopolise a shared pool
+    private static final int DRAIN_BATCH = 32;
+
+    // Shared FIFO delivery pool (daemon threads). A ForkJoinPool would run a
+    // drain's own resubmission LIFO and starve the other subscribers.
+    private static final ExecutorService DEFAULT_EXECUTOR = Executors.newFixedThreadPool(
+            Math.max(2, Runtime.getRuntime().availableProcessors()), r -> {
+                Thread t = new Thread(r, "battle-events");
+                t.setDaemon(true);
+                return t;
+            });
+
+    private final Executor executor;
+    private final CopyOnWriteArrayList<EventSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final Runnable activityListener;   // re-checks hasSubscribers() on every change
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile boolean closed;
+
+    public BattleEventPublisher() {
+        this(DEFAULT_EXECUTOR, null);
+    }
+
+    public BattleEventPublisher(Executor executor) {
+        this(executor, null);
+    }
+
+    BattleEventPublisher(Runnable activityListener) {
+        this(DEFAULT_EXECUTOR, activityListener);
+    }
+
+    BattleEventPublisher(Executor executor, Runnable activityListener) {
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.activityListener = activityListener;
+    }
+
+    /** Subscribes with the default buffer size and DROP_OLDEST. */
+    @Override
+    public void subscribe(Flow.Subscriber<? super BattleEvent> subscriber) {
+        subscribe(subscriber, OverflowPolicy.DROP_OLDEST, DEFAULT_BUFFER_SIZE);
+    }
+
+    public void subscribe(Flow.Subscriber<? super BattleEvent> subscriber,
+                          OverflowPolicy policy, int bufferSize) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        Objects.requireNonNull(policy, "policy");
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("bufferSize must be positive: " + bufferSize);
+        }
+        int capacity = (policy == OverflowPolicy.LATEST_ONLY) ? 1 : bufferSize;
+        EventSubscription s = new EventSubscription(subscriber, policy, capacity);
+        subscriber.onSubscribe(s);
+        if (closed) {
+            s.complete();
+            return;
+        }
+        subscriptions.add(s);
+        fireActivity();
+        // cancel() inside onSubscribe ran its remove() before the add above
+        if (s.cancelled) {
+            remove(s);
+        }
+    }
+
+    /** Cheap guard for producers: no subscriber, no event object. */
+    public boolean hasSubscribers() {
+        return !subscriptions.isEmpty();
+    }
+
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    /** Events discarded by DROP_OLDEST / LATEST_ONLY across all subscribers. */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /** Hands {@code event} to every subscriber without waiting for any of them. */
+    public void publish(BattleEvent event) {
+        if (closed) {
+            return;
+        }
+        for (EventSubscription s : subscriptions) {
+            s.offer(event);
+        }
+    }
+
+    /** Completes every subscriber once it has consumed its buffered events. */
+    @Override
+    public void close() {
+        closed = true;
+        for (EventSubscription s : subscriptions) {
+            s.complete();
+        }
+    }
+
+    private void remove(EventSubscription s) {
+        if (subscriptions.remove(s)) {
+            fireActivity();
+        }
+    }
+
+    private void fireActivity() {
+        if (activityListener != null) {
+            activityListener.run();
+        }
+    }
+
+    /**
+     * One subscriber's bounded ring buffer plus its demand. The buffer lock
+     * is held only to add or take one element; delivery happens on the
+     * executor, one drain at a time (the wip counter serialises them).
+     */
+    private final class EventSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super BattleEvent> subscriber;
+        private final OverflowPolicy policy;
+        private final BattleEvent[] ring;
+        private int head;
+        private int size;
+
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile boolean completing;
+        private volatile Throwable error;
+
+        EventSubscription(Flow.Subscriber<? super BattleEvent> subscriber,
+                          OverflowPolicy policy, int capacity) {
+            this.subscriber = subscriber;
+            this.policy = policy;
+            this.ring = new BattleEvent[capacity];
+        }
+
+        void offer(BattleEvent event) {
+            if (cancelled || completing || error != null) {
+                return;
+            }
+            synchronized (this) {
+                if (size == ring.length) {
+                    if (policy == OverflowPolicy.ERROR) {
+                        Arrays.fill(ring, null);
+                        size = 0;
+                        error = new IllegalStateException(
+                                "Subscriber buffer overflow (" + ring.length + " events)");
+                    } else {
+                        // DROP_OLDEST and LATEST_ONLY (capacity 1) both evict the head
+                        ring[head] = null;
+                        head = (head + 1) % ring.length;
+                        size--;
+                        dropped.incrementAndGet();
+                    }
+                }
+                if (error == null) {
+                    ring[(head + size) % ring.length] = event;
+                    size++;
+                }
+            }
+            signal();
+        }
+
+        private synchronized BattleEvent poll() {
+            if (size == 0) {
+                return null;
+            }
+            BattleEvent e = ring[head];
+            ring[head] = null;
+            head = (head + 1) % ring.length;
+            size--;
+            return e;
+        }
+
+        private synchronized boolean isEmpty() {
+            return size == 0;
+        }
+
+        void complete() {
+            completing = true;
+            signal();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("request must be positive: " + n);
+            } else {
+                // Saturating add: Long.MAX_VALUE means unbounded
+                demand.getAndUpdate(d -> (d + n < 0) ? Long.MAX_VALUE : d + n);
+            }
+            signal();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            remove(this);
+        }
+
+        private void signal() {
+            if (wip.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    cancel();
+                }
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            int emitted = 0;
+            do {
+                if (cancelled) {
+                    return;
+                }
+                Throwable failure = error;
+                if (failure != null) {
+                    terminate();
+                    subscriber.onError(failure);
+                    return;
+                }
+                while (demand.get() > 0) {
+                    BattleEvent e = poll();
+                    if (e == null) break;
+                    if (demand.get() != Long.MAX_VALUE) demand.decrementAndGet();
+                    try {
+                        subscriber.onNext(e);
+                    } catch (Throwable t) {
+                        // A subscriber must not throw; treat it as cancellation
+                        cancel();
+                        return;
+                    }
+                    if (cancelled) return;
+                    if (++emitted == DRAIN_BATCH) {
+                        // wip stays non-zero, so nobody else schedules a drain meanwhile
+                        try {
+                            executor.execute(this::drain);
+                        } catch (RejectedExecutionException ex) {
+                            cancel();
+                        }
+                        return;
+                    }
+                }
+                if (completing && error == null && isEmpty()) {
+                    terminate();
+                    subscriber.onComplete();
+                    return;
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void terminate() {
+            cancelled = true;
+            remove(this);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package edu.neu.csye7374;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Shows that stream subscribers cannot slow a battle down.
+ *
+ * Plays the same number of GameFacade games three times: with no
+ * subscribers, with a fast server-wide subscriber, and with the fast one
+ * plus a slow spectator (1 ms per event, buffer 64, DROP_OLDEST) on each
+ * session. Prints games/s, events delivered and events dropped.
+ *
+ * Usage: BattleEventStreamBenchmark [games]   (default 20,000)
+ */
+public class BattleEventStreamBenchmark {
+
+    public static void main(String[] args) throws InterruptedException {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+
+        run("no subscribers", games, false, false);
+        run("fast server subscriber", games, true, false);
+        run("fast + slow spectators", games, true, true);
+    }
+
+    private static void run(String label, int games, boolean fast, boolean slow)
+            throws InterruptedException {
+        CountingSubscriber server = new CountingSubscriber(0);
+        if (fast) {
+            BattleEventHub.server().subscribe(server, OverflowPolicy.DROP_OLDEST, 4096);
+        }
+        CountingSubscriber spectator = new CountingSubscriber(1);
+        long dropped = -BattleEventHub.server().getDroppedCount();
+
+        GameFacade game = new GameFacade();
+        if (slow) {
+            game.events().subscribe(spectator, OverflowPolicy.DROP_OLDEST, 64);
+        }
+
+        long start = System.nanoTime();
+        for (int g = 0; g < games; g++) {
+            game.startNewGame("Hero", "warrior", 1, g);
+            while (!game.isBattleOver()) {
+                game.playerAttack();
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        if (slow) {
+            dropped += game.events().getDroppedCount();
+            game.events().close();
+        }
+        dropped += BattleEventHub.server().getDroppedCount();
+        server.subscriptionCancel();
+        spectator.subscriptionCancel();
+        System.out.printf("[Stream] %-24s %,10.0f games/s  delivered %,d (server) %,d (spectator)  dropped %,d%n",
+                label, games / seconds, server.received.get(), spectator.received.get(), dropped);
+    }
+
+    /** Requests one event at a time and optionally sleeps per event. */
+    private static final class CountingSubscriber implements Flow.Subscriber<BattleEvent> {
+        private final long delayMillis;
+        private final AtomicLong received = new AtomicLong();
+        private volatile Flow.Subscription subscription;
+
+        CountingSubscriber(long delayMillis) {
+            this.delayMillis = delayMillis;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(BattleEvent item) {
+            received.incrementAndGet();
+            if (delayMillis > 0) {
+                try {
+                    TimeUnit.MILLISECONDS.sleep(delayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            System.err.println("[Stream] subscriber failed: " + throwable.getMessage());
+        }
+
+        @Override
+        public void onComplete() {
+        }
+
+        void subscriptionCancel() {
+            if (subscription != null) subscription.cancel();
+        }
+    }
+}
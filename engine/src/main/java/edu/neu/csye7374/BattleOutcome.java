@@ -0,0 +1,49 @@
+package edu.neu.csye7374;
+
+/**
+ * Result of one simulated battle. Mutable and reused by BattleSimulator so
+ * bulk simulation does not allocate per battle; copy out what you need
+ * before the next simulate() call.
+ */
+public class BattleOutcome {
+
+    boolean playerWon;
+    boolean draw;          // turn limit reached with both sides alive
+    int turns;
+    int damageDealt;       // HP the player took off the enemy
+    int damageTaken;       // HP the enemy took off the player
+    int crits;             // critical strikes landed by the player
+
+    public boolean isPlayerWon() {
+        return playerWon;
+    }
+
+    public boolean isDraw() {
+        return draw;
+    }
+
+    public int getTurns() {
+        return turns;
+    }
+
+    public int getDamageDealt() {
+        return damageDealt;
+    }
+
+    public int getDamageTaken() {
+        return damageTaken;
+    }
+
+    public int getCrits() {
+        return crits;
+    }
+
+    void clear() {
+        playerWon = false;
+        draw = false;
+        turns = 0;
+        damageDealt = 0;
+        damageTaken = 0;
+        crits = 0;
+    }
+}
@@ -0,0 +1,112 @@
+package edu.neu.csye7374;
+
+/**
+ * Headless, deterministic player-vs-goblin battle for bulk simulation.
+ *
+ * Design Pattern: Template Method (same turn order as GameFacade)
+ * ---------------------------------------------------------------
+ * Each turn the player acts with its strategy, then the goblin attacks if
+ * still alive. The only observer counts the player's critical strikes
+ * (CRIT events), so no other event text is built. Characters come from a private
+ * CharacterPool and the outcome object is reused, so a simulator creates
+ * no per-battle garbage.
+ *
+ * With a BattleCache set, a battle whose inputs were seen before is read
+ * from the cache instead of being played (the cache may be shared).
+ *
+ * Not thread-safe: use one simulator per thread.
+ */
+public class BattleSimulator {
+
+    /** Battles still running after this many turns are counted as draws. */
+    public static final int MAX_TURNS = 500;
+
+    private final CharacterPool pool = new CharacterPool(2);
+    private final BattleOutcome outcome = new BattleOutcome();
+    private final ObserverChannel critCounter = new ObserverChannel();
+    private BattleCache cache;
+
+    public BattleSimulator() {
+        critCounter.subscribe(message -> outcome.crits++, GameEventType.CRIT);
+    }
+
+    /** Memoizes outcomes in {@code cache} (null = always play). */
+    public void setCache(BattleCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Runs one battle. The same (config, strategies, seed) always gives the
+     * same outcome. The returned object is reused by the next call.
+     */
+    public BattleOutcome simulate(GameConfig config, AttackStrategy playerStrategy,
+                                  AttackStrategy enemyStrategy, long seed) {
+        long key = cachedKey(BattleCache.SIMULATE, config, playerStrategy, enemyStrategy, seed);
+        if (key != 0 && cache.get(key, outcome)) return outcome;
+
+        Character player = pool.acquire(CharacterPrototypes.WARRIOR, "Hero", config);
+        Character enemy = pool.acquire(CharacterPrototypes.GOBLIN, "Goblin", config);
+        fight(player, playerStrategy, enemy, enemyStrategy, seed);
+        if (key != 0) cache.put(key, outcome);
+        return outcome;
+    }
+
+    /**
+     * Mirror match: both sides start with the player HP from {@code config}.
+     * {@code first} acts first each turn and counts as the "player" in the
+     * outcome.
+     */
+    public BattleOutcome duel(GameConfig config, AttackStrategy first,
+                              AttackStrategy second, long seed) {
+        long key = cachedKey(BattleCache.DUEL, config, first, second, seed);
+        if (key != 0 && cache.get(key, outcome)) return outcome;
+
+        Character a = pool.acquire(CharacterPrototypes.WARRIOR, "A", config);
+        Character b = pool.acquire(CharacterPrototypes.WARRIOR, "B", config);
+        fight(a, first, b, second, seed);
+        if (key != 0) cache.put(key, outcome);
+        return outcome;
+    }
+
+    // 0 = no cache, or a strategy without a fingerprint
+    private long cachedKey(int kind, GameConfig config, AttackStrategy p, AttackStrategy e, long seed) {
+        if (cache == null) return 0;
+        long key = BattleCache.key(kind, config, p, e, seed);
+        if (key == 0) cache.skipped();
+        return key;
+    }
+
+    private BattleOutcome fight(Character player, AttackStrategy playerStrategy,
+                                Character enemy, AttackStrategy enemyStrategy, long seed) {
+        player.setStrategy(playerStrategy);
+        enemy.setStrategy(enemyStrategy);
+        player.getRandom().setSeed(seed);
+        enemy.getRandom().setSeed(~seed);
+        player.joinChannel(critCounter);
+
+        outcome.clear();
+        int turn = 0;
+        int dealt = 0;
+        int taken = 0;
+        while (player.isAlive() && enemy.isAlive() && turn < MAX_TURNS) {
+            turn++;
+            int enemyHp = enemy.getHealth();
+            player.attack(enemy);
+            dealt += enemyHp - enemy.getHealth();
+            if (enemy.isAlive()) {
+                int playerHp = player.getHealth();
+                enemy.attack(player);
+                taken += playerHp - player.getHealth();
+            }
+        }
+        outcome.damageDealt = dealt;
+        outcome.damageTaken = taken;
+        outcome.turns = turn;
+        outcome.playerWon = player.isAlive() && !enemy.isAlive();
+        outcome.draw = player.isAlive() && enemy.isAlive();
+
+        pool.release(player);
+        pool.release(enemy);
+        return outcome;
+    }
+}
@@ -0,0 +1,83 @@
+package edu.neu.csye7374;
+
+/**
+ * Consistent view of one battle: both combatants, the turn state and the
+ * turn number, as of a single published version.
+ *
+ * Mutable on purpose: readers keep one instance and refill it through
+ * BattleSnapshotSeqlock.read (or GameFacade.readSnapshot), so polling the
+ * state from a UI or spectator thread allocates nothing.
+ */
+public class BattleSnapshot {
+
+    long version;
+    String playerName;
+    int playerHp;
+    int playerMaxHp;
+    String playerStrategy;
+    String enemyName;
+    int enemyHp;
+    int enemyMaxHp;
+    String enemyStrategy;
+    String stateName;
+    int turn;
+    boolean battleOver;
+
+    /** Even, increasing; 0 means nothing has been published yet. */
+    public long getVersion() {
+        return version;
+    }
+
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    public int getPlayerHp() {
+        return playerHp;
+    }
+
+    public int getPlayerMaxHp() {
+        return playerMaxHp;
+    }
+
+    /** Strategy name, or "None". */
+    public String getPlayerStrategy() {
+        return playerStrategy;
+    }
+
+    public String getEnemyName() {
+        return enemyName;
+    }
+
+    public int getEnemyHp() {
+        return enemyHp;
+    }
+
+    public int getEnemyMaxHp() {
+        return enemyMaxHp;
+    }
+
+    public String getEnemyStrategy() {
+        return enemyStrategy;
+    }
+
+    /** GameState name (e.g. "Player Turn"), or null outside a game. */
+    public String getStateName() {
+        return stateName;
+    }
+
+    public int getTurn() {
+        return turn;
+    }
+
+    public boolean isBattleOver() {
+        return battleOver;
+    }
+
+    @Override
+    public String toString() {
+        return "v" + version + " turn " + turn + " " + stateName + ": "
+                + playerName + " " + playerHp + "/" + playerMaxHp + " [" + playerStrategy + "] vs "
+                + enemyName + " " + enemyHp + "/" + enemyMaxHp + " [" + enemyStrategy + "]";
+    }
+}
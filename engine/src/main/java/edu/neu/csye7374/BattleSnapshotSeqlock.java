@@ -0,0 +1,90 @@
+package edu.neu.csye7374;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Seqlock around the fields of a BattleSnapshot.
+ *
+ * The writer bumps the version to odd, writes the fields and bumps it to
+ * even again; a reader copies the fields and retries if the version was
+ * odd or changed meanwhile. Readers never lock, never block the writer and
+ * never allocate; the writer never waits for readers.
+ *
+ * One writer at a time (the thread driving the battle). Any number of
+ * reader threads.
+ */
+public class BattleSnapshotSeqlock {
+
+    private static final VarHandle VERSION;
+
+    static {
+        try {
+            VERSION = MethodHandles.lookup().findVarHandle(BattleSnapshotSeqlock.class, "version", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private long version;
+    private final BattleSnapshot data = new BattleSnapshot();
+
+    /** Publishes one consistent view; call once per action. */
+    public void publish(Character player, Character enemy, String stateName, int turn) {
+        long v = version;
+        VERSION.setOpaque(this, v + 1);
+        VarHandle.storeStoreFence();    // odd version before any field write
+
+        BattleSnapshot d = data;
+        d.playerName = (player != null) ? player.getName() : null;
+        d.playerHp = (player != null) ? player.getHealth() : 0;
+        d.playerMaxHp = (player != null) ? player.getMaxHealth() : 0;
+        d.playerStrategy = strategyName(player);
+        d.enemyName = (enemy != null) ? enemy.getName() : null;
+        d.enemyHp = (enemy != null) ? enemy.getHealth() : 0;
+        d.enemyMaxHp = (enemy != null) ? enemy.getMaxHealth() : 0;
+        d.enemyStrategy = strategyName(enemy);
+        d.stateName = stateName;
+        d.turn = turn;
+        d.battleOver = d.playerHp <= 0 || d.enemyHp <= 0;
+
+        VERSION.setRelease(this, v + 2); // field writes before the even version
+    }
+
+    private static String strategyName(Character c) {
+        AttackStrategy s = (c == null) ? null : c.getStrategy();
+        return (s == null) ? "None" : s.getName();
+    }
+
+    /** Current version without reading the snapshot (cheap change check). */
+    public long getVersion() {
+        return (long) VERSION.getAcquire(this) & ~1L;
+    }
+
+    /** Fills {@code into} with the latest consistent snapshot and returns it. */
+    public BattleSnapshot read(BattleSnapshot into) {
+        BattleSnapshot d = data;
+        for (;;) {
+            long before = (long) VERSION.getAcquire(this);
+            if ((before & 1) == 0) {
+                into.playerName = d.playerName;
+                into.playerHp = d.playerHp;
+                into.playerMaxHp = d.playerMaxHp;
+                into.playerStrategy = d.playerStrategy;
+                into.enemyName = d.enemyName;
+                into.enemyHp = d.enemyHp;
+                into.enemyMaxHp = d.enemyMaxHp;
+                into.enemyStrategy = d.enemyStrategy;
+                into.stateName = d.stateName;
+                into.turn = d.turn;
+                into.battleOver = d.battleOver;
+                VarHandle.loadLoadFence();  // field reads before the re-check
+                if ((long) VERSION.getOpaque(this) == before) {
+                    into.version = before;
+                    return into;
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package edu.neu.csye7374;
+
+/**
+ * Design Pattern: Observer (Concrete Observer)
+ * Design Pattern: Bridge (buffered implementor)
+ * ---------------------------------------------
+ * Same output format as ConsoleLogger, but appends to a caller-owned
+ * StringBuilder instead of printing line by line. The owner flushes the
+ * buffer with a single write (once per turn in DemoAutoplay).
+ */
+public class BufferedLogger implements GameObserver {
+
+    private final String name;
+    private final StringBuilder out;
+
+    public BufferedLogger(String name, StringBuilder out) {
+        this.name = name;
+        this.out = out;
+    }
+
+    @Override
+    public void onEvent(String message) {
+        out.append('[').append(name).append("] ").append(message).append('\n');
+    }
+}
@@ -0,0 +1,229 @@
+package edu.neu.csye7374;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A procedurally generated series of encounters of rising difficulty.
+ *
+ * Nothing is materialised: encounter(i) is a pure function of (config,
+ * seed, i), and iterator()/spliterator()/stream() produce encounters on
+ * demand, so a campaign of a billion fights costs the same memory as one
+ * of ten. The spliterator knows its index range and splits it in halves,
+ * so encounter streams parallelise and any part can be regenerated.
+ *
+ * Difficulty: enemies get RAMP_PERCENT of the config's goblin HP tougher
+ * per encounter (plus or minus up to 10%). Every TIER_LENGTH encounters
+ * the enemy type changes and enemies hit DAMAGE_RAMP_PERCENT harder, and
+ * every BOSS_EVERY-th fight is a boss with half again the HP and critical
+ * strikes. Between fights the player keeps its HP and levels up (see
+ * levelUp).
+ *
+ * Playing a campaign is sequential (player state carries over); to
+ * simulate many, stream independent campaigns with campaigns() and give
+ * each worker its own CampaignRunner.
+ */
+public final class Campaign implements Iterable<Encounter> {
+
+    /** Length of an endless campaign (the player's death ends it first). */
+    public static final long ENDLESS = Long.MAX_VALUE;
+
+    static final int TIER_LENGTH = 50;
+    static final int BOSS_EVERY = 10;
+    static final int RAMP_PERCENT = 1;
+    static final int DAMAGE_RAMP_PERCENT = 5;
+    static final int LEVEL_HP = 3;          // max HP gained per victory
+    static final int REST_PERCENT = 50;     // of max HP, healed after a victory
+    private static final long MAX_TIER = 10_000;   // keeps scaled damage in int range
+
+    private static final String[] ENEMIES = {"Goblin", "Orc", "Troll", "Ogre", "Dragon"};
+    private static final String[] BOSSES = {"Goblin Chief", "Orc Warlord", "Troll King", "Ogre Tyrant", "Elder Dragon"};
+    private static final long GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final GameConfig config;
+    private final long seed;
+    private final long length;
+
+    // Enemy strategies for the most recent damage level only: sequential
+    // play builds one GameConfig per tier, and memory stays flat
+    private volatile TierStrategies tierStrategies;
+
+    public Campaign(GameConfig config, long seed, long length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("negative campaign length " + length);
+        }
+        this.config = config;
+        this.seed = seed;
+        this.length = length;
+    }
+
+    public static Campaign endless(GameConfig config, long seed) {
+        return new Campaign(config, seed, ENDLESS);
+    }
+
+    /**
+     * {@code count} independent campaigns with seeds derived from
+     * {@code masterSeed}; the stream splits, so .parallel() plays them on
+     * all cores.
+     */
+    public static Stream<Campaign> campaigns(GameConfig config, long masterSeed, int count, long length) {
+        return LongStream.range(0, count)
+                .mapToObj(i -> new Campaign(config, StateHash.mix(masterSeed + i * GAMMA), length));
+    }
+
+    public GameConfig getConfig() {
+        return config;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public long getLength() {
+        return length;
+    }
+
+    /** Seed for the player's dice, which run on across encounters. */
+    public long getPlayerSeed() {
+        return ~seed;
+    }
+
+    /** The {@code index}-th encounter (from 0); the same on every call. */
+    public Encounter encounter(long index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("encounter " + index + " of " + length);
+        }
+        long h = StateHash.mix(seed + (index + 1) * GAMMA);
+        long tier = Math.min(index / TIER_LENGTH, MAX_TIER);
+        boolean boss = (index + 1) % BOSS_EVERY == 0;
+
+        long base = config.getGoblinHp();
+        long hp = base + base * RAMP_PERCENT * Math.min(index, 1L << 32) / 100;   // saturates below
+        hp += hp * ((int) (h >>> 40) % 11 - 5) / 50;          // -10% .. +10%
+        if (boss) hp += hp / 2;
+        int health = (int) Math.max(1, Math.min(hp, Integer.MAX_VALUE));
+
+        int type = (int) Math.min(tier, ENEMIES.length - 1);
+        return new Encounter(index, boss ? BOSSES[type] : ENEMIES[type], health,
+                boss ? "aggressive+crit" : "aggressive", 100 + DAMAGE_RAMP_PERCENT * (int) tier, boss, h);
+    }
+
+    /**
+     * Shared strategy instance for {@code e}'s enemy: its strategy pinned to
+     * a copy of the config whose aggressive damage is scaled by
+     * getDamagePercent().
+     */
+    public AttackStrategy enemyStrategy(Encounter e) {
+        int percent = e.getDamagePercent();
+        TierStrategies t = tierStrategies;
+        if (t == null || t.percent != percent) {
+            GameConfig c = config;
+            if (percent != 100) {
+                c = config.toBuilder().setAggressiveDamage(
+                        config.getAggressiveMinDamage() * percent / 100,
+                        config.getAggressiveMaxDamage() * percent / 100).build();
+            }
+            t = new TierStrategies(percent, c.strategies());
+            tierStrategies = t;
+        }
+        return t.strategies.byName(e.getStrategyName());
+    }
+
+    private static final class TierStrategies {
+        final int percent;
+        final SharedStrategies strategies;
+
+        TierStrategies(int percent, SharedStrategies strategies) {
+            this.percent = percent;
+            this.strategies = strategies;
+        }
+    }
+
+    /**
+     * Between encounters: a surviving player gains LEVEL_HP max HP and
+     * rests for REST_PERCENT of it. Silent; HP otherwise carries over.
+     */
+    void levelUp(Character player) {
+        if (!player.isAlive()) return;
+        int max = player.getMaxHealth() + LEVEL_HP;
+        player.setMaxHealth(max);
+        player.setHealth(Math.min(max, player.getHealth() + max * REST_PERCENT / 100));
+    }
+
+    // --- Lazy traversal ---
+
+    @Override
+    public Iterator<Encounter> iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    @Override
+    public Spliterator<Encounter> spliterator() {
+        return new EncounterSpliterator(this, 0, length);
+    }
+
+    public Stream<Encounter> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /** Encounters [index, end), generated as they are consumed. */
+    private static final class EncounterSpliterator implements Spliterator<Encounter> {
+        private final Campaign campaign;
+        private long index;
+        private final long end;
+
+        EncounterSpliterator(Campaign campaign, long index, long end) {
+            this.campaign = campaign;
+            this.index = index;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Encounter> action) {
+            if (index >= end) return false;
+            action.accept(campaign.encounter(index++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Encounter> action) {
+            long i = index;
+            long e = end;
+            index = e;
+            for (; i < e; i++) {
+                action.accept(campaign.encounter(i));
+            }
+        }
+
+        @Override
+        public Spliterator<Encounter> trySplit() {
+            long mid = index + (end - index) / 2;
+            if (mid <= index) return null;
+            Spliterator<Encounter> prefix = new EncounterSpliterator(campaign, index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - index;
+        }
+
+        @Override
+        public int characteristics() {
+            // Ranges running to ENDLESS have no meaningful size (Long.MAX_VALUE = unknown)
+            int c = ORDERED | DISTINCT | NONNULL | IMMUTABLE;
+            return end == ENDLESS ? c : c | SIZED | SUBSIZED;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Campaign[seed=" + seed + ", length=" + (length == ENDLESS ? "endless" : String.valueOf(length)) + "]";
+    }
+}
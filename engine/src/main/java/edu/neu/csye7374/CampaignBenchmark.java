@@ -0,0 +1,117 @@
+package edu.neu.csye7374;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * Campaign mode at scale.
+ *
+ * 1. Lazy generation: walks an endless campaign's encounters and prints
+ *    heap in use after GC at checkpoints; it should stay flat however many
+ *    encounters have gone by. The same range, as a finite campaign, is then
+ *    summed through a parallel stream (the spliterator splits) and must
+ *    match.
+ * 2. Play-throughs: plays many independent campaigns sequentially and as a
+ *    parallel stream (one CampaignRunner per thread) and checks that both
+ *    give the same per-seed results.
+ *
+ * Usage: CampaignBenchmark [--encounters n] [--campaigns n] [--difficulty d] [--seed s]
+ */
+public class CampaignBenchmark {
+
+    public static void main(String[] args) {
+        long encounters = 20_000_000;
+        int campaigns = 200;
+        int difficulty = 1;
+        long seed = 7374;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--encounters": encounters = Long.parseLong(args[++i]); break;
+                case "--campaigns":  campaigns = Integer.parseInt(args[++i]); break;
+                case "--difficulty": difficulty = Integer.parseInt(args[++i]); break;
+                case "--seed":       seed = Long.parseLong(args[++i]); break;
+                default:
+                    System.err.println("[Warning] Unknown option: " + args[i]);
+            }
+        }
+        GameConfig config = GameConfig.defaults().withDifficulty(difficulty);
+        generate(Campaign.endless(config, seed), encounters);
+        play(config, seed, campaigns);
+    }
+
+    private static void generate(Campaign campaign, long count) {
+        long step = Math.max(1, count / 4);
+        long hpSum = 0;
+        long bosses = 0;
+        long start = System.nanoTime();
+        Iterator<Encounter> it = campaign.iterator();
+        for (long i = 1; i <= count; i++) {
+            Encounter e = it.next();
+            hpSum += e.getEnemyHealth();
+            if (e.isBoss()) bosses++;
+            if (i % step == 0) {
+                System.out.printf("[Campaign] %,14d encounters generated, heap in use %,6d KB%n", i, usedHeapKb());
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("[Campaign] sequential: %,.0f encounters/s, %,d bosses%n", count / seconds, bosses);
+
+        // A finite campaign splits into exact halves; limit() on the endless
+        // one would have to buffer, since its size is unknown
+        start = System.nanoTime();
+        long parallelSum = new Campaign(campaign.getConfig(), campaign.getSeed(), count)
+                .stream().parallel().mapToLong(Encounter::getEnemyHealth).sum();
+        seconds = (System.nanoTime() - start) / 1e9;
+        if (parallelSum != hpSum) {
+            throw new IllegalStateException("parallel encounter stream differs from the iterator");
+        }
+        System.out.printf("[Campaign] parallel stream matches (total enemy HP %,d), %,.0f encounters/s%n",
+                hpSum, count / seconds);
+    }
+
+    private static void play(GameConfig config, long seed, int count) {
+        Archetype warrior = CharacterPrototypes.WARRIOR;
+        AttackStrategy strategy = config.strategies().aggressiveCrit();
+
+        long start = System.nanoTime();
+        CampaignRunner runner = new CampaignRunner();
+        CampaignResult[] sequential = Campaign.campaigns(config, seed, count, Campaign.ENDLESS)
+                .map(c -> runner.run(c, warrior, strategy))
+                .toArray(CampaignResult[]::new);
+        double seqSeconds = (System.nanoTime() - start) / 1e9;
+
+        ThreadLocal<CampaignRunner> runners = ThreadLocal.withInitial(CampaignRunner::new);
+        start = System.nanoTime();
+        CampaignResult[] parallel = Campaign.campaigns(config, seed, count, Campaign.ENDLESS)
+                .parallel()
+                .map(c -> runners.get().run(c, warrior, strategy))
+                .toArray(CampaignResult[]::new);
+        double parSeconds = (System.nanoTime() - start) / 1e9;
+
+        long[] won = new long[count];
+        long fights = 0;
+        for (int i = 0; i < count; i++) {
+            if (sequential[i].getEncountersWon() != parallel[i].getEncountersWon()
+                    || sequential[i].getTurns() != parallel[i].getTurns()
+                    || sequential[i].getDamageTaken() != parallel[i].getDamageTaken()) {
+                throw new IllegalStateException("parallel play differs for " + sequential[i]);
+            }
+            won[i] = sequential[i].getEncountersWon();
+            fights += won[i] + 1;
+        }
+        Arrays.sort(won);
+        System.out.printf("[Campaign] %d campaigns: encounters won min %,d / median %,d / max %,d%n",
+                count, won[0], won[count / 2], won[count - 1]);
+        System.out.printf("[Campaign] sequential %,.0f fights/s, parallel (%d threads) %,.0f fights/s, results match%n",
+                fights / seqSeconds, Runtime.getRuntime().availableProcessors(), fights / parSeconds);
+        System.out.printf("[Campaign] heap in use after play %,d KB%n", usedHeapKb());
+    }
+
+    private static long usedHeapKb() {
+        Runtime rt = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return (rt.totalMemory() - rt.freeMemory()) / 1024;
+    }
+}
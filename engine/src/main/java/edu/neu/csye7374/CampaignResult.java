@@ -0,0 +1,67 @@
+package edu.neu.csye7374;
+
+/**
+ * How far a player got in one Campaign (see CampaignRunner).
+ */
+public final class CampaignResult {
+
+    private final long seed;
+    private final long encountersWon;
+    private final boolean completed;       // every encounter of a finite campaign won
+    private final boolean stalled;         // ended by a fight reaching the turn limit
+    private final long turns;
+    private final long damageDealt;
+    private final long damageTaken;
+    private final int finalMaxHealth;
+
+    CampaignResult(long seed, long encountersWon, boolean completed, boolean stalled,
+                   long turns, long damageDealt, long damageTaken, int finalMaxHealth) {
+        this.seed = seed;
+        this.encountersWon = encountersWon;
+        this.completed = completed;
+        this.stalled = stalled;
+        this.turns = turns;
+        this.damageDealt = damageDealt;
+        this.damageTaken = damageTaken;
+        this.finalMaxHealth = finalMaxHealth;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public long getEncountersWon() {
+        return encountersWon;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public boolean isStalled() {
+        return stalled;
+    }
+
+    public long getTurns() {
+        return turns;
+    }
+
+    public long getDamageDealt() {
+        return damageDealt;
+    }
+
+    public long getDamageTaken() {
+        return damageTaken;
+    }
+
+    public int getFinalMaxHealth() {
+        return finalMaxHealth;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("seed %d: won %d%s, %d turns, dealt %d, taken %d, max HP %d",
+                seed, encountersWon, completed ? " (completed)" : stalled ? " (stalled)" : "",
+                turns, damageDealt, damageTaken, finalMaxHealth);
+    }
+}
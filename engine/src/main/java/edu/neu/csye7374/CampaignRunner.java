@@ -0,0 +1,70 @@
+package edu.neu.csye7374;
+
+import java.util.Iterator;
+
+/**
+ * Headless play-through of a Campaign, for bulk simulation.
+ *
+ * Design Pattern: Template Method (same turn order as BattleSimulator)
+ * --------------------------------------------------------------------
+ * One player fights the campaign's encounters in order, pulled lazily from
+ * its iterator. HP carries over from fight to fight (plus Campaign.levelUp
+ * after each victory) and the player's dice keep running, so the result
+ * depends on every earlier fight. The run ends when the player dies, a
+ * fight reaches BattleSimulator.MAX_TURNS, or the encounters run out.
+ *
+ * The runner owns exactly two Characters and re-stamps the enemy for every
+ * encounter, so memory stays flat however long the campaign is.
+ *
+ * Not thread-safe: use one runner per thread (e.g. a ThreadLocal when
+ * playing Campaign.campaigns(...).parallel()).
+ */
+public class CampaignRunner {
+
+    private final Character player = new Character("Hero", 1);
+    private final Character enemy = new Character("Enemy", 1);
+
+    /** Plays {@code campaign} with a fresh {@code archetype} player using {@code strategy}. */
+    public CampaignResult run(Campaign campaign, Archetype archetype, AttackStrategy strategy) {
+        GameConfig config = campaign.getConfig();
+        archetype.reset(player, "Hero", config);
+        player.setStrategy(strategy);
+        player.getRandom().setSeed(campaign.getPlayerSeed());
+
+        long won = 0;
+        long turns = 0;
+        long dealt = 0;
+        long taken = 0;
+        boolean stalled = false;
+        Iterator<Encounter> encounters = campaign.iterator();
+        while (encounters.hasNext()) {
+            Encounter e = encounters.next();
+            enemy.reset(e.getEnemyName(), e.getEnemyHealth());
+            enemy.setStrategy(campaign.enemyStrategy(e));
+            enemy.getRandom().setSeed(e.getSeed());
+
+            int turn = 0;
+            while (player.isAlive() && enemy.isAlive() && turn < BattleSimulator.MAX_TURNS) {
+                turn++;
+                int enemyHp = enemy.getHealth();
+                player.attack(enemy);
+                dealt += enemyHp - enemy.getHealth();
+                if (enemy.isAlive()) {
+                    int playerHp = player.getHealth();
+                    enemy.attack(player);
+                    taken += playerHp - player.getHealth();
+                }
+            }
+            turns += turn;
+            if (enemy.isAlive()) {
+                stalled = player.isAlive();
+                break;
+            }
+            won++;
+            campaign.levelUp(player);
+        }
+        boolean completed = won == campaign.getLength();
+        return new CampaignResult(campaign.getSeed(), won, completed, stalled,
+                turns, dealt, taken, player.getMaxHealth());
+    }
+}
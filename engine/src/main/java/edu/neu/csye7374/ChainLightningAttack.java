@@ -0,0 +1,35 @@
+package edu.neu.csye7374;
+
+/**
+ * Design Pattern: Strategy (Concrete Strategy)
+ * -------------------------------------------
+ * Chain lightning: strikes the front member, then jumps to the next living
+ * one up to {@code jumps} times, losing {@code decayPercent} of its damage
+ * per jump.
+ */
+public class ChainLightningAttack extends AreaAttack {
+
+    private final int jumps;
+    private final int decayPercent;
+
+    public ChainLightningAttack(GameConfig config, int jumps, int decayPercent) {
+        super(config);
+        this.jumps = jumps;
+        this.decayPercent = decayPercent;
+    }
+
+    @Override
+    protected void strike(Character self, Horde horde, int damage) {
+        horde.damageChain(horde.front(), jumps, damage, decayPercent);
+    }
+
+    @Override
+    protected long shape() {
+        return (long) jumps << 32 | decayPercent;
+    }
+
+    @Override
+    public String getName() {
+        return "Chain Lightning";
+    }
+}
@@ -0,0 +1,529 @@
+package edu.neu.csye7374;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Core domain entity representing a player or enemy.
+ *
+ * Design Pattern: Strategy
+ *  - Holds a reference to AttackStrategy to delegate combat behavior.
+ *
+ * Design Pattern: Observer / Bridge
+ *  - Notifies GameObserver instances instead of printing directly.
+ *    ConsoleLogger and TextAreaObserverAdapter are different "views"
+ *    bridged through the GameObserver abstraction.
+ *  - Observers subscribe per event type; dispatch arrays are precomputed
+ *    in an immutable EventDispatchTable, so publishing an event type with
+ *    no subscribers is a single array-length check.
+ *  - Subscriptions live in an ObserverChannel, which many characters can
+ *    share (one reference each) instead of keeping a list per character.
+ *
+ * Combat stats (attack, defense, speed, crit chance, max mana) are one
+ * packed long, usually an archetype's shared StatBlock; strategies read
+ * them through getStats() and the StatBlock accessors.
+ *
+ * Items and buffs (equip, addModifier) live in an immutable ModifierSet
+ * that also holds the aggregated effective stats. A change builds a new
+ * set incrementally and swaps the reference, so getStats() stays one
+ * field read however many modifiers are active, and never returns a
+ * half-updated total (getModifierVersion() counts changes). Timed
+ * modifiers count down in tickModifiers(), which GameFacade calls after
+ * each of the character's own actions.
+ *
+ * Keeps an incremental Zobrist-style hash of its HP, max HP, stats and strategy
+ * (see StateHash): every change XORs the old key out and the new key in,
+ * so GameFacade can hash the whole battle state per turn in O(1).
+ *
+ * Concurrent mode (setConcurrent) makes HP transitions atomic for
+ * characters hit by several threads at once: damage and heal are CAS
+ * loops on the health field (clamping at 0 and maxHealth inside the
+ * loop), and exactly one applyDamage call observes the death transition.
+ * The HP key is then folded into the hash when it is read rather than on
+ * every change, so an HP transition costs a single CAS. The default plain
+ * mode is unchanged and meant for single-threaded sessions.
+ */
+public class Character {
+
+    private String name;
+    private int health;
+    private int maxHealth;
+    private AttackStrategy strategy;
+    private long stats = StatBlock.NONE;   // packed, see StatBlock; base before modifiers
+    private ModifierSet modifiers;         // null until the first modifier; swapped whole
+    private ObserverChannel channel = ObserverChannel.NONE;
+    // Per-character dice, so strategy instances can stay stateless and shared
+    private Random random = new GameRandom();
+    private long stateHash;       // concurrent mode: without the HP key
+    private boolean concurrent;   // set before the character is shared
+
+    // EffectBatch bookkeeping: slot in the batch run whose epoch matches
+    // (a field read instead of a map lookup per effect)
+    int batchEpoch;
+    int batchSlot;
+
+    public Character(String name, int health) {
+        this.name = name;
+        this.health = health;
+        this.maxHealth = health;
+        this.stateHash = StateHash.hp(health) ^ StateHash.maxHp(health);
+    }
+
+    /**
+     * Returns this character to a freshly built state so a pool can hand it
+     * out again: new name and full health, no strategy, stats, modifiers
+     * or observers.
+     * The Random instance is kept (reseed it through getRandom() if needed).
+     */
+    void reset(String name, int health) {
+        this.name = name;
+        this.health = health;
+        this.maxHealth = health;
+        this.strategy = null;
+        this.stats = StatBlock.NONE;
+        this.modifiers = null;
+        this.channel = ObserverChannel.NONE;
+        this.stateHash = (concurrent ? 0 : StateHash.hp(health)) ^ StateHash.maxHp(health);
+    }
+
+    // --- Observer registration ---
+
+    /** Subscribes {@code obs} to every event type from this character only. */
+    public void addObserver(GameObserver obs) {
+        ownChannel().addObserver(obs);
+    }
+
+    /** Subscribes {@code obs} to the given event types from this character only. */
+    public void subscribe(GameObserver obs, GameEventType... types) {
+        ownChannel().subscribe(obs, types);
+    }
+
+    public void removeObserver(GameObserver obs) {
+        if (channel.isOwnedBy(this)) {
+            channel.removeObserver(obs);
+        }
+    }
+
+    /**
+     * Makes this character publish to a shared channel. Costs one reference;
+     * later changes to the channel apply to all of its members at once.
+     * Replaces any subscriptions made on this character directly.
+     */
+    public void joinChannel(ObserverChannel shared) {
+        channel = (shared == null) ? ObserverChannel.NONE : shared;
+    }
+
+    // For UndoLog: mute during speculation and put the exact channel back
+    ObserverChannel channel() {
+        return channel;
+    }
+
+    void restoreChannel(ObserverChannel saved) {
+        channel = saved;
+    }
+
+    // Private channel for this character's own subscriptions, layered over
+    // the shared channel it may have joined
+    private ObserverChannel ownChannel() {
+        if (!channel.isOwnedBy(this)) {
+            channel = new ObserverChannel(channel, this);
+        }
+        return channel;
+    }
+
+    /**
+     * Cheap guard for publishers: check this before building an expensive
+     * message so unobserved event types cost nothing.
+     */
+    public boolean hasObservers(GameEventType type) {
+        return channel.hasObservers(type);
+    }
+
+    public void notifyObservers(String msg) {
+        notifyObservers(GameEventType.MESSAGE, msg);
+    }
+
+    public void notifyObservers(GameEventType type, String msg) {
+        channel.publish(type, this, msg);
+    }
+
+    // --- Getters / Setters ---
+
+    public String getName() {
+        return name;
+    }
+
+    public int getHealth() {
+        return concurrent ? (int) Atomics.HEALTH.getAcquire(this) : health;
+    }
+
+    public boolean isConcurrent() {
+        return concurrent;
+    }
+
+    /**
+     * Switches between plain and atomic HP updates. Call it before the
+     * character is shared between threads; it survives pool resets.
+     */
+    public void setConcurrent(boolean concurrent) {
+        if (concurrent != this.concurrent) {
+            stateHash ^= StateHash.hp(health);
+            this.concurrent = concurrent;
+        }
+        VarHandle.fullFence();
+    }
+
+    public AttackStrategy getStrategy() {
+        return strategy;
+    }
+
+    public void setStrategy(AttackStrategy strategy) {
+        xorStateHash(StateHash.strategy(this.strategy) ^ StateHash.strategy(strategy));
+        this.strategy = strategy;
+    }
+
+    public int getMaxHealth() {
+        return maxHealth;
+    }
+
+    public Random getRandom() {
+        return random;
+    }
+
+    public void setRandom(Random random) {
+        this.random = random;
+    }
+
+    public void setMaxHealth(int maxHealth) {
+        xorStateHash(StateHash.maxHp(this.maxHealth) ^ StateHash.maxHp(maxHealth));
+        this.maxHealth = maxHealth;
+    }
+
+    /**
+     * Effective packed stat block (base plus modifiers); read it with the
+     * StatBlock accessors. Read it once per attack for a consistent view.
+     */
+    public long getStats() {
+        ModifierSet m = modifiers;
+        return m == null ? stats : m.stats;
+    }
+
+    /** The character's own stats, before modifiers. */
+    public long getBaseStats() {
+        return stats;
+    }
+
+    /** Sets the base stat block (StatBlock.of); set before the character is shared. */
+    public void setStats(long stats) {
+        long old = this.stats;
+        this.stats = stats;
+        ModifierSet cur;
+        do {
+            cur = modifiers;
+            if (cur == null) {
+                xorStateHash(StateHash.stats(old) ^ StateHash.stats(stats));
+                return;
+            }
+        } while (!swapModifiers(cur, cur.withBase(stats)));
+    }
+
+    public int getAttack() {
+        return StatBlock.attack(getStats());
+    }
+
+    public int getDefense() {
+        return StatBlock.defense(getStats());
+    }
+
+    public int getSpeed() {
+        return StatBlock.speed(getStats());
+    }
+
+    public int getCritChance() {
+        return StatBlock.critChance(getStats());
+    }
+
+    public int getMaxMana() {
+        return StatBlock.maxMana(getStats());
+    }
+
+    // --- Modifiers and equipment ---
+
+    /** Adds a modifier until it is removed. */
+    public void addModifier(Modifier m) {
+        addModifier(m, 0);
+    }
+
+    /** Adds a modifier for {@code turns} of this character's turns (0 = until removed). */
+    public void addModifier(Modifier m, int turns) {
+        ModifierSet cur;
+        do {
+            cur = modifiers;
+        } while (!swapModifiers(cur, orEmpty(cur).with(m, turns)));
+    }
+
+    /** Removes {@code m} (by identity); false if it wasn't active. */
+    public boolean removeModifier(Modifier m) {
+        ModifierSet cur;
+        ModifierSet next;
+        do {
+            cur = modifiers;
+            if (cur == null || (next = cur.without(m)) == cur) return false;
+        } while (!swapModifiers(cur, next));
+        return true;
+    }
+
+    /** Adds the item's modifiers until unequip(). */
+    public void equip(Equipment item) {
+        ModifierSet cur;
+        ModifierSet next;
+        do {
+            cur = modifiers;
+            next = orEmpty(cur);
+            for (Modifier m : item.modifiers()) {
+                next = next.with(m, 0);
+            }
+        } while (!swapModifiers(cur, next));
+    }
+
+    /** Removes the item's modifiers; false if none were active. */
+    public boolean unequip(Equipment item) {
+        ModifierSet cur;
+        ModifierSet next;
+        do {
+            cur = modifiers;
+            if (cur == null) return false;
+            next = cur;
+            for (Modifier m : item.modifiers()) {
+                next = next.without(m);
+            }
+            if (next == cur) return false;
+        } while (!swapModifiers(cur, next));
+        return true;
+    }
+
+    /** One of this character's turns passed: timed modifiers count down and may expire. */
+    public void tickModifiers() {
+        ModifierSet cur;
+        ModifierSet next;
+        do {
+            cur = modifiers;
+            if (cur == null || (next = cur.tick()) == cur) return;
+        } while (!swapModifiers(cur, next));
+    }
+
+    public List<Modifier> getModifiers() {
+        ModifierSet m = modifiers;
+        return m == null ? Collections.emptyList() : m.modifiers();
+    }
+
+    /** Turns left for an active timed modifier; 0 = permanent, -1 = not active. */
+    public int getModifierTurnsLeft(Modifier m) {
+        ModifierSet set = modifiers;
+        return set == null ? -1 : set.turnsLeft(m);
+    }
+
+    /** Changes on every modifier or base-stat change; equal versions mean equal totals. */
+    public long getModifierVersion() {
+        ModifierSet m = modifiers;
+        return m == null ? 0 : m.version;
+    }
+
+    private ModifierSet orEmpty(ModifierSet m) {
+        return m != null ? m : ModifierSet.empty(stats, 0);
+    }
+
+    // One reference write (a CAS in concurrent mode, retried by the caller)
+    private boolean swapModifiers(ModifierSet expected, ModifierSet next) {
+        if (concurrent) {
+            if (!Atomics.MODIFIERS.compareAndSet(this, expected, next)) return false;
+        } else {
+            modifiers = next;
+        }
+        xorStateHash(statsKey(expected) ^ statsKey(next));
+        return true;
+    }
+
+    private long statsKey(ModifierSet m) {
+        return m == null ? StateHash.stats(stats) : m.key;
+    }
+
+    // For UndoLog
+    ModifierSet modifierSet() {
+        return modifiers;
+    }
+
+    void restoreModifiers(ModifierSet saved) {
+        ModifierSet cur = modifiers;
+        if (saved != cur) {
+            modifiers = saved;
+            xorStateHash(statsKey(cur) ^ statsKey(saved));
+        }
+    }
+
+    // XOR is commutative, so concurrent atomic updates compose in any order
+    private void xorStateHash(long delta) {
+        if (concurrent) {
+            Atomics.STATE_HASH.getAndBitwiseXor(this, delta);
+        } else {
+            stateHash ^= delta;
+        }
+    }
+
+    /**
+     * Hash of HP, max HP, stats, strategy and (for GameRandom dice) RNG position.
+     * Two characters with the same hash are, with overwhelming probability,
+     * in the same state.
+     */
+    public long getStateHash() {
+        long h = concurrent
+                ? (long) Atomics.STATE_HASH.getVolatile(this) ^ StateHash.hp(getHealth())
+                : stateHash;
+        Random r = random;
+        return (r instanceof GameRandom)
+                ? h ^ StateHash.rng(((GameRandom) r).getPosition())
+                : h;
+    }
+
+    // --- Combat helpers ---
+
+    /**
+     * Puts HP and strategy back to recorded values (UndoLog); keeps the
+     * incremental hash in step and notifies nobody.
+     */
+    void restore(int hp, AttackStrategy strategy) {
+        setHealth(hp);
+        if (strategy != this.strategy) {
+            setStrategy(strategy);
+        }
+    }
+
+    // Silent HP write (UndoLog, EffectBatch); the caller owns the character
+    void setHealth(int hp) {
+        if (concurrent) {
+            Atomics.HEALTH.setRelease(this, hp);
+        } else {
+            stateHash ^= StateHash.hp(health) ^ StateHash.hp(hp);
+            health = hp;
+        }
+    }
+
+    public void takeDamage(int dmg) {
+        applyDamage(dmg);
+    }
+
+    /**
+     * Same as takeDamage, but tells the caller whether this call killed the
+     * character. In concurrent mode exactly one caller ever gets true.
+     * Negative damage counts as 0 (it must not heal past maxHealth).
+     */
+    public boolean applyDamage(int dmg) {
+        dmg = Math.max(0, dmg);
+        int before;
+        int after;
+        if (concurrent) {
+            do {
+                before = (int) Atomics.HEALTH.getAcquire(this);
+                if (before <= 0) return false; // dead can't take damage
+                after = Math.max(0, before - dmg);
+            } while (!Atomics.HEALTH.compareAndSet(this, before, after));
+        } else {
+            if (health <= 0) return false; // dead can't take damage
+            before = health;
+            health -= dmg;
+            if (health < 0) {
+                health = 0;
+            }
+            after = health;
+            stateHash ^= StateHash.hp(before) ^ StateHash.hp(after);
+        }
+        if (channel.hasObservers(GameEventType.HP_CHANGED)) {
+            notifyObservers(GameEventType.HP_CHANGED, name + " took " + dmg + " damage! (HP: " + after + ")");
+        }
+        return after == 0;
+    }
+
+    public void heal(int amount) {
+        int before;
+        int after;
+        if (concurrent) {
+            do {
+                before = (int) Atomics.HEALTH.getAcquire(this);
+                if (before <= 0) return; // dead can't heal
+                after = Math.min(before + amount, maxHealth);
+            } while (!Atomics.HEALTH.compareAndSet(this, before, after));
+        } else {
+            if (health <= 0) return; // dead can't heal
+            before = health;
+            health += amount;
+            if (health > maxHealth) {
+                health = maxHealth;
+            }
+            after = health;
+            stateHash ^= StateHash.hp(before) ^ StateHash.hp(after);
+        }
+        if (channel.hasObservers(GameEventType.HP_CHANGED)) {
+            notifyObservers(GameEventType.HP_CHANGED, name + " healed " + amount + " HP! (HP: " + after + ")");
+        }
+    }
+
+    public void attack(Character target) {
+        if (!isAlive()) {
+            notifyObservers(name + " is already defeated and cannot attack!");
+            return;
+        }
+        if (strategy == null) {
+            notifyObservers(name + " has no attack strategy set!");
+            return;
+        }
+        if (target == null || !target.isAlive()) {
+            notifyObservers(name + " tried to attack, but the target is already defeated!");
+            return;
+        }
+        strategy.execute(this, target);
+    }
+
+    /** Attacks every member an area strategy reaches (see AttackStrategy.executeArea). */
+    public void attack(Horde horde) {
+        if (!isAlive()) {
+            notifyObservers(name + " is already defeated and cannot attack!");
+            return;
+        }
+        if (strategy == null) {
+            notifyObservers(name + " has no attack strategy set!");
+            return;
+        }
+        if (horde == null || horde.isDefeated()) {
+            notifyObservers(name + " tried to attack, but the horde is already defeated!");
+            return;
+        }
+        if (!strategy.executeArea(this, horde)) {
+            notifyObservers(name + "'s " + strategy.getName() + " can't hit a whole horde!");
+        }
+    }
+
+    public boolean isAlive() {
+        return getHealth() > 0;
+    }
+
+    // Loaded on first use, so plain-mode characters never pay for VarHandle setup
+    private static final class Atomics {
+        static final VarHandle HEALTH;
+        static final VarHandle STATE_HASH;
+        static final VarHandle MODIFIERS;
+
+        static {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                HEALTH = lookup.findVarHandle(Character.class, "health", int.class);
+                STATE_HASH = lookup.findVarHandle(Character.class, "stateHash", long.class);
+                MODIFIERS = lookup.findVarHandle(Character.class, "modifiers", ModifierSet.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+    }
+}
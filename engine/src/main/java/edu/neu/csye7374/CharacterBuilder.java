@@ -0,0 +1,73 @@
+package edu.neu.csye7374;
+
+/**
+ * Design Pattern: Builder
+ * -----------------------
+ * Provides a fluent API to construct Character objects with
+ * configurable fields (name, health, stats, concurrent HP updates).
+ * Stats are kept packed (StatBlock); setStats() copies a whole block, e.g.
+ * an archetype's, and the single-stat setters adjust it.
+ */
+public class CharacterBuilder {
+    private String name = "Unnamed";
+    private int health = 100;
+    private long stats = StatBlock.NONE;
+    private boolean concurrent;
+
+    public CharacterBuilder setName(String name) {
+        this.name = name;
+        return this;
+    }
+
+    public CharacterBuilder setHealth(int health) {
+        this.health = health;
+        return this;
+    }
+
+    public CharacterBuilder setStats(long stats) {
+        this.stats = stats;
+        return this;
+    }
+
+    public CharacterBuilder setAttack(int attack) {
+        stats = StatBlock.withAttack(stats, attack);
+        return this;
+    }
+
+    public CharacterBuilder setDefense(int defense) {
+        stats = StatBlock.withDefense(stats, defense);
+        return this;
+    }
+
+    public CharacterBuilder setSpeed(int speed) {
+        stats = StatBlock.withSpeed(stats, speed);
+        return this;
+    }
+
+    public CharacterBuilder setCritChance(int critChance) {
+        stats = StatBlock.withCritChance(stats, critChance);
+        return this;
+    }
+
+    public CharacterBuilder setMaxMana(int maxMana) {
+        stats = StatBlock.withMaxMana(stats, maxMana);
+        return this;
+    }
+
+    /** See Character.setConcurrent. */
+    public CharacterBuilder setConcurrent(boolean concurrent) {
+        this.concurrent = concurrent;
+        return this;
+    }
+
+    public Character build() {
+        Character c = new Character(name, health);
+        if (stats != StatBlock.NONE) {
+            c.setStats(stats);
+        }
+        if (concurrent) {
+            c.setConcurrent(true);
+        }
+        return c;
+    }
+}
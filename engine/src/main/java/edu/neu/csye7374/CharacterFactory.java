@@ -0,0 +1,21 @@
+package edu.neu.csye7374;
+
+/**
+ * Design Pattern: Factory
+ * -----------------------
+ * Centralized creation logic for different character types.
+ */
+public class CharacterFactory {
+
+    public static Character createCharacter(String type, String name) {
+        return createCharacter(type, name, GameConfig.current());
+    }
+
+    public static Character createCharacter(String type, String name, GameConfig config) {
+        // Prototype: each type is an archetype in CharacterPrototypes;
+        // the factory stamps a new Character from it (player HP comes from
+        // the config, 100 by default; stats from the archetype's StatBlock).
+        // Register an Archetype to add types.
+        return CharacterPrototypes.get(type).create(name, config);
+    }
+}
@@ -0,0 +1,46 @@
+package edu.neu.csye7374;
+
+import java.util.ArrayDeque;
+
+/**
+ * Design Pattern: Object Pool
+ * ---------------------------
+ * Recycles Character instances for high-churn simulations and servers.
+ * acquire() hands out a released Character re-stamped from its archetype
+ * (see Character.reset) and only allocates when the pool is empty.
+ *
+ * Not thread-safe: use one pool per thread or per game session.
+ */
+public class CharacterPool {
+
+    private final ArrayDeque<Character> free;
+    private final int maxIdle;
+
+    public CharacterPool(int maxIdle) {
+        this.maxIdle = maxIdle;
+        this.free = new ArrayDeque<>(Math.min(maxIdle, 64));
+    }
+
+    public Character acquire(String type, String name, GameConfig config) {
+        return acquire(CharacterPrototypes.get(type), name, config);
+    }
+
+    public Character acquire(Archetype archetype, String name, GameConfig config) {
+        Character c = free.poll();
+        if (c == null) {
+            return archetype.create(name, config);
+        }
+        return archetype.reset(c, name, config);
+    }
+
+    /** Returns a Character to the pool; callers must drop their reference. */
+    public void release(Character c) {
+        if (c != null && free.size() < maxIdle) {
+            free.push(c);
+        }
+    }
+
+    public int idleCount() {
+        return free.size();
+    }
+}
@@ -0,0 +1,40 @@
+package edu.neu.csye7374;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Design Pattern: Prototype (registry)
+ * ------------------------------------
+ * Registry of archetypes by type name. Unknown types fall back to the
+ * warrior archetype, matching the old CharacterFactory behaviour.
+ */
+public final class CharacterPrototypes {
+
+    // Shipped archetypes are stat-neutral: stat blocks aren't part of
+    // GameConfig.fingerprint(), so non-neutral defaults would rebalance the
+    // game behind BattleCache's back. Register an Archetype with its own
+    // StatBlock.of(...) to experiment with stats.
+    public static final Archetype WARRIOR = new Archetype("warrior", false, "aggressive", StatBlock.NONE);
+    public static final Archetype MAGE = new Archetype("mage", false, "defensive", StatBlock.NONE);
+    public static final Archetype GOBLIN = new Archetype("goblin", true, "aggressive", StatBlock.NONE);
+
+    private static final Map<String, Archetype> REGISTRY = new ConcurrentHashMap<>();
+
+    static {
+        register(WARRIOR);
+        register(MAGE);
+        register(GOBLIN);
+    }
+
+    private CharacterPrototypes() {}
+
+    public static void register(Archetype archetype) {
+        REGISTRY.put(archetype.getType(), archetype);
+    }
+
+    public static Archetype get(String type) {
+        Archetype a = REGISTRY.get(type.toLowerCase());
+        return (a != null) ? a : WARRIOR;
+    }
+}
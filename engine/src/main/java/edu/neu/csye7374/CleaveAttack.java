@@ -0,0 +1,32 @@
+package edu.neu.csye7374;
+
+/**
+ * Design Pattern: Strategy (Concrete Strategy)
+ * -------------------------------------------
+ * Cleave: full damage to the front {@code width} ranks of a horde.
+ */
+public class CleaveAttack extends AreaAttack {
+
+    private final int width;
+
+    public CleaveAttack(GameConfig config, int width) {
+        super(config);
+        this.width = width;
+    }
+
+    @Override
+    protected void strike(Character self, Horde horde, int damage) {
+        int front = horde.front();
+        horde.damageRange(front, front + width, damage);
+    }
+
+    @Override
+    protected long shape() {
+        return width;
+    }
+
+    @Override
+    public String getName() {
+        return "Cleave";
+    }
+}
@@ -0,0 +1,176 @@
+package edu.neu.csye7374;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Design Pattern: Command (Invoker)
+ * ---------------------------------
+ * Stores commands and executes them later as a batch.
+ *
+ * ReversibleCommands can also be run one at a time with history:
+ * doCommand / undo / redo cost O(participants) through an UndoLog, and
+ * speculate() runs a what-if sequence with observers muted and rolls it
+ * back in time proportional to the moves made.
+ *
+ * executeAll(ResolutionMode) runs the queued batch as a pipeline instead:
+ * validate and resolve every PhasedCommand into an EffectBatch, apply all
+ * HP changes in one pass, then publish one coalesced notification per
+ * channel and event type. Other commands (and strategies that can't
+ * resolve ahead of time) are executed directly: in SEQUENTIAL mode at
+ * their position, after flushing the effects resolved so far; in
+ * SIMULTANEOUS mode after the batch has landed.
+ */
+public class CommandInvoker {
+
+    private List<Command> commands = new ArrayList<>();
+
+    private final int undoCapacity;
+    private UndoLog undoLog;          // allocated on first doCommand
+
+    private EffectBatch batch;        // allocated on first phased run
+    private boolean[] valid = new boolean[0];
+
+    public CommandInvoker() {
+        this(64);
+    }
+
+    /** {@code undoCapacity}: commands of history preallocated (grows if exceeded). */
+    public CommandInvoker(int undoCapacity) {
+        this.undoCapacity = undoCapacity;
+    }
+
+    public void addCommand(Command cmd) {
+        commands.add(cmd);
+    }
+
+    public void executeAll() {
+        for (Command cmd : commands) {
+            cmd.execute();
+        }
+        commands.clear();
+    }
+
+    /** Phased pipeline over the queued commands (see class comment). */
+    public void executeAll(ResolutionMode mode) {
+        if (batch == null) {
+            batch = new EffectBatch();
+        }
+        batch.begin(mode);
+        if (mode == ResolutionMode.SIMULTANEOUS) {
+            runSimultaneous();
+        } else {
+            runSequential();
+        }
+        commands.clear();
+    }
+
+    private void runSequential() {
+        for (Command cmd : commands) {
+            if (cmd instanceof PhasedCommand) {
+                PhasedCommand p = (PhasedCommand) cmd;
+                if (!p.validate(batch) || p.resolve(batch)) continue;
+            }
+            flush(ResolutionMode.SEQUENTIAL);      // barrier: land what's resolved, then run it live
+            cmd.execute();
+        }
+        flush(ResolutionMode.SEQUENTIAL);
+    }
+
+    private void runSimultaneous() {
+        int n = commands.size();
+        if (valid.length < n) {
+            valid = new boolean[n];
+        }
+        // Validate everything against the batch-start state first...
+        for (int i = 0; i < n; i++) {
+            Command cmd = commands.get(i);
+            valid[i] = !(cmd instanceof PhasedCommand) || ((PhasedCommand) cmd).validate(batch);
+        }
+        // ...then roll; whatever can't be resolved runs once the batch has landed
+        List<Command> live = null;
+        for (int i = 0; i < n; i++) {
+            Command cmd = commands.get(i);
+            if (!valid[i]) continue;
+            if (!(cmd instanceof PhasedCommand) || !((PhasedCommand) cmd).resolve(batch)) {
+                if (live == null) live = new ArrayList<>();
+                live.add(cmd);
+            }
+        }
+        flush(ResolutionMode.SIMULTANEOUS);
+        if (live != null) {
+            for (Command cmd : live) {
+                cmd.execute();
+            }
+        }
+    }
+
+    private void flush(ResolutionMode mode) {
+        batch.apply();
+        batch.publish();
+        batch.begin(mode);
+    }
+
+    // --- History ---
+
+    /** Executes {@code cmd} and pushes its deltas; clears the redo history. */
+    public void doCommand(ReversibleCommand cmd) {
+        UndoLog log = log();
+        log.begin();
+        cmd.capture(log);
+        cmd.execute();
+        log.end();
+    }
+
+    /**
+     * Undoes the newest command. Returns false if there is none, or if it
+     * was a real move that ended the game (its result has been reported).
+     */
+    public boolean undo() {
+        return undoLog != null && undoLog.undo();
+    }
+
+    public boolean redo() {
+        return undoLog != null && undoLog.redo();
+    }
+
+    public boolean canUndo() {
+        return undoLog != null && undoLog.canUndo();
+    }
+
+    public boolean canRedo() {
+        return undoLog != null && undoLog.redoable() > 0;
+    }
+
+    /** Forgets undo/redo history (e.g. after the session starts a new game). */
+    public void clearHistory() {
+        if (undoLog != null) {
+            undoLog.clear();
+        }
+    }
+
+    /**
+     * What-if evaluation: runs {@code body} (which calls doCommand any
+     * number of times and inspects the result), then undoes every command
+     * it made. Participants publish nothing while captured in speculation.
+     * Speculations nest; the redo history is discarded.
+     */
+    public <T> T speculate(Function<CommandInvoker, T> body) {
+        UndoLog log = log();
+        int mark = log.frames();
+        log.enterSpeculation();
+        try {
+            return body.apply(this);
+        } finally {
+            log.exitSpeculation(mark);
+        }
+    }
+
+    private UndoLog log() {
+        if (undoLog == null) {
+            undoLog = new UndoLog(undoCapacity);
+        }
+        return undoLog;
+    }
+}
@@ -0,0 +1,183 @@
+package edu.neu.csye7374;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stress harness for Character's concurrent HP mode.
+ *
+ *  1. Conservation: many threads damage and heal one target whose HP is
+ *     large enough that nothing clamps; the final HP must equal start -
+ *     damage + heals, and the state hash must match the final HP. The same
+ *     run in plain mode usually shows lost updates.
+ *  2. Death: threads hammer a small target with damage and heals; HP must
+ *     end at exactly 0 and exactly one applyDamage call may report the kill.
+ *  3. Uncontended cost, plain vs concurrent, single-threaded: bare
+ *     damage/heal pairs, and attack() through a shared strategy (the game path).
+ *
+ * Usage: ConcurrentCharacterStress [--threads n] [--ops n] [--rounds n]
+ * Exits with status 1 if a concurrent-mode check fails.
+ */
+public class ConcurrentCharacterStress {
+
+    public static void main(String[] args) throws InterruptedException {
+        int threads = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+        int ops = 1_000_000;
+        int rounds = 200;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--threads": threads = Integer.parseInt(args[++i]); break;
+                case "--ops":     ops = Integer.parseInt(args[++i]); break;
+                case "--rounds":  rounds = Integer.parseInt(args[++i]); break;
+                default:
+                    System.err.println("[Warning] Unknown option: " + args[i]);
+            }
+        }
+
+        boolean ok = conservation(true, threads, ops);
+        conservation(false, threads, ops);
+        ok &= deaths(threads, rounds);
+        uncontended(ops * 10);
+        if (!ok) {
+            System.exit(1);
+        }
+    }
+
+    private static boolean conservation(boolean concurrent, int threads, int ops)
+            throws InterruptedException {
+        int start = 1_000_000_000;
+        Character target = new CharacterBuilder().setName("Target").setHealth(Integer.MAX_VALUE)
+                .setConcurrent(concurrent).build();
+        target.takeDamage(Integer.MAX_VALUE - start);   // HP = start, far from both caps
+
+        AtomicLong expectedDelta = new AtomicLong();
+        run(threads, t -> {
+            SplittableRandom rnd = new SplittableRandom(t);
+            long delta = 0;
+            for (int n = 0; n < ops; n++) {
+                int amount = 1 + rnd.nextInt(20);
+                if (rnd.nextBoolean()) {
+                    target.takeDamage(amount);
+                    delta -= amount;
+                } else {
+                    target.heal(amount);
+                    delta += amount;
+                }
+            }
+            expectedDelta.addAndGet(delta);
+        });
+
+        long expected = start + expectedDelta.get();
+        long hash = StateHash.hp(target.getHealth()) ^ StateHash.maxHp(Integer.MAX_VALUE)
+                ^ StateHash.rng(((GameRandom) target.getRandom()).getPosition());
+        boolean hpOk = target.getHealth() == expected;
+        boolean hashOk = target.getStateHash() == hash;
+        System.out.printf("[Stress] conservation %-10s %d threads x %,d ops: HP %,d expected %,d (lost %,d)  hash %s%n",
+                concurrent ? "concurrent" : "plain", threads, ops, target.getHealth(), expected,
+                Math.abs(expected - target.getHealth()), hashOk ? "ok" : "MISMATCH");
+        return hpOk && hashOk;
+    }
+
+    private static boolean deaths(int threads, int rounds) throws InterruptedException {
+        int failures = 0;
+        for (int r = 0; r < rounds; r++) {
+            Character target = new CharacterBuilder().setName("Target").setHealth(500)
+                    .setConcurrent(true).build();
+            AtomicInteger kills = new AtomicInteger();
+            run(threads, t -> {
+                SplittableRandom rnd = new SplittableRandom(t * 31L + 7);
+                while (target.isAlive()) {
+                    if (rnd.nextInt(4) == 0) {
+                        target.heal(1 + rnd.nextInt(5));
+                    } else if (target.applyDamage(1 + rnd.nextInt(10))) {
+                        kills.incrementAndGet();
+                    }
+                }
+                // Nothing may revive or re-kill a dead character
+                target.heal(100);
+                if (target.applyDamage(1)) kills.incrementAndGet();
+            });
+            boolean ok = target.getHealth() == 0 && kills.get() == 1
+                    && target.getStateHash() == (StateHash.hp(0) ^ StateHash.maxHp(500)
+                            ^ StateHash.rng(((GameRandom) target.getRandom()).getPosition()));
+            if (!ok) {
+                failures++;
+                System.out.printf("[Stress] death round %d FAILED: HP %d, kills %d%n",
+                        r, target.getHealth(), kills.get());
+            }
+        }
+        System.out.printf("[Stress] death        concurrent %d threads x %d rounds: %s%n",
+                threads, rounds, failures == 0 ? "exactly one kill each, HP 0" : failures + " failures");
+        return failures == 0;
+    }
+
+    private static void uncontended(int ops) {
+        for (int warm = 0; warm < 3; warm++) {
+            double plain = opsPerSecond(false, ops);
+            double atomic = opsPerSecond(true, ops);
+            double plainAttack = attacksPerSecond(false, ops);
+            double atomicAttack = attacksPerSecond(true, ops);
+            if (warm == 2) {
+                System.out.printf("[Stress] uncontended  damage/heal: plain %,.0f ops/s  concurrent %,.0f ops/s (%.0f%%)%n",
+                        plain, atomic, 100 * atomic / plain);
+                System.out.printf("[Stress] uncontended  attack():    plain %,.0f ops/s  concurrent %,.0f ops/s (%.0f%%)%n",
+                        plainAttack, atomicAttack, 100 * atomicAttack / plainAttack);
+            }
+        }
+    }
+
+    private static double attacksPerSecond(boolean concurrent, int ops) {
+        GameConfig config = GameConfig.current();
+        Character attacker = new CharacterBuilder().setHealth(100).setConcurrent(concurrent).build();
+        Character target = new CharacterBuilder().setHealth(Integer.MAX_VALUE).setConcurrent(concurrent).build();
+        attacker.setStrategy(config.strategies().aggressiveCrit());
+        attacker.getRandom().setSeed(1);
+        long start = System.nanoTime();
+        for (int n = 0; n < ops; n++) {
+            attacker.attack(target);
+        }
+        long elapsed = System.nanoTime() - start;
+        if (!target.isAlive()) throw new IllegalStateException("target died");
+        return ops / (elapsed / 1e9);
+    }
+
+    private static double opsPerSecond(boolean concurrent, int ops) {
+        Character c = new CharacterBuilder().setHealth(1_000_000).setConcurrent(concurrent).build();
+        long start = System.nanoTime();
+        for (int n = 0; n < ops; n++) {
+            c.takeDamage(3);
+            c.heal(3);
+        }
+        long elapsed = System.nanoTime() - start;
+        if (c.getHealth() != 1_000_000) throw new IllegalStateException("HP drifted");
+        return 2.0 * ops / (elapsed / 1e9);
+    }
+
+    private interface Worker {
+        void run(int thread);
+    }
+
+    // Starts all threads together so they really contend
+    private static void run(int threads, Worker worker) throws InterruptedException {
+        CountDownLatch go = new CountDownLatch(1);
+        Thread[] pool = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            final int id = t;
+            pool[t] = new Thread(() -> {
+                try {
+                    go.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                worker.run(id);
+            });
+            pool[t].start();
+        }
+        go.countDown();
+        for (Thread th : pool) {
+            th.join();
+        }
+    }
+}
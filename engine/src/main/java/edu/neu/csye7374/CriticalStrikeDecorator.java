@@ -0,0 +1,57 @@
+package edu.neu.csye7374;
+
+public class CriticalStrikeDecorator extends AttackDecorator {
+
+    private final GameConfig config; // null = follow GameConfig.current()
+
+    public CriticalStrikeDecorator(AttackStrategy inner) {
+        this(inner, null);
+    }
+
+    public CriticalStrikeDecorator(AttackStrategy inner, GameConfig config) {
+        super(inner);
+        this.config = config;
+    }
+
+    @Override
+    public void execute(Character self, Character target) {
+        inner.execute(self, target);
+        if (target != null && target.isAlive()) {
+            GameConfig cfg = (config != null) ? config : GameConfig.current();
+            // 30% chance (plus the attacker's crit stat) for extra 5 damage (by default)
+            if (self.getRandom().nextInt(100) < StatBlock.critChance(cfg.getCritChance(), self.getStats())) {
+                int extra = cfg.getCritDamage();
+                target.takeDamage(extra);
+                if (self.hasObservers(GameEventType.CRIT)) {
+                    self.notifyObservers(GameEventType.CRIT, "\u001B[35mCritical strike! "
+                            + self.getName() + " dealt extra " + extra + " damage!\u001B[0m");
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean resolve(Character self, Character target, EffectBatch batch) {
+        if (!inner.resolve(self, target, batch)) return false;
+        if (batch.isAlive(target)) {
+            GameConfig cfg = (config != null) ? config : GameConfig.current();
+            if (self.getRandom().nextInt(100) < StatBlock.critChance(cfg.getCritChance(), self.getStats())) {
+                batch.damage(self, target, cfg.getCritDamage(), GameEventType.CRIT);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public long fingerprint() {
+        long inner = this.inner.fingerprint();
+        if (inner == 0) return 0;
+        GameConfig cfg = (config != null) ? config : GameConfig.current();
+        return StateHash.mix(inner ^ Long.rotateLeft(cfg.fingerprint(), 17) ^ "+Crit".hashCode());
+    }
+
+    @Override
+    public String getName() {
+        return inner.getName() + "+Crit";
+    }
+}
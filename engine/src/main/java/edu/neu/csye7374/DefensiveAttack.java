@@ -0,0 +1,57 @@
+package edu.neu.csye7374;
+
+/**
+ * Design Pattern: Strategy (Concrete Strategy)
+ * -------------------------------------------
+ * Defensive behavior: instead of attacking, the character heals itself.
+ */
+public class DefensiveAttack implements AttackStrategy {
+
+    private final GameConfig config; // null = follow GameConfig.current()
+
+    public DefensiveAttack() {
+        this(null);
+    }
+
+    /** Pins this strategy to one config snapshot (e.g. a game session's). */
+    public DefensiveAttack(GameConfig config) {
+        this.config = config;
+    }
+
+    @Override
+    public void execute(Character self, Character target) {
+        if (!self.isAlive()) return;
+
+        GameConfig cfg = (config != null) ? config : GameConfig.current();
+        int min = cfg.getDefensiveMinHeal();
+        int healAmt = self.getRandom().nextInt(cfg.getDefensiveMaxHeal() - min + 1) + min; // 8–14 inclusive by default
+        self.heal(healAmt);
+        if (self.hasObservers(GameEventType.STRATEGY)) {
+            self.notifyObservers(GameEventType.STRATEGY,
+                    self.getName() + " focused defensively and healed "
+                            + healAmt + " HP!");
+        }
+    }
+
+    @Override
+    public boolean resolve(Character self, Character target, EffectBatch batch) {
+        if (!batch.isAlive(self)) return true;
+
+        GameConfig cfg = (config != null) ? config : GameConfig.current();
+        int min = cfg.getDefensiveMinHeal();
+        int healAmt = self.getRandom().nextInt(cfg.getDefensiveMaxHeal() - min + 1) + min;
+        batch.heal(self, self, healAmt, GameEventType.STRATEGY);
+        return true;
+    }
+
+    @Override
+    public long fingerprint() {
+        GameConfig cfg = (config != null) ? config : GameConfig.current();
+        return StateHash.mix(cfg.fingerprint() + "Defensive".hashCode());
+    }
+
+    @Override
+    public String getName() {
+        return "Defensive";
+    }
+}
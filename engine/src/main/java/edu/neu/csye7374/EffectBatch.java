@@ -0,0 +1,234 @@
+package edu.neu.csye7374;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Effects rolled by a phased command batch, applied and published later.
+ *
+ * Resolve phase: PhasedCommands (and AttackStrategy.resolve) record damage
+ * and heals here and read projected HP instead of the characters' own, so
+ * no Character changes and no observer runs while the batch is resolved.
+ * In SEQUENTIAL mode projected HP follows each recorded effect; in
+ * SIMULTANEOUS mode it stays at the batch-start value.
+ *
+ * apply() then writes each touched character's final HP once, and
+ * publish() sends one message per (channel, event type) holding every line
+ * of the batch. Only effects someone observes are kept for narration, and
+ * plain heals (HP_CHANGED) appear only in the per-character HP summary.
+ *
+ * Reused across batches; not thread-safe. Characters must not be changed
+ * by anyone else between resolve and apply, nor be part of two batches at
+ * once (a character remembers its slot for the current batch epoch).
+ */
+public final class EffectBatch {
+
+    private static final AtomicInteger EPOCHS = new AtomicInteger();
+
+    // Narration first, then the HP summary
+    private static final GameEventType[] PUBLISH_ORDER = {
+        GameEventType.ATTACK, GameEventType.CRIT, GameEventType.STRATEGY,
+        GameEventType.MESSAGE, GameEventType.HP_CHANGED
+    };
+
+    private ResolutionMode mode = ResolutionMode.SEQUENTIAL;
+
+    // Effects, in resolve order (parallel arrays)
+    private Character[] sources = new Character[64];
+    private Character[] targets = new Character[64];
+    private int[] amounts = new int[64];          // > 0 damage, < 0 heal
+    private GameEventType[] types = new GameEventType[64];
+    private String[] messages = new String[64];   // rejected commands only
+    private int size;
+
+    // Touched characters; slot i <=> chars[i].batchSlot == i under this epoch
+    private int epoch;
+    private Character[] chars = new Character[16];
+    private int[] startHp = new int[16];
+    private int[] hp = new int[16];               // SEQUENTIAL: running projection
+    private int[] net = new int[16];              // SIMULTANEOUS: summed heal - damage
+    private int charCount;
+
+    private final Map<ObserverChannel, StringBuilder[]> pending = new IdentityHashMap<>();
+
+    void begin(ResolutionMode mode) {
+        this.mode = mode;
+        Arrays.fill(sources, 0, size, null);
+        Arrays.fill(targets, 0, size, null);
+        Arrays.fill(messages, 0, size, null);
+        Arrays.fill(chars, 0, charCount, null);
+        size = 0;
+        if (charCount > 0 || epoch == 0) {
+            int e;
+            do {
+                e = EPOCHS.incrementAndGet();
+            } while (e == 0);          // 0 = never in a batch
+            epoch = e;
+            charCount = 0;
+        }
+    }
+
+    public ResolutionMode getMode() {
+        return mode;
+    }
+
+    // --- Projected state (resolve phase) ---
+
+    /** HP as the batch sees it so far (see class comment). */
+    public int projectedHealth(Character c) {
+        if (c.batchEpoch != epoch) return c.getHealth();
+        int slot = c.batchSlot;
+        return mode == ResolutionMode.SEQUENTIAL ? hp[slot] : startHp[slot];
+    }
+
+    public boolean isAlive(Character c) {
+        return c != null && projectedHealth(c) > 0;
+    }
+
+    private int slot(Character c) {
+        if (c.batchEpoch == epoch) return c.batchSlot;
+        if (charCount == chars.length) {
+            int n = charCount * 2;
+            chars = Arrays.copyOf(chars, n);
+            startHp = Arrays.copyOf(startHp, n);
+            hp = Arrays.copyOf(hp, n);
+            net = Arrays.copyOf(net, n);
+        }
+        int s = charCount++;
+        chars[s] = c;
+        startHp[s] = hp[s] = c.getHealth();
+        net[s] = 0;
+        c.batchEpoch = epoch;
+        c.batchSlot = s;
+        return s;
+    }
+
+    // --- Recording ---
+
+    /** {@code target} takes {@code amount}; narrated as ATTACK or CRIT. */
+    public void damage(Character source, Character target, int amount, GameEventType type) {
+        int s = slot(target);
+        if (hp[s] > 0) hp[s] = Math.max(0, hp[s] - amount);     // dead can't take damage
+        net[s] -= amount;
+        if (source.hasObservers(type)) {          // lines nobody will read aren't kept
+            add(source, target, amount, type, null);
+        }
+    }
+
+    /** {@code target} heals {@code amount}; narrated as STRATEGY, or only in the HP summary (HP_CHANGED). */
+    public void heal(Character source, Character target, int amount, GameEventType type) {
+        int s = slot(target);
+        if (hp[s] > 0) hp[s] = Math.min(target.getMaxHealth(), hp[s] + amount);  // dead can't heal
+        net[s] += amount;
+        if (type != GameEventType.HP_CHANGED && source.hasObservers(type)) {
+            add(source, target, -amount, type, null);
+        }
+    }
+
+    /** A command that failed validation; {@code message} may be null (silent). */
+    public void reject(Character source, String message) {
+        if (message != null) {
+            add(source, null, 0, GameEventType.MESSAGE, message);
+        }
+    }
+
+    private void add(Character source, Character target, int amount, GameEventType type, String message) {
+        if (size == sources.length) {
+            int n = size * 2;
+            sources = Arrays.copyOf(sources, n);
+            targets = Arrays.copyOf(targets, n);
+            amounts = Arrays.copyOf(amounts, n);
+            types = Arrays.copyOf(types, n);
+            messages = Arrays.copyOf(messages, n);
+        }
+        sources[size] = source;
+        targets[size] = target;
+        amounts[size] = amount;
+        types[size] = type;
+        messages[size] = message;
+        size++;
+    }
+
+    // --- Apply and publish ---
+
+    /** Writes every touched character's final HP (one write each). */
+    void apply() {
+        for (int s = 0; s < charCount; s++) {
+            int after = finalHealth(s);
+            if (after != chars[s].getHealth()) {
+                chars[s].setHealth(after);
+            }
+        }
+    }
+
+    private int finalHealth(int s) {
+        if (mode == ResolutionMode.SEQUENTIAL || startHp[s] <= 0) return hp[s];
+        return Math.max(0, Math.min(chars[s].getMaxHealth(), startHp[s] + net[s]));
+    }
+
+    /** One publish per (channel, event type) with all of the batch's lines. */
+    void publish() {
+        for (int i = 0; i < size; i++) {
+            Character source = sources[i];
+            GameEventType type = types[i];
+            StringBuilder line = line(source.channel(), type);
+            if (line == null) continue;
+            Character target = targets[i];
+            int amount = amounts[i];
+            switch (type) {
+                case ATTACK:
+                    line.append(source.getName()).append(" attacked ").append(target.getName())
+                        .append(" for ").append(amount).append(" damage!");
+                    break;
+                case CRIT:
+                    line.append("\u001B[35mCritical strike! ").append(source.getName())
+                        .append(" dealt extra ").append(amount).append(" damage!\u001B[0m");
+                    break;
+                case STRATEGY:
+                    line.append(source.getName()).append(" healed ").append(-amount).append(" HP!");
+                    break;
+                default:
+                    line.append(messages[i]);
+            }
+        }
+        for (int s = 0; s < charCount; s++) {
+            Character c = chars[s];
+            int after = c.getHealth();
+            if (after == startHp[s]) continue;
+            StringBuilder line = line(c.channel(), GameEventType.HP_CHANGED);
+            if (line != null) {
+                line.append(c.getName()).append(" HP: ").append(startHp[s]).append(" -> ").append(after);
+            }
+        }
+
+        for (Map.Entry<ObserverChannel, StringBuilder[]> e : pending.entrySet()) {
+            StringBuilder[] byType = e.getValue();
+            for (GameEventType type : PUBLISH_ORDER) {
+                StringBuilder sb = byType[type.ordinal()];
+                if (sb != null) {
+                    e.getKey().publish(type, null, sb.toString());
+                }
+            }
+        }
+        pending.clear();
+    }
+
+    // Builder for the next line of (channel, type); null if nobody listens
+    private StringBuilder line(ObserverChannel channel, GameEventType type) {
+        if (!channel.hasObservers(type)) return null;
+        StringBuilder[] byType = pending.get(channel);
+        if (byType == null) {
+            byType = new StringBuilder[GameEventType.all().length];
+            pending.put(channel, byType);
+        }
+        StringBuilder sb = byType[type.ordinal()];
+        if (sb == null) {
+            sb = byType[type.ordinal()] = new StringBuilder(256);
+        } else {
+            sb.append('\n');
+        }
+        return sb;
+    }
+}
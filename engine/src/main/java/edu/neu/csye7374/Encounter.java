@@ -0,0 +1,64 @@
+package edu.neu.csye7374;
+
+/**
+ * One fight of a Campaign: which enemy, how tough, with which strategy,
+ * and the seed for its dice. Immutable; Campaign.encounter(index) derives
+ * it from the campaign seed alone, so encounters are never stored.
+ */
+public final class Encounter {
+
+    private final long index;
+    private final String enemyName;
+    private final int enemyHealth;
+    private final String strategyName;   // SharedStrategies.byName key
+    private final int damagePercent;     // of the config's aggressive damage
+    private final boolean boss;
+    private final long seed;
+
+    Encounter(long index, String enemyName, int enemyHealth, String strategyName, int damagePercent,
+              boolean boss, long seed) {
+        this.index = index;
+        this.enemyName = enemyName;
+        this.enemyHealth = enemyHealth;
+        this.strategyName = strategyName;
+        this.damagePercent = damagePercent;
+        this.boss = boss;
+        this.seed = seed;
+    }
+
+    /** Position in the campaign, from 0. */
+    public long getIndex() {
+        return index;
+    }
+
+    public String getEnemyName() {
+        return enemyName;
+    }
+
+    public int getEnemyHealth() {
+        return enemyHealth;
+    }
+
+    public String getStrategyName() {
+        return strategyName;
+    }
+
+    /** Enemy damage relative to the config's (100 = unchanged); see Campaign.enemyStrategy. */
+    public int getDamagePercent() {
+        return damagePercent;
+    }
+
+    public boolean isBoss() {
+        return boss;
+    }
+
+    /** Seed for the enemy's dice. */
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public String toString() {
+        return "#" + (index + 1) + " " + enemyName + " (" + enemyHealth + " HP, " + strategyName + ", " + damagePercent + "% damage)";
+    }
+}
@@ -0,0 +1,38 @@
+package edu.neu.csye7374;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An item: a name and the permanent modifiers it grants while equipped
+ * (Character.equip / unequip). Immutable, so one instance can be shared by
+ * every character carrying the same item.
+ */
+public final class Equipment {
+
+    private final String name;
+    private final Modifier[] modifiers;
+
+    public Equipment(String name, Modifier... modifiers) {
+        this.name = name;
+        this.modifiers = modifiers.clone();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<Modifier> getModifiers() {
+        return Collections.unmodifiableList(Arrays.asList(modifiers));
+    }
+
+    Modifier[] modifiers() {
+        return modifiers;
+    }
+
+    @Override
+    public String toString() {
+        return name + Arrays.toString(modifiers);
+    }
+}
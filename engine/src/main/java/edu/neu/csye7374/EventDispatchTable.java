@@ -0,0 +1,88 @@
+package edu.neu.csye7374;
+
+import java.util.Arrays;
+
+/**
+ * Design Pattern: Observer (precomputed dispatch)
+ * -----------------------------------------------
+ * Immutable per-event-type observer arrays. All filtering happens when a
+ * subscription is added or removed, which builds a new table; publishing
+ * just indexes the array for the event's type, and an event nobody
+ * listens to costs one array-length check.
+ *
+ * Being immutable, one table can be shared by any number of publishers.
+ */
+public final class EventDispatchTable {
+
+    private static final GameObserver[] NONE = new GameObserver[0];
+
+    public static final EventDispatchTable EMPTY = new EventDispatchTable(emptyRows());
+
+    private final GameObserver[][] byType;
+
+    private EventDispatchTable(GameObserver[][] byType) {
+        this.byType = byType;
+    }
+
+    private static GameObserver[][] emptyRows() {
+        GameObserver[][] rows = new GameObserver[GameEventType.all().length][];
+        Arrays.fill(rows, NONE);
+        return rows;
+    }
+
+    /** Observers for one event type; never null, never to be modified. */
+    public GameObserver[] observers(GameEventType type) {
+        return byType[type.ordinal()];
+    }
+
+    public boolean hasObservers(GameEventType type) {
+        return byType[type.ordinal()].length != 0;
+    }
+
+    public boolean isEmpty() {
+        for (GameObserver[] row : byType) {
+            if (row.length != 0) return false;
+        }
+        return true;
+    }
+
+    /** New table with {@code obs} added for every event type. */
+    public EventDispatchTable withAll(GameObserver obs) {
+        return with(obs, GameEventType.all());
+    }
+
+    /** New table with {@code obs} added for the given event types. */
+    public EventDispatchTable with(GameObserver obs, GameEventType... types) {
+        GameObserver[][] rows = byType.clone();
+        for (GameEventType t : types) {
+            GameObserver[] row = rows[t.ordinal()];
+            GameObserver[] grown = Arrays.copyOf(row, row.length + 1);
+            grown[row.length] = obs;
+            rows[t.ordinal()] = grown;
+        }
+        return new EventDispatchTable(rows);
+    }
+
+    /** New table with every subscription of {@code obs} removed. */
+    public EventDispatchTable without(GameObserver obs) {
+        GameObserver[][] rows = byType.clone();
+        for (int t = 0; t < rows.length; t++) {
+            GameObserver[] row = rows[t];
+            int n = 0;
+            GameObserver[] kept = new GameObserver[row.length];
+            for (GameObserver o : row) {
+                if (o != obs) kept[n++] = o;
+            }
+            rows[t] = (n == 0) ? NONE : (n == row.length ? row : Arrays.copyOf(kept, n));
+        }
+        return new EventDispatchTable(rows);
+    }
+
+    /** Delivers one event to the observers subscribed to its type. */
+    public void publish(GameEventType type, Character source, String message) {
+        GameObserver[] row = byType[type.ordinal()];
+        for (int i = 0; i < row.length; i++) {
+            row[i].onEvent(type, source, message);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package edu.neu.csye7374;
+
+/**
+ * Design Pattern: Strategy (Concrete Strategy)
+ * -------------------------------------------
+ * Fireball: lands on a random rank at or behind the horde's front and
+ * deals full damage to every member within {@code radius} ranks of it.
+ */
+public class FireballAttack extends AreaAttack {
+
+    private final int radius;
+
+    public FireballAttack(GameConfig config, int radius) {
+        super(config);
+        this.radius = radius;
+    }
+
+    @Override
+    protected void strike(Character self, Horde horde, int damage) {
+        int front = horde.front();
+        int center = front + self.getRandom().nextInt(horde.size() - front);
+        horde.damageRange(center - radius, center + radius + 1, damage);
+    }
+
+    @Override
+    protected long shape() {
+        return radius;
+    }
+
+    @Override
+    public String getName() {
+        return "Fireball";
+    }
+}
@@ -0,0 +1,257 @@
+package edu.neu.csye7374;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+/**
+ * Design Pattern: Singleton (holder of the current snapshot)
+ * Design Pattern: Prototype (withDifficulty / toBuilder copies)
+ * -------------------------------------------------------------
+ * Immutable game configuration: difficulty, goblin HP table, damage and
+ * heal ranges, crit chance and heal amount.
+ *
+ * The process-wide "current" snapshot sits behind a volatile reference,
+ * so the hot path reads it without locking and GameConfigWatcher can swap
+ * in a reloaded file atomically. Each game session copies the snapshot it
+ * started with (see GameFacade.startNewGame), so concurrent sessions never
+ * overwrite each other's difficulty.
+ */
+public final class GameConfig {
+
+    private static final GameConfig DEFAULTS = new GameConfigBuilder().build();
+
+    private static volatile GameConfig current = DEFAULTS;
+
+    private final int difficulty;
+    private final int[] goblinHp;        // index = difficulty, 0 = fallback
+    private final int playerHealth;
+    private final int aggressiveMinDamage;
+    private final int aggressiveMaxDamage;
+    private final int defensiveMinHeal;
+    private final int defensiveMaxHeal;
+    private final int critChance;        // percent
+    private final int critDamage;
+    private final int healAmount;
+
+    // Strategies pinned to this snapshot, created on first use. Immutable,
+    // so a racy double initialisation is harmless.
+    private SharedStrategies strategies;
+    private long fingerprint;            // 0 = not computed yet (same racy caching)
+
+    GameConfig(GameConfigBuilder b) {
+        if (b.aggressiveMinDamage > b.aggressiveMaxDamage || b.aggressiveMinDamage < 0) {
+            throw new IllegalArgumentException("Invalid aggressive damage range: "
+                    + b.aggressiveMinDamage + "-" + b.aggressiveMaxDamage);
+        }
+        if (b.defensiveMinHeal > b.defensiveMaxHeal || b.defensiveMinHeal < 0) {
+            throw new IllegalArgumentException("Invalid defensive heal range: "
+                    + b.defensiveMinHeal + "-" + b.defensiveMaxHeal);
+        }
+        if (b.critChance < 0 || b.critChance > 100) {
+            throw new IllegalArgumentException("Crit chance must be 0-100: " + b.critChance);
+        }
+        if (b.playerHealth <= 0) {
+            throw new IllegalArgumentException("Player health must be positive: " + b.playerHealth);
+        }
+        for (int d = 0; d < b.goblinHp.length; d++) {
+            if (b.goblinHp[d] <= 0) {
+                throw new IllegalArgumentException("Goblin HP must be positive: " + b.goblinHp[d]
+                        + " (difficulty " + d + ")");
+            }
+        }
+        if (b.critDamage < 0) {
+            throw new IllegalArgumentException("Crit damage must not be negative: " + b.critDamage);
+        }
+        if (b.healAmount < 0) {
+            throw new IllegalArgumentException("Heal amount must not be negative: " + b.healAmount);
+        }
+        this.difficulty = b.difficulty;
+        this.goblinHp = b.goblinHp.clone();
+        this.playerHealth = b.playerHealth;
+        this.aggressiveMinDamage = b.aggressiveMinDamage;
+        this.aggressiveMaxDamage = b.aggressiveMaxDamage;
+        this.defensiveMinHeal = b.defensiveMinHeal;
+        this.defensiveMaxHeal = b.defensiveMaxHeal;
+        this.critChance = b.critChance;
+        this.critDamage = b.critDamage;
+        this.healAmount = b.healAmount;
+    }
+
+    // --- Snapshot holder ---
+
+    /** Returns the current process-wide snapshot (a single volatile read). */
+    public static GameConfig current() {
+        return current;
+    }
+
+    /** Atomically replaces the process-wide snapshot. */
+    public static void install(GameConfig config) {
+        if (config == null) throw new IllegalArgumentException("config");
+        current = config;
+    }
+
+    public static GameConfig defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Loads a snapshot from a properties file. Missing keys keep their
+     * default values; see game.properties in the project root for the keys.
+     */
+    public static GameConfig load(Path file) throws IOException {
+        Properties p = new Properties();
+        try (Reader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            p.load(in);
+        }
+        return fromProperties(p);
+    }
+
+    /** Builds a snapshot from the keys of a game.properties file (missing keys keep defaults). */
+    public static GameConfig fromProperties(Properties p) {
+        GameConfigBuilder b = new GameConfigBuilder();
+        b.setDifficulty(intProp(p, "difficulty", b.difficulty));
+        b.setGoblinHp(0, intProp(p, "goblin.hp.default", b.goblinHp[0]));
+        for (int d = 1; d < b.goblinHp.length; d++) {
+            b.setGoblinHp(d, intProp(p, "goblin.hp." + d, b.goblinHp[d]));
+        }
+        b.setPlayerHealth(intProp(p, "player.health", b.playerHealth));
+        b.setAggressiveDamage(intProp(p, "aggressive.damage.min", b.aggressiveMinDamage),
+                intProp(p, "aggressive.damage.max", b.aggressiveMaxDamage));
+        b.setDefensiveHeal(intProp(p, "defensive.heal.min", b.defensiveMinHeal),
+                intProp(p, "defensive.heal.max", b.defensiveMaxHeal));
+        b.setCritChance(intProp(p, "crit.chance", b.critChance));
+        b.setCritDamage(intProp(p, "crit.damage", b.critDamage));
+        b.setHealAmount(intProp(p, "heal.amount", b.healAmount));
+        return b.build();
+    }
+
+    /** Every setting under its game.properties key; fromProperties(toProperties()) is an equal config. */
+    public Properties toProperties() {
+        Properties p = new Properties();
+        p.setProperty("difficulty", String.valueOf(difficulty));
+        p.setProperty("goblin.hp.default", String.valueOf(goblinHp[0]));
+        for (int d = 1; d < goblinHp.length; d++) {
+            p.setProperty("goblin.hp." + d, String.valueOf(goblinHp[d]));
+        }
+        p.setProperty("player.health", String.valueOf(playerHealth));
+        p.setProperty("aggressive.damage.min", String.valueOf(aggressiveMinDamage));
+        p.setProperty("aggressive.damage.max", String.valueOf(aggressiveMaxDamage));
+        p.setProperty("defensive.heal.min", String.valueOf(defensiveMinHeal));
+        p.setProperty("defensive.heal.max", String.valueOf(defensiveMaxHeal));
+        p.setProperty("crit.chance", String.valueOf(critChance));
+        p.setProperty("crit.damage", String.valueOf(critDamage));
+        p.setProperty("heal.amount", String.valueOf(healAmount));
+        return p;
+    }
+
+    private static int intProp(Properties p, String key, int fallback) {
+        String v = p.getProperty(key);
+        if (v == null) return fallback;
+        try {
+            return Integer.parseInt(v.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid value for " + key + ": " + v);
+        }
+    }
+
+    // --- Copies ---
+
+    public GameConfig withDifficulty(int difficulty) {
+        if (difficulty == this.difficulty) return this;
+        GameConfig copy = toBuilder().setDifficulty(difficulty).build();
+        // Strategies don't depend on difficulty, so the copy can share them
+        copy.strategies = strategies();
+        return copy;
+    }
+
+    public GameConfigBuilder toBuilder() {
+        return new GameConfigBuilder(this);
+    }
+
+    /** Shared strategy instances pinned to this snapshot. */
+    public SharedStrategies strategies() {
+        SharedStrategies s = strategies;
+        if (s == null) {
+            s = new SharedStrategies(this);
+            strategies = s;
+        }
+        return s;
+    }
+
+    /**
+     * Stable 64-bit hash of every setting; equal fingerprints mean equal
+     * configs with overwhelming probability, in any JVM (used by BattleCache).
+     */
+    public long fingerprint() {
+        long f = fingerprint;
+        if (f == 0) {
+            f = StateHash.mix(difficulty);
+            for (int hp : goblinHp) {
+                f = StateHash.mix(f + hp);
+            }
+            int[] rest = {playerHealth, aggressiveMinDamage, aggressiveMaxDamage, defensiveMinHeal,
+                          defensiveMaxHeal, critChance, critDamage, healAmount};
+            for (int v : rest) {
+                f = StateHash.mix(f + v);
+            }
+            if (f == 0) f = 1;
+            fingerprint = f;
+        }
+        return f;
+    }
+
+    // --- Getters ---
+
+    public int getDifficulty() {
+        return difficulty;
+    }
+
+    /** Goblin HP for this snapshot's difficulty. */
+    public int getGoblinHp() {
+        return getGoblinHp(difficulty);
+    }
+
+    public int getGoblinHp(int difficulty) {
+        return (difficulty > 0 && difficulty < goblinHp.length) ? goblinHp[difficulty] : goblinHp[0];
+    }
+
+    int goblinHpTableSize() {
+        return goblinHp.length;
+    }
+
+    public int getPlayerHealth() {
+        return playerHealth;
+    }
+
+    public int getAggressiveMinDamage() {
+        return aggressiveMinDamage;
+    }
+
+    public int getAggressiveMaxDamage() {
+        return aggressiveMaxDamage;
+    }
+
+    public int getDefensiveMinHeal() {
+        return defensiveMinHeal;
+    }
+
+    public int getDefensiveMaxHeal() {
+        return defensiveMaxHeal;
+    }
+
+    public int getCritChance() {
+        return critChance;
+    }
+
+    public int getCritDamage() {
+        return critDamage;
+    }
+
+    public int getHealAmount() {
+        return healAmount;
+    }
+}
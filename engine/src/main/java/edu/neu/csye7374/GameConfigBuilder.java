@@ -0,0 +1,93 @@
+package edu.neu.csye7374;
+
+/**
+ * Design Pattern: Builder
+ * -----------------------
+ * Fluent API to assemble an immutable GameConfig snapshot. Defaults match
+ * the original hard-coded game values.
+ */
+public class GameConfigBuilder {
+    int difficulty = 1;
+    int[] goblinHp = {80, 50, 80, 120};   // fallback, easy, normal, hard
+    int playerHealth = 100;
+    int aggressiveMinDamage = 10;
+    int aggressiveMaxDamage = 20;
+    int defensiveMinHeal = 8;
+    int defensiveMaxHeal = 14;
+    int critChance = 30;
+    int critDamage = 5;
+    int healAmount = 10;
+
+    public GameConfigBuilder() {
+    }
+
+    GameConfigBuilder(GameConfig base) {
+        difficulty = base.getDifficulty();
+        goblinHp = new int[base.goblinHpTableSize()];
+        goblinHp[0] = base.getGoblinHp(0);
+        for (int d = 1; d < goblinHp.length; d++) {
+            goblinHp[d] = base.getGoblinHp(d);
+        }
+        playerHealth = base.getPlayerHealth();
+        aggressiveMinDamage = base.getAggressiveMinDamage();
+        aggressiveMaxDamage = base.getAggressiveMaxDamage();
+        defensiveMinHeal = base.getDefensiveMinHeal();
+        defensiveMaxHeal = base.getDefensiveMaxHeal();
+        critChance = base.getCritChance();
+        critDamage = base.getCritDamage();
+        healAmount = base.getHealAmount();
+    }
+
+    public GameConfigBuilder setDifficulty(int difficulty) {
+        this.difficulty = difficulty;
+        return this;
+    }
+
+    /** Sets goblin HP for a difficulty level (1..3); 0 is the fallback. */
+    public GameConfigBuilder setGoblinHp(int difficulty, int hp) {
+        if (difficulty < 0 || difficulty >= goblinHp.length) {
+            throw new IllegalArgumentException("Unknown difficulty: " + difficulty);
+        }
+        if (hp < 1) {
+            throw new IllegalArgumentException("Goblin HP must be positive: " + hp);
+        }
+        goblinHp[difficulty] = hp;
+        return this;
+    }
+
+    public GameConfigBuilder setPlayerHealth(int playerHealth) {
+        this.playerHealth = playerHealth;
+        return this;
+    }
+
+    public GameConfigBuilder setAggressiveDamage(int min, int max) {
+        this.aggressiveMinDamage = min;
+        this.aggressiveMaxDamage = max;
+        return this;
+    }
+
+    public GameConfigBuilder setDefensiveHeal(int min, int max) {
+        this.defensiveMinHeal = min;
+        this.defensiveMaxHeal = max;
+        return this;
+    }
+
+    public GameConfigBuilder setCritChance(int percent) {
+        this.critChance = percent;
+        return this;
+    }
+
+    public GameConfigBuilder setCritDamage(int critDamage) {
+        this.critDamage = critDamage;
+        return this;
+    }
+
+    public GameConfigBuilder setHealAmount(int healAmount) {
+        this.healAmount = healAmount;
+        return this;
+    }
+
+    public GameConfig build() {
+        return new GameConfig(this);
+    }
+}
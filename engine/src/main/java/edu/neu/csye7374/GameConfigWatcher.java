@@ -0,0 +1,82 @@
+package edu.neu.csye7374;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+
+/**
+ * Watches a config file and installs a fresh GameConfig snapshot whenever
+ * it changes, without restarting the process. A file that fails to parse
+ * is reported and ignored; the previous snapshot stays active.
+ *
+ * Sessions already in progress keep the snapshot they started with.
+ */
+public class GameConfigWatcher implements Closeable {
+
+    private final Path file;
+    private final WatchService watchService;
+    private final Thread thread;
+
+    private GameConfigWatcher(Path file) throws IOException {
+        this.file = file.toAbsolutePath();
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.file.getParent().register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY);
+        this.thread = new Thread(this::loop, "game-config-watcher");
+        this.thread.setDaemon(true);
+    }
+
+    /** Loads {@code file} now, installs it, and keeps watching it. */
+    public static GameConfigWatcher start(Path file) throws IOException {
+        GameConfig.install(GameConfig.load(file));
+        GameConfigWatcher watcher = new GameConfigWatcher(file);
+        watcher.thread.start();
+        return watcher;
+    }
+
+    private void loop() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    Object context = event.context();
+                    if (context instanceof Path && file.getFileName().equals(context)) {
+                        changed = true;
+                    }
+                }
+                if (changed) {
+                    reload();
+                }
+                if (!key.reset()) {
+                    return;
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // watcher closed
+        }
+    }
+
+    private void reload() {
+        try {
+            GameConfig.install(GameConfig.load(file));
+            System.out.println("[Config] Reloaded " + file);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("[Warning] Keeping previous config, could not load "
+                    + file + ": " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+        thread.interrupt();
+    }
+}
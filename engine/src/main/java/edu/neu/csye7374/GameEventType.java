@@ -0,0 +1,27 @@
+package edu.neu.csye7374;
+
+/**
+ * Kinds of events a Character or GameFacade publishes. Observers can
+ * subscribe to a subset (see Character.subscribe); plain addObserver()
+ * still receives everything.
+ */
+public enum GameEventType {
+    /** HP went down or up (takeDamage / heal). */
+    HP_CHANGED,
+    /** Attack narration from a strategy ("X attacked Y for N damage!"). */
+    ATTACK,
+    /** Extra damage from CriticalStrikeDecorator. */
+    CRIT,
+    /** Strategy chatter (defensive focus, strategy switches). */
+    STRATEGY,
+    /** The battle ended. */
+    GAME_OVER,
+    /** Everything else: turn notices, warnings, session messages. */
+    MESSAGE;
+
+    private static final GameEventType[] VALUES = values();
+
+    static GameEventType[] all() {
+        return VALUES;
+    }
+}
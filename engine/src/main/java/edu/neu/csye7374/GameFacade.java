@@ -0,0 +1,456 @@
+package edu.neu.csye7374;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Design Pattern: Facade
+ * ----------------------
+ * One game session: wires characters, strategies, observers and turn
+ * states behind a small API (startNewGame, playerAttack, playerHeal).
+ *
+ * After every player action the session records a per-turn state hash
+ * (both characters' HP, strategies and RNG positions, plus the GameState),
+ * so two runs can be checked for lockstep with StateHashComparator.
+ *
+ * Events can also be consumed as a Flow.Publisher: events() for this
+ * session, BattleEventHub.server() for all sessions. Every battle end is
+ * reported to a Leaderboard (Leaderboard.global() unless set).
+ *
+ * Campaign mode (startCampaign) chains procedurally generated encounters:
+ * after each won fight nextEncounter() brings on the next enemy while the
+ * player keeps its HP. Encounters are pulled lazily from the Campaign, so
+ * a session holds one encounter at a time however long it plays.
+ *
+ * The combatants come from a CharacterPool: startNewGame and
+ * startCampaign hand the previous player and enemy back to the pool and
+ * re-stamp them as the new game's characters. References from
+ * getPlayer()/getEnemy() are therefore only valid until the next start;
+ * fetch them again afterwards (and clear any undo history holding them).
+ *
+ * Other threads (UI, spectators) should read the battle through
+ * readSnapshot(): a seqlock-published view of both combatants and the
+ * turn state, updated once per action, that can't be torn mid-turn.
+ */
+public class GameFacade {
+
+    private Character player;
+    private Character enemy;
+
+    private GameState state;
+    private long stateKey;              // StateHash.state(state)
+    // Shared by both characters: subscription changes reach them at once
+    private final ObserverChannel observers = new ObserverChannel();
+
+    // Per-turn state hashes: [0] = game start, [n] = after the n-th action
+    private long[] turnHashes = new long[64];
+    private int turnCount;
+
+    // Snapshot taken when the session starts; later reloads don't affect it
+    private GameConfig config = GameConfig.current();
+
+    // Object Pool: characters of the previous game are recycled on restart
+    private final CharacterPool pool = new CharacterPool(2);
+
+    // Reactive streams: hooked onto the channel only while someone listens
+    private static final AtomicLong SESSION_IDS = new AtomicLong();
+    private final long sessionId = SESSION_IDS.incrementAndGet();
+    private volatile BattleEventPublisher events;
+    private EventForwarder forwarder;
+
+    private Leaderboard leaderboard;    // null = Leaderboard.global()
+
+    private final BattleSnapshotSeqlock snapshots = new BattleSnapshotSeqlock();
+
+    // Campaign mode (null = single battle): encounters pulled one at a time
+    private Campaign campaign;
+    private Iterator<Encounter> encounters;
+    private Encounter encounter;
+
+    // Set while CommandInvoker.speculate runs moves on this session: no
+    // logs, leaderboard reports or snapshots for what-if steps
+    private boolean muted;
+
+    public GameFacade() {
+        setState(new GameOverState()); // until a game starts
+        BattleEventHub.get().register(this);
+        updateEventForwarding();
+    }
+
+    /** Replaces all subscriptions with one observer that receives every event. */
+    public synchronized void setObserver(GameObserver observer) {
+        observers.clear();
+        if (observer != null) {
+            observers.addObserver(observer);
+        }
+        if (forwarder != null) {
+            observers.addObserver(forwarder);
+        }
+    }
+
+    /**
+     * Subscribes {@code observer} to the given event types from the session
+     * and both characters. Use GameObserver's typed onEvent to tell sources
+     * apart, or Character.subscribe for a single character.
+     */
+    public void subscribe(GameObserver observer, GameEventType... types) {
+        observers.subscribe(observer, types);
+    }
+
+    public ObserverChannel getObserverChannel() {
+        return observers;
+    }
+
+    /** Reports battle ends to {@code board} instead of Leaderboard.global(). */
+    public void setLeaderboard(Leaderboard board) {
+        this.leaderboard = board;
+    }
+
+    public long getSessionId() {
+        return sessionId;
+    }
+
+    /** This session's events as a Flow.Publisher (created on first use). */
+    public synchronized BattleEventPublisher events() {
+        if (events == null) {
+            events = new BattleEventPublisher(this::updateEventForwarding);
+        }
+        return events;
+    }
+
+    // Subscribes the forwarder only while a session or server subscriber exists,
+    // so unobserved event types keep their zero-cost guard
+    synchronized void updateEventForwarding() {
+        boolean wanted = (events != null && events.hasSubscribers())
+                || BattleEventHub.get().isActive();
+        if (wanted && forwarder == null) {
+            forwarder = new EventForwarder();
+            observers.addObserver(forwarder);
+        } else if (!wanted && forwarder != null) {
+            observers.removeObserver(forwarder);
+            forwarder = null;
+        }
+    }
+
+    /** Turns observer callbacks into BattleEvents for the session and server streams. */
+    private final class EventForwarder implements GameObserver {
+        private final AtomicLong sequence = new AtomicLong();
+
+        @Override
+        public void onEvent(String message) {
+            onEvent(GameEventType.MESSAGE, null, message);
+        }
+
+        @Override
+        public void onEvent(GameEventType type, Character source, String message) {
+            BattleEventPublisher session = events;
+            BattleEventPublisher server = BattleEventHub.server();
+            boolean toSession = session != null && session.hasSubscribers();
+            boolean toServer = server.hasSubscribers();
+            if (!toSession && !toServer) {
+                return;
+            }
+            BattleEvent e = new BattleEvent(sessionId, sequence.incrementAndGet(), type,
+                    source != null ? source.getName() : null, message, System.nanoTime());
+            if (toSession) session.publish(e);
+            if (toServer) server.publish(e);
+        }
+    }
+
+    void log(String msg) {
+        log(GameEventType.MESSAGE, msg);
+    }
+
+    void log(GameEventType type, String msg) {
+        if (!muted && observers.hasObservers(type)) {
+            observers.publish(type, null, msg);
+        }
+    }
+
+    public void startNewGame(String name, String type, int difficulty) {
+        startNewGame(name, type, difficulty, System.nanoTime());
+    }
+
+    /**
+     * Starts a reproducible game: the same seed and the same sequence of
+     * actions give the same per-turn state hashes on any JVM.
+     *
+     * Recycles the previous player and enemy, so earlier getPlayer() and
+     * getEnemy() references now point at the new game's characters.
+     */
+    public void startNewGame(String name, String type, int difficulty, long seed) {
+        config = GameConfig.current().withDifficulty(difficulty);
+        campaign = null;
+        encounters = null;
+        encounter = null;
+
+        // Prototype + Object Pool (references from the last game are reused)
+        pool.release(player);
+        pool.release(enemy);
+        player = pool.acquire(type, name, config);
+        enemy = pool.acquire(CharacterPrototypes.GOBLIN, "Goblin", config);
+        int goblinHP = enemy.getHealth();
+
+        // Observer wiring (one shared channel)
+        player.joinChannel(observers);
+        enemy.joinChannel(observers);
+
+        // Strategies (Strategy + Decorator), shared instances pinned to this config
+        SharedStrategies strategies = config.strategies();
+        player.setStrategy(strategies.aggressiveCrit()); // Decorated strategy
+        enemy.setStrategy(strategies.aggressive());
+
+        player.getRandom().setSeed(seed);
+        enemy.getRandom().setSeed(~seed);
+
+        setState(new PlayerTurnState());
+        turnCount = 0;
+        recordTurn();
+
+        log("New game started: " + player.getName() + " vs Goblin");
+        log("Difficulty: " + difficulty + " | Goblin HP: " + goblinHP);
+    }
+
+    /** Starts an endless campaign at {@code difficulty}; see startCampaign(String, String, Campaign). */
+    public void startCampaign(String name, String type, int difficulty, long seed) {
+        startCampaign(name, type, Campaign.endless(GameConfig.current().withDifficulty(difficulty), seed));
+    }
+
+    /**
+     * Starts {@code campaign} with a new player and its first encounter.
+     * Reproducible like startNewGame: the player's dice are seeded from the
+     * campaign and run on across encounters.
+     *
+     * Recycles the previous characters like startNewGame.
+     */
+    public void startCampaign(String name, String type, Campaign campaign) {
+        config = campaign.getConfig();
+        pool.release(player);
+        pool.release(enemy);
+        player = pool.acquire(type, name, config);
+        enemy = pool.acquire(CharacterPrototypes.GOBLIN, "Goblin", config);
+        player.joinChannel(observers);
+        player.setStrategy(config.strategies().aggressiveCrit());
+        player.getRandom().setSeed(campaign.getPlayerSeed());
+
+        this.campaign = campaign;
+        encounters = campaign.iterator();
+        encounter = null;
+        log("Campaign started: " + player.getName() + " (seed " + campaign.getSeed() + ")");
+        if (!nextEncounter()) {
+            setState(new GameOverState());     // empty campaign
+        }
+    }
+
+    /**
+     * Campaign mode: once the current enemy is defeated, levels the player
+     * up (HP carries over, see Campaign.levelUp) and brings on the next
+     * encounter. Returns false outside campaign mode, while the fight is
+     * still on, after the player died or when the campaign is finished.
+     *
+     * Not a command: clear the CommandInvoker's undo history afterwards.
+     */
+    public boolean nextEncounter() {
+        if (encounters == null || !player.isAlive()) return false;
+        if (encounter != null && enemy.isAlive()) return false;
+        if (!encounters.hasNext()) return false;
+
+        if (encounter != null) {
+            campaign.levelUp(player);
+        }
+        encounter = encounters.next();
+        enemy.reset(encounter.getEnemyName(), encounter.getEnemyHealth());
+        enemy.joinChannel(observers);
+        enemy.setStrategy(campaign.enemyStrategy(encounter));
+        enemy.getRandom().setSeed(encounter.getSeed());
+
+        setState(new PlayerTurnState());
+        turnCount = 0;
+        recordTurn();
+
+        log("Encounter " + (encounter.getIndex() + 1) + ": " + encounter.getEnemyName()
+                + (encounter.isBoss() ? " (boss)" : "") + " | HP: " + encounter.getEnemyHealth());
+        log(player.getName() + " HP: " + player.getHealth() + "/" + player.getMaxHealth());
+        return true;
+    }
+
+    /** Current campaign encounter; null outside campaign mode. */
+    public Encounter getEncounter() {
+        return encounter;
+    }
+
+    public Campaign getCampaign() {
+        return campaign;
+    }
+
+    // Template-ish helper methods: they define the base "steps" of a turn
+    void basicPlayerAttack() {
+        if (player != null && enemy != null && player.isAlive() && enemy.isAlive()) {
+            player.attack(enemy);
+            player.tickModifiers();
+            afterAction();
+        }
+    }
+
+    void basicPlayerHeal() {
+        if (player != null && player.isAlive()) {
+            player.heal(config.getHealAmount());
+            player.tickModifiers();
+            afterAction();
+        }
+    }
+
+    void basicEnemyAttack() {
+        if (enemy != null && player != null && enemy.isAlive() && player.isAlive()) {
+            log("Enemy turn:");
+            enemy.attack(player);
+            enemy.tickModifiers();
+            afterAction();
+        }
+    }
+
+    // called after any action
+    private void afterAction() {
+        if (isBattleOver()) {
+            setState(new GameOverState());
+            reportBattleEnd();
+            if (!player.isAlive()) {
+                log(GameEventType.GAME_OVER, "You were defeated!");
+            } else if (!enemy.isAlive()) {
+                log(GameEventType.GAME_OVER, "You defeated the " + enemy.getName() + "!");
+            }
+        } else if (state instanceof EnemyTurnState) {
+            // enemy automatically attacks once and then back to player
+            // (switch first so the enemy's own afterAction doesn't recurse)
+            setState(new PlayerTurnState());
+            basicEnemyAttack();
+        }
+    }
+
+    private void reportBattleEnd() {
+        if (muted || player == null || enemy == null) return;
+        Leaderboard board = (leaderboard != null) ? leaderboard : Leaderboard.global();
+        // turnCount = actions so far, this one included (its hash isn't recorded yet)
+        board.recordBattle(player.getName(), player.isAlive(), turnCount,
+                enemy.getMaxHealth() - enemy.getHealth());
+    }
+
+    public void playerAttack() {
+        state.playerAttack(this);
+        recordTurn();
+    }
+
+    public void playerHeal() {
+        state.playerHeal(this);
+        recordTurn();
+    }
+
+    /**
+     * Switches the player's strategy. A free action (no enemy reply, the
+     * turn state stays), but recorded like one: it changes the state hash
+     * and publishes a snapshot.
+     */
+    public void playerSwitchStrategy(AttackStrategy strategy) {
+        if (player == null || isBattleOver()) return;
+        player.setStrategy(strategy);
+        log(GameEventType.STRATEGY, player.getName() + " switched to " + strategy.getName());
+        recordTurn();
+    }
+
+    // --- State hashing ---
+
+    /** O(1): combines the characters' incremental hashes with the turn state. */
+    public long currentStateHash() {
+        long h = stateKey;
+        if (player != null) h ^= player.getStateHash();
+        if (enemy != null) h ^= Long.rotateLeft(enemy.getStateHash(), 21);
+        return h;
+    }
+
+    // Once per action (and at game start): state hash plus snapshot
+    private void recordTurn() {
+        if (turnCount == turnHashes.length) {
+            turnHashes = Arrays.copyOf(turnHashes, turnCount * 2);
+        }
+        turnHashes[turnCount++] = currentStateHash();
+        if (!muted) {
+            snapshots.publish(player, enemy, state.getName(), turnCount - 1);
+        }
+    }
+
+    // --- Undo support (UndoLog) ---
+
+    boolean isMuted() {
+        return muted;
+    }
+
+    void setMuted(boolean muted) {
+        this.muted = muted;
+    }
+
+    /** Rolls the turn state back (or forward) to recorded values. */
+    void restoreTurn(GameState state, int turnCount) {
+        setState(state);
+        this.turnCount = turnCount;
+        if (!muted) {
+            snapshots.publish(player, enemy, state.getName(), turnCount - 1);
+        }
+    }
+
+    /**
+     * Lock-free, allocation-free consistent view of the battle as of the
+     * last completed action; safe from any thread. Reuse {@code into}.
+     */
+    public BattleSnapshot readSnapshot(BattleSnapshot into) {
+        return snapshots.read(into);
+    }
+
+    /** Changes once per published action; poll it to skip unchanged reads. */
+    public long getSnapshotVersion() {
+        return snapshots.getVersion();
+    }
+
+    /** Number of recorded hashes (game start plus one per action). */
+    public int getTurnCount() {
+        return turnCount;
+    }
+
+    public long getTurnHash(int turn) {
+        if (turn < 0 || turn >= turnCount) {
+            throw new IndexOutOfBoundsException("turn " + turn + " of " + turnCount);
+        }
+        return turnHashes[turn];
+    }
+
+    public long[] getTurnHashes() {
+        return Arrays.copyOf(turnHashes, turnCount);
+    }
+
+    public boolean isBattleOver() {
+        return player == null || enemy == null || !player.isAlive() || !enemy.isAlive();
+    }
+
+    /** The current player; re-fetch after startNewGame/startCampaign (the old one is recycled). */
+    public Character getPlayer() {
+        return player;
+    }
+
+    /** The current enemy (the same object across campaign encounters); re-fetch after a start. */
+    public Character getEnemy() {
+        return enemy;
+    }
+
+    public GameConfig getConfig() {
+        return config;
+    }
+
+    public GameState getState() {
+        return state;
+    }
+
+    void setState(GameState state) {
+        stateKey = StateHash.state(state);
+        this.state = state;
+    }
+}
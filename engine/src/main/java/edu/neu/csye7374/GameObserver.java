@@ -0,0 +1,20 @@
+package edu.neu.csye7374;
+
+/**
+ * Design Pattern: Observer / Bridge
+ * ---------------------------------
+ * Observer interface used by Character to publish events.
+ * Different views (console, GUI, etc.) implement this.
+ */
+public interface GameObserver {
+    void onEvent(String message);
+
+    /**
+     * Typed form used by the dispatcher; {@code source} is the publishing
+     * Character, or null for session messages from GameFacade. Override it
+     * to route by type or source; by default it forwards the message text.
+     */
+    default void onEvent(GameEventType type, Character source, String message) {
+        onEvent(message);
+    }
+}
@@ -0,0 +1,61 @@
+package edu.neu.csye7374;
+
+import java.util.Random;
+
+/**
+ * Deterministic dice with a visible position.
+ *
+ * A drop-in java.util.Random whose stream is SplitMix64: draw n is a pure
+ * function of (seed, n). That makes the RNG position part of the game
+ * state: it can be hashed per turn (StateHash), and restored in O(1) with
+ * setPosition() for replay and rollback.
+ *
+ * Unlike java.util.Random this class is not thread-safe; every Character
+ * owns its own instance.
+ */
+public class GameRandom extends Random {
+
+    private static final long GAMMA = 0x9E3779B97F4A7C15L;
+
+    // No field initialisers: Random's constructor calls setSeed() first
+    private long seed;
+    private long position;
+
+    public GameRandom() {
+        super();
+    }
+
+    public GameRandom(long seed) {
+        super(seed);
+    }
+
+    @Override
+    public void setSeed(long seed) {
+        this.seed = seed;
+        this.position = 0;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /** Number of raw draws taken since the last setSeed(). */
+    public long getPosition() {
+        return position;
+    }
+
+    /** Rewinds or fast-forwards the stream to an earlier getPosition() value. */
+    public void setPosition(long position) {
+        this.position = position;
+    }
+
+    @Override
+    protected int next(int bits) {
+        return (int) (nextLong() >>> (64 - bits));
+    }
+
+    @Override
+    public long nextLong() {
+        return StateHash.mix(seed + (++position) * GAMMA);
+    }
+}
@@ -0,0 +1,38 @@
+package edu.neu.csye7374;
+
+/**
+ * Design Pattern: Command (Concrete Command)
+ * ------------------------------------------
+ * Wraps a call to target.heal(amount).
+ */
+public class HealCommand implements ReversibleCommand, PhasedCommand {
+
+    private final Character target;
+    private final int amount;
+
+    public HealCommand(Character target, int amount) {
+        this.target = target;
+        this.amount = amount;
+    }
+
+    @Override
+    public void execute() {
+        target.heal(amount);
+    }
+
+    @Override
+    public boolean validate(EffectBatch batch) {
+        return batch.isAlive(target);       // dead can't heal
+    }
+
+    @Override
+    public boolean resolve(EffectBatch batch) {
+        batch.heal(target, target, amount, GameEventType.HP_CHANGED);
+        return true;
+    }
+
+    @Override
+    public void capture(UndoLog log) {
+        log.capture(target);
+    }
+}
@@ -0,0 +1,166 @@
+package edu.neu.csye7374;
+
+import java.util.Arrays;
+
+/**
+ * A large group of identical enemies stored as a struct of arrays: one int
+ * of HP per member instead of one Character each (no name, strategy, dice
+ * or observer channel per member). Members stand in a line; index 0 is the
+ * front rank.
+ *
+ * Area strategies (AttackStrategy.executeArea) hit a range of members in
+ * one pass over the HP array. damageRange() is a plain counted loop with
+ * no branches or calls (Math.max is an intrinsic), so C2 can unroll and
+ * vectorise it; a cast over 10,000 members is a few microseconds and
+ * produces no per-member events. The caster publishes one aggregated
+ * event per cast.
+ *
+ * The members share one StatBlock (defense applies to area damage like to
+ * single hits). Not thread-safe.
+ */
+public final class Horde {
+
+    private final String name;
+    private final int[] health;
+    private final int maxHealth;
+    private long stats = StatBlock.NONE;
+    private int alive;
+    private int front;                 // no living member before this index
+
+    // Result of the last bulk operation (read by the area strategies)
+    private int lastHits;
+    private long lastDealt;
+    private int lastKilled;
+
+    public Horde(String name, int size, int health) {
+        this.name = name;
+        this.health = new int[size];
+        this.maxHealth = health;
+        Arrays.fill(this.health, health);
+        this.alive = health > 0 ? size : 0;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int size() {
+        return health.length;
+    }
+
+    public int getAlive() {
+        return alive;
+    }
+
+    public boolean isDefeated() {
+        return alive == 0;
+    }
+
+    public int getHealth(int member) {
+        return health[member];
+    }
+
+    public int getMaxHealth() {
+        return maxHealth;
+    }
+
+    public long getTotalHealth() {
+        long sum = 0;
+        for (int h : health) {
+            sum += h;
+        }
+        return sum;
+    }
+
+    public long getStats() {
+        return stats;
+    }
+
+    public void setStats(long stats) {
+        this.stats = stats;
+    }
+
+    /** Index of the first living member; size() if none. */
+    public int front() {
+        int f = front;
+        while (f < health.length && health[f] <= 0) {
+            f++;
+        }
+        front = f;
+        return f;
+    }
+
+    // --- Bulk damage ---
+
+    /**
+     * {@code amount} damage to every member in [from, to) (clamped to the
+     * horde); dead members stay at 0 and a negative amount counts as 0.
+     * Returns the number killed.
+     */
+    public int damageRange(int from, int to, int amount) {
+        from = Math.max(0, from);
+        to = Math.min(health.length, to);
+        amount = Math.max(0, amount);
+        int[] hp = health;
+        long dealt = 0;
+        int killed = 0;
+        int hits = 0;
+        for (int i = from; i < to; i++) {
+            int h = hp[i];
+            int n = Math.max(0, h - amount);
+            hp[i] = n;
+            dealt += h - n;
+            hits += -h >>> 31;                 // 1 if it was alive
+            killed += (-h >>> 31) - (-n >>> 31);
+        }
+        return record(hits, dealt, killed);
+    }
+
+    /**
+     * Chain damage: hits the next {@code jumps} living members from
+     * {@code start} on, the first for {@code amount} and each further one
+     * for {@code decayPercent} less than the one before (a negative amount
+     * counts as 0). Returns the number killed. (Each jump depends on which members are alive, so this loop
+     * branches.)
+     */
+    public int damageChain(int start, int jumps, int amount, int decayPercent) {
+        amount = Math.max(0, amount);
+        int[] hp = health;
+        long dealt = 0;
+        int killed = 0;
+        int hits = 0;
+        for (int i = Math.max(0, start); i < hp.length && hits < jumps && amount > 0; i++) {
+            int h = hp[i];
+            if (h <= 0) continue;
+            int n = Math.max(0, h - amount);
+            hp[i] = n;
+            dealt += h - n;
+            hits++;
+            if (n == 0) killed++;
+            amount = (int) Math.max(0, Math.min((long) amount * (100 - decayPercent) / 100, Integer.MAX_VALUE));
+        }
+        return record(hits, dealt, killed);
+    }
+
+    private int record(int hits, long dealt, int killed) {
+        alive -= killed;
+        lastHits = hits;
+        lastDealt = dealt;
+        lastKilled = killed;
+        return killed;
+    }
+
+    /** Living members hit by the last bulk operation. */
+    int lastHits() {
+        return lastHits;
+    }
+
+    /** HP removed by the last bulk operation. */
+    long lastDealt() {
+        return lastDealt;
+    }
+
+    int lastKilled() {
+        return lastKilled;
+    }
+}
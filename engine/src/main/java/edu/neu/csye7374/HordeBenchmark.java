@@ -0,0 +1,117 @@
+package edu.neu.csye7374;
+
+/**
+ * Area casts on a struct-of-arrays Horde vs hitting the same enemies as
+ * individual Characters.
+ *
+ * The per-Character baseline is what a fireball costs without Horde: one
+ * takeDamage per enemy, each publishing HP_CHANGED, plus an ATTACK line
+ * per enemy, all on one observed channel (as in a GameFacade session).
+ * The Horde cast publishes one ATTACK event. Both sides apply the same
+ * damage rolls and must end with identical HP everywhere.
+ *
+ * Usage: HordeBenchmark [--size n] [--casts n]
+ */
+public class HordeBenchmark {
+
+    private static final int HP = 1_000_000_000;
+
+    private static long notifications;
+
+    public static void main(String[] args) {
+        int size = 10_000;
+        int casts = 2_000;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--size":  size = Integer.parseInt(args[++i]); break;
+                case "--casts": casts = Integer.parseInt(args[++i]); break;
+                default:
+                    System.err.println("[Warning] Unknown option: " + args[i]);
+            }
+        }
+        GameConfig config = GameConfig.defaults();
+        ObserverChannel channel = new ObserverChannel();
+        channel.addObserver(message -> notifications++);
+
+        // Fireball wide enough to cover the whole horde from any rank
+        AttackStrategy fireball = new FireballAttack(config, size);
+        for (int r = 0; r < 3; r++) {       // warm-up
+            compare(config, channel, fireball, size, casts / 4, false);
+        }
+        compare(config, channel, fireball, size, casts, true);
+
+        AttackStrategy[] others = {new CleaveAttack(config, 3), new ChainLightningAttack(config, 8, 20),
+                                   new FireballAttack(config, 25)};
+        for (AttackStrategy s : others) {
+            Horde horde = new Horde("Goblins", size, HP);
+            edu.neu.csye7374.Character caster = caster(config, channel, s);
+            for (int i = 0; i < casts; i++) caster.attack(horde);        // warm-up
+            notifications = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < casts; i++) caster.attack(horde);
+            double us = (System.nanoTime() - start) / 1e3 / casts;
+            System.out.printf("[Horde] %-16s %8.3f us/cast, %d notifications per cast%n",
+                    s.getName(), us, notifications / casts);
+        }
+    }
+
+    private static void compare(GameConfig config, ObserverChannel channel, AttackStrategy fireball,
+                                int size, int casts, boolean report) {
+        Horde horde = new Horde("Goblins", size, HP);
+        edu.neu.csye7374.Character caster = caster(config, channel, fireball);
+        notifications = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < casts; i++) {
+            caster.attack(horde);
+        }
+        double bulkUs = (System.nanoTime() - start) / 1e3 / casts;
+        long bulkNotifications = notifications;
+        long dealt = (long) size * HP - horde.getTotalHealth();
+
+        // Baseline: replay the same rolls against individual Characters
+        edu.neu.csye7374.Character[] enemies = new edu.neu.csye7374.Character[size];
+        for (int i = 0; i < size; i++) {
+            enemies[i] = new edu.neu.csye7374.Character("Goblin " + i, HP);
+            enemies[i].joinChannel(channel);
+        }
+        edu.neu.csye7374.Character roller = caster(config, ObserverChannel.NONE, fireball);
+        notifications = 0;
+        start = System.nanoTime();
+        for (int c = 0; c < casts; c++) {
+            int min = config.getAggressiveMinDamage();
+            int damage = roller.getRandom().nextInt(config.getAggressiveMaxDamage() - min + 1) + min;
+            roller.getRandom().nextInt(size);                 // fireball's landing rank (covers all)
+            for (edu.neu.csye7374.Character e : enemies) {
+                e.takeDamage(damage);
+                if (roller.hasObservers(GameEventType.ATTACK) || e.hasObservers(GameEventType.ATTACK)) {
+                    e.notifyObservers(GameEventType.ATTACK,
+                            roller.getName() + "'s Fireball hit " + e.getName() + " for " + damage + " damage!");
+                }
+            }
+        }
+        double perTargetUs = (System.nanoTime() - start) / 1e3 / casts;
+
+        for (int i = 0; i < size; i++) {
+            if (enemies[i].getHealth() != horde.getHealth(i)) {
+                throw new IllegalStateException("member " + i + " differs: " + horde.getHealth(i)
+                        + " vs " + enemies[i].getHealth());
+            }
+        }
+        if (report) {
+            System.out.printf("[Horde] Fireball into %,d: same HP for every member (%,d damage dealt)%n", size, dealt);
+            System.out.printf("[Horde]   per-Character %,10.1f us/cast, %,d notifications per cast%n",
+                    perTargetUs, notifications / casts);
+            System.out.printf("[Horde]   Horde bulk    %,10.3f us/cast, %,d notifications per cast%n",
+                    bulkUs, bulkNotifications / casts);
+        }
+    }
+
+    private static edu.neu.csye7374.Character caster(GameConfig config, ObserverChannel channel, AttackStrategy s) {
+        edu.neu.csye7374.Character c = CharacterPrototypes.MAGE.create("Mage", config);
+        c.setStats(StatBlock.NONE);                       // plain rolls, so the baseline can replay them
+        c.setStrategy(s);
+        c.getRandom().setSeed(7374);
+        c.joinChannel(channel);
+        return c;
+    }
+}
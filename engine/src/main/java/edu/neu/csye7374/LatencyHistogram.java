@@ -0,0 +1,82 @@
+package edu.neu.csye7374;
+
+import java.util.Arrays;
+
+/**
+ * Log-linear histogram of latencies in nanoseconds (about 1.6% relative
+ * precision, fixed memory, no allocation per record).
+ *
+ * Values are bucketed by power of two, each power split into 64 linear
+ * sub-buckets; values below 64 ns are exact. Not thread-safe: give each
+ * recording thread its own histogram and merge them for reports.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int MAGNITUDES = 64 - SUB_BITS;
+
+    private final long[] counts = new long[(MAGNITUDES + 1) * SUB_BUCKETS];
+    private long total;
+    private long max;
+
+    public void record(long nanos) {
+        long v = Math.max(0, nanos);
+        counts[index(v)]++;
+        total++;
+        if (v > max) max = v;
+    }
+
+    // Bucket m*64 + sub holds values whose top 7 bits are (64 + sub) << (m - 1)
+    private static int index(long v) {
+        if (v < SUB_BUCKETS) return (int) v;
+        int shift = 63 - Long.numberOfLeadingZeros(v) - SUB_BITS;        // >= 0
+        int sub = (int) (v >>> shift) - SUB_BUCKETS;                      // 0..63
+        return (shift + 1) * SUB_BUCKETS + sub;
+    }
+
+    // Highest value that falls into bucket i
+    private static long upperBound(int i) {
+        int m = i / SUB_BUCKETS;
+        int sub = i % SUB_BUCKETS;
+        if (m == 0) return sub;
+        return ((long) (SUB_BUCKETS + sub + 1) << (m - 1)) - 1;
+    }
+
+    public long getCount() {
+        return total;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    /** Value at the given percentile (0-100), reported as its bucket's upper bound. */
+    public long percentile(double p) {
+        if (total == 0) return 0;
+        long rank = (long) Math.ceil(p / 100.0 * total);
+        rank = Math.max(1, Math.min(total, rank));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBound(i), max);
+            }
+        }
+        return max;
+    }
+
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        total += other.total;
+        max = Math.max(max, other.max);
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        total = 0;
+        max = 0;
+    }
+}
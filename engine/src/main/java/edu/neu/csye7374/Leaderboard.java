@@ -0,0 +1,326 @@
+package edu.neu.csye7374;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Live leaderboard shared by any number of GameFacade sessions.
+ *
+ * Each ranking is a ConcurrentSkipListSet holding one immutable entry per
+ * player, so:
+ *  - recording a battle end costs O(log n): per changed ranking, remove
+ *    the player's old entry and insert the new one (under that player's
+ *    lock only, so different players update in parallel);
+ *  - reads (top, entry) never lock and never block writers; they see each
+ *    ranking weakly consistently, as the UI and server need.
+ *
+ * Snapshots are a compact binary file of per-player records, written to a
+ * temporary file and moved into place; loading rebuilds the rankings.
+ * startSnapshots() saves one periodically, and close() saves a final one.
+ *
+ * GameFacade reports to global() unless given its own instance.
+ */
+public class Leaderboard implements Closeable {
+
+    private static final int SNAPSHOT_MAGIC = 0x4C42_0001;   // "LB" v1
+    private static final int CATEGORIES = LeaderboardCategory.values().length;
+
+    private static final class Holder {
+        static final Leaderboard GLOBAL = new Leaderboard();
+    }
+
+    /** Per-player totals; mutated only while holding the record's lock. */
+    private static final class PlayerRecord {
+        final String name;
+        int battles;
+        int wins;
+        int fastestWin;        // 0 = no win yet
+        int mostDamage;
+        int streak;
+        int bestStreak;
+        LeaderboardEntry[] entries = new LeaderboardEntry[CATEGORIES];
+
+        PlayerRecord(String name) {
+            this.name = name;
+        }
+    }
+
+    private final ConcurrentHashMap<String, PlayerRecord> players = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<LeaderboardEntry>[] rankings;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong battles = new AtomicLong();
+
+    private ScheduledExecutorService snapshotter;
+    private Path snapshotFile;
+
+    public Leaderboard() {
+        rankings = newRankings();
+        rankings[LeaderboardCategory.FASTEST_WIN.ordinal()] = new ConcurrentSkipListSet<>(LeaderboardEntry.ASCENDING);
+        rankings[LeaderboardCategory.MOST_DAMAGE.ordinal()] = new ConcurrentSkipListSet<>(LeaderboardEntry.DESCENDING);
+        rankings[LeaderboardCategory.WIN_STREAK.ordinal()] = new ConcurrentSkipListSet<>(LeaderboardEntry.DESCENDING);
+    }
+
+    // Java has no generic array creation; every slot is filled with a
+    // ConcurrentSkipListSet<LeaderboardEntry> right after this
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static ConcurrentSkipListSet<LeaderboardEntry>[] newRankings() {
+        return new ConcurrentSkipListSet[CATEGORIES];
+    }
+
+    /** Process-wide leaderboard used by GameFacade sessions by default. */
+    public static Leaderboard global() {
+        return Holder.GLOBAL;
+    }
+
+    // --- Updates ---
+
+    /**
+     * Records the end of one battle for {@code player}. Thread-safe;
+     * concurrent updates for different players don't contend.
+     */
+    public void recordBattle(String player, boolean won, int turns, int damageDealt) {
+        PlayerRecord r = players.computeIfAbsent(player, PlayerRecord::new);
+        synchronized (r) {
+            r.battles++;
+            if (won) {
+                r.wins++;
+                r.streak++;
+                if (r.fastestWin == 0 || turns < r.fastestWin) {
+                    r.fastestWin = turns;
+                    rank(r, LeaderboardCategory.FASTEST_WIN, turns);
+                }
+                if (r.streak > r.bestStreak) {
+                    r.bestStreak = r.streak;
+                    rank(r, LeaderboardCategory.WIN_STREAK, r.bestStreak);
+                }
+            } else {
+                r.streak = 0;
+            }
+            if (damageDealt > r.mostDamage) {
+                r.mostDamage = damageDealt;
+                rank(r, LeaderboardCategory.MOST_DAMAGE, damageDealt);
+            }
+        }
+        battles.incrementAndGet();
+    }
+
+    // Replaces the player's entry in one ranking (caller holds r's lock)
+    private void rank(PlayerRecord r, LeaderboardCategory category, int score) {
+        rank(r, category.ordinal(), new LeaderboardEntry(r.name, score, sequence.incrementAndGet()));
+    }
+
+    private void rank(PlayerRecord r, int i, LeaderboardEntry next) {
+        rankings[i].add(next);
+        LeaderboardEntry previous = r.entries[i];
+        if (previous != null) {
+            rankings[i].remove(previous);
+        }
+        r.entries[i] = next;
+    }
+
+    // --- Lock-free reads ---
+
+    /** The best {@code k} entries of one ranking, best first. */
+    public List<LeaderboardEntry> top(LeaderboardCategory category, int k) {
+        List<LeaderboardEntry> out = new ArrayList<>(Math.min(k, 64));
+        for (LeaderboardEntry e : rankings[category.ordinal()]) {
+            if (out.size() == k) break;
+            // While an entry is being replaced both may be visible; keep the newer
+            if (!containsPlayer(out, e.getPlayer())) {
+                out.add(e);
+            }
+        }
+        return Collections.unmodifiableList(out);
+    }
+
+    private static boolean containsPlayer(List<LeaderboardEntry> entries, String player) {
+        for (LeaderboardEntry e : entries) {
+            if (e.getPlayer().equals(player)) return true;
+        }
+        return false;
+    }
+
+    /** The player's current entry in one ranking, or null if they have none. */
+    public LeaderboardEntry entry(String player, LeaderboardCategory category) {
+        PlayerRecord r = players.get(player);
+        if (r == null) return null;
+        synchronized (r) {
+            return r.entries[category.ordinal()];
+        }
+    }
+
+    public int getPlayerCount() {
+        return players.size();
+    }
+
+    /** Battle ends recorded since this instance was created or loaded. */
+    public long getBattleCount() {
+        return battles.get();
+    }
+
+    // --- Snapshots ---
+
+    /**
+     * Writes all player records to {@code file} atomically (temp file +
+     * move). Each call gets its own temp file, so concurrent saves can't
+     * overwrite each other's half-written data.
+     */
+    public void saveSnapshot(Path file) throws IOException {
+        Path dir = file.toAbsolutePath().getParent();
+        Path tmp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+        try {
+            writeSnapshot(tmp);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+    }
+
+    private void writeSnapshot(Path tmp) throws IOException {
+        List<PlayerRecord> records = new ArrayList<>(players.values());
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(tmp), 1 << 16))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(records.size());
+            for (PlayerRecord r : records) {
+                synchronized (r) {
+                    out.writeUTF(r.name);
+                    out.writeInt(r.battles);
+                    out.writeInt(r.wins);
+                    out.writeInt(r.fastestWin);
+                    out.writeInt(r.mostDamage);
+                    out.writeInt(r.streak);
+                    out.writeInt(r.bestStreak);
+                    // Scores plus sequences, so ties keep their order after a reload
+                    for (LeaderboardEntry e : r.entries) {
+                        out.writeInt(e != null ? e.getScore() : 0);
+                        out.writeLong(e != null ? e.getSequence() : 0);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds the players of a snapshot to this (normally empty) leaderboard.
+     * Entries are sorted per ranking first and then inserted in order,
+     * which is much cheaper for the skip lists than random-order inserts.
+     */
+    public void loadSnapshot(Path file) throws IOException {
+        PlayerRecord[] records;
+        long maxSequence = 0;
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            if (in.readInt() != SNAPSHOT_MAGIC) {
+                throw new IOException("Not a leaderboard snapshot: " + file);
+            }
+            records = new PlayerRecord[in.readInt()];
+            for (int n = 0; n < records.length; n++) {
+                PlayerRecord r = new PlayerRecord(in.readUTF());
+                r.battles = in.readInt();
+                r.wins = in.readInt();
+                r.fastestWin = in.readInt();
+                r.mostDamage = in.readInt();
+                r.streak = in.readInt();
+                r.bestStreak = in.readInt();
+                for (int i = 0; i < CATEGORIES; i++) {
+                    int score = in.readInt();
+                    long seq = in.readLong();
+                    if (seq != 0) {
+                        r.entries[i] = new LeaderboardEntry(r.name, score, seq);
+                        maxSequence = Math.max(maxSequence, seq);
+                    }
+                }
+                records[n] = r;
+            }
+        } catch (EOFException e) {
+            throw new IOException("Truncated leaderboard snapshot: " + file, e);
+        }
+
+        for (PlayerRecord r : records) {
+            PlayerRecord old = players.put(r.name, r);
+            if (old != null) {
+                removeEntries(old);
+            }
+        }
+        for (int i = 0; i < CATEGORIES; i++) {
+            List<LeaderboardEntry> sorted = new ArrayList<>(records.length);
+            for (PlayerRecord r : records) {
+                if (r.entries[i] != null) sorted.add(r.entries[i]);
+            }
+            sorted.sort(rankings[i].comparator());
+            for (LeaderboardEntry e : sorted) {
+                rankings[i].add(e);
+            }
+        }
+        // New entries must rank after every loaded one on ties
+        sequence.accumulateAndGet(maxSequence, Math::max);
+    }
+
+    private void removeEntries(PlayerRecord r) {
+        synchronized (r) {
+            for (int i = 0; i < rankings.length; i++) {
+                if (r.entries[i] != null) rankings[i].remove(r.entries[i]);
+            }
+        }
+    }
+
+    /**
+     * Loads {@code file} if it exists, then saves a snapshot to it every
+     * {@code periodSeconds} on a daemon thread until close().
+     */
+    public synchronized void startSnapshots(Path file, long periodSeconds) throws IOException {
+        if (snapshotter != null) {
+            throw new IllegalStateException("Snapshots already started for " + snapshotFile);
+        }
+        if (Files.exists(file)) {
+            loadSnapshot(file);
+        }
+        snapshotFile = file;
+        snapshotter = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "leaderboard-snapshot");
+            t.setDaemon(true);
+            return t;
+        });
+        snapshotter.scheduleWithFixedDelay(() -> {
+            try {
+                saveSnapshot(file);
+            } catch (IOException e) {
+                System.err.println("[Error] Leaderboard snapshot failed: " + e.getMessage());
+            }
+        }, periodSeconds, periodSeconds, TimeUnit.SECONDS);
+    }
+
+    /** Stops periodic snapshots, lets a running one finish and writes a final one. */
+    @Override
+    public synchronized void close() throws IOException {
+        if (snapshotter != null) {
+            snapshotter.shutdown();
+            try {
+                snapshotter.awaitTermination(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            snapshotter = null;
+            saveSnapshot(snapshotFile);
+        }
+    }
+}
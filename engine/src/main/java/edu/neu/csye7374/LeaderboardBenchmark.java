@@ -0,0 +1,110 @@
+package edu.neu.csye7374;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Throughput of Leaderboard under concurrent battle ends and readers.
+ *
+ * Writer threads record synthetic battle ends for a pool of player names
+ * while a reader thread keeps fetching the top 10 of every ranking (as a
+ * UI would). Then the leaderboard is snapshotted and reloaded.
+ * A second phase plays real GameFacade games reporting to a fresh board.
+ *
+ * Usage: LeaderboardBenchmark [--threads n] [--battles n] [--players n] [--games n]
+ */
+public class LeaderboardBenchmark {
+
+    public static void main(String[] args) throws InterruptedException, IOException {
+        int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+        long battles = 2_000_000;
+        int players = 100_000;
+        int games = 50_000;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--threads": threads = Integer.parseInt(args[++i]); break;
+                case "--battles": battles = Long.parseLong(args[++i]); break;
+                case "--players": players = Integer.parseInt(args[++i]); break;
+                case "--games":   games = Integer.parseInt(args[++i]); break;
+                default:
+                    System.err.println("[Warning] Unknown option: " + args[i]);
+            }
+        }
+
+        String[] names = new String[players];
+        for (int p = 0; p < players; p++) {
+            names[p] = "player-" + p;
+        }
+
+        Leaderboard board = new Leaderboard();
+        long perThread = battles / threads;
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicLong reads = new AtomicLong();
+        Thread reader = new Thread(() -> {
+            while (done.getCount() > 0) {
+                for (LeaderboardCategory c : LeaderboardCategory.values()) {
+                    board.top(c, 10);
+                }
+                reads.incrementAndGet();
+            }
+        });
+
+        long start = System.nanoTime();
+        reader.start();
+        for (int t = 0; t < threads; t++) {
+            final long seed = t;
+            new Thread(() -> {
+                SplittableRandom rnd = new SplittableRandom(seed);
+                for (long n = 0; n < perThread; n++) {
+                    boolean won = rnd.nextInt(100) < 60;
+                    board.recordBattle(names[rnd.nextInt(names.length)], won,
+                            3 + rnd.nextInt(20), 20 + rnd.nextInt(200));
+                }
+                done.countDown();
+            }).start();
+        }
+        done.await();
+        reader.join();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("[Leaderboard] %,d battle ends on %d threads: %,.0f/s (%,d top-10 reads meanwhile)%n",
+                perThread * threads, threads, perThread * threads / seconds, reads.get());
+        for (LeaderboardCategory c : LeaderboardCategory.values()) {
+            System.out.println("  " + c + " " + board.top(c, 5));
+        }
+
+        Path file = Files.createTempFile("leaderboard", ".snap");
+        long t0 = System.nanoTime();
+        board.saveSnapshot(file);
+        long t1 = System.nanoTime();
+        Leaderboard reloaded = new Leaderboard();
+        reloaded.loadSnapshot(file);
+        long t2 = System.nanoTime();
+        System.out.printf("[Leaderboard] snapshot of %,d players: %,d bytes, save %.1f ms, load %.1f ms, top match %b%n",
+                board.getPlayerCount(), Files.size(file), (t1 - t0) / 1e6, (t2 - t1) / 1e6,
+                board.top(LeaderboardCategory.MOST_DAMAGE, 10).toString()
+                        .equals(reloaded.top(LeaderboardCategory.MOST_DAMAGE, 10).toString()));
+        Files.delete(file);
+
+        // Real sessions reporting on battle end
+        Leaderboard sessions = new Leaderboard();
+        GameFacade game = new GameFacade();
+        game.setLeaderboard(sessions);
+        start = System.nanoTime();
+        for (int g = 0; g < games; g++) {
+            game.startNewGame(names[g % 1000], "warrior", 1 + g % 3, g);
+            while (!game.isBattleOver()) {
+                game.playerAttack();
+            }
+        }
+        seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("[Leaderboard] %,d GameFacade games: %,.0f battle ends/s%n",
+                sessions.getBattleCount(), sessions.getBattleCount() / seconds);
+        for (LeaderboardCategory c : LeaderboardCategory.values()) {
+            System.out.println("  " + c + " " + sessions.top(c, 5));
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package edu.neu.csye7374;
+
+/** The rankings kept by Leaderboard, one entry per player in each. */
+public enum LeaderboardCategory {
+    /** Fewest turns needed to win a battle (lower is better). */
+    FASTEST_WIN,
+    /** Most damage dealt in a single battle. */
+    MOST_DAMAGE,
+    /** Longest run of consecutive wins. */
+    WIN_STREAK
+}
@@ -0,0 +1,53 @@
+package edu.neu.csye7374;
+
+import java.util.Comparator;
+
+/**
+ * Immutable position on one Leaderboard ranking. Ties on score go to the
+ * player who reached it first (lower sequence number).
+ */
+public final class LeaderboardEntry {
+
+    /** Higher score first, then earlier, then by name. */
+    static final Comparator<LeaderboardEntry> DESCENDING = (a, b) -> {
+        int c = Integer.compare(b.score, a.score);
+        if (c != 0) return c;
+        c = Long.compare(a.sequence, b.sequence);
+        return c != 0 ? c : a.player.compareTo(b.player);
+    };
+
+    /** Lower score first (fastest win), then earlier, then by name. */
+    static final Comparator<LeaderboardEntry> ASCENDING = (a, b) -> {
+        int c = Integer.compare(a.score, b.score);
+        if (c != 0) return c;
+        c = Long.compare(a.sequence, b.sequence);
+        return c != 0 ? c : a.player.compareTo(b.player);
+    };
+
+    private final String player;
+    private final int score;
+    private final long sequence;
+
+    LeaderboardEntry(String player, int score, long sequence) {
+        this.player = player;
+        this.score = score;
+        this.sequence = sequence;
+    }
+
+    public String getPlayer() {
+        return player;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    long getSequence() {
+        return sequence;
+    }
+
+    @Override
+    public String toString() {
+        return player + "=" + score;
+    }
+}
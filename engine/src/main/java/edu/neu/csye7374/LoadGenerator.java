@@ -0,0 +1,230 @@
+package edu.neu.csye7374;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load generator for GameFacade sessions (in-process).
+ *
+ * Each worker thread owns a share of the synthetic players (one GameFacade
+ * session each) and a schedule of intended send times derived from the
+ * LoadProfile. A command is sent at its intended time, or immediately if
+ * the worker is behind, and its latency is measured from the intended
+ * time, not from when it actually started. A stalled engine therefore
+ * shows up as queueing delay in the percentiles instead of silently
+ * lowering the request rate (coordinated omission).
+ *
+ * Every interval it prints the target rate, achieved throughput and
+ * p50 / p99 / p99.9 / max latency; at the end it prints the totals, the
+ * service-time percentiles for comparison, and the first interval that
+ * missed the target rate or the p99 SLO after the warm-up (the
+ * saturation point).
+ *
+ * Usage: LoadGenerator [--rate r | --step start:step:every:max | --ramp from:to:seconds]
+ *                      [--duration s] [--players n] [--threads n]
+ *                      [--mix attack:heal:switch] [--interval ms] [--slo-ms p99]
+ *                      [--warmup s]
+ */
+public class LoadGenerator {
+
+    private final LoadProfile profile;
+    private final double durationSeconds;
+    private final Worker[] workers;
+
+    public LoadGenerator(LoadProfile profile, double durationSeconds, int players, int threads,
+                         int[] mix) {
+        this.profile = profile;
+        this.durationSeconds = durationSeconds;
+        this.workers = new Worker[threads];
+        for (int w = 0; w < threads; w++) {
+            int share = players / threads + (w < players % threads ? 1 : 0);
+            workers[w] = new Worker(w, Math.max(1, share), threads, mix);
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        LoadProfile profile = LoadProfile.constant(2000);
+        double duration = 30;
+        int players = 64;
+        int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+        int[] mix = {70, 20, 10};
+        long intervalMillis = 1000;
+        double sloMillis = 50;
+        double warmup = 2;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--rate":
+                case "--step":
+                case "--ramp":     profile = LoadProfile.parse(args[i].substring(2), args[++i]); break;
+                case "--duration": duration = Double.parseDouble(args[++i]); break;
+                case "--players":  players = Integer.parseInt(args[++i]); break;
+                case "--threads":  threads = Integer.parseInt(args[++i]); break;
+                case "--mix": {
+                    String[] m = args[++i].split(":");
+                    mix = new int[] {Integer.parseInt(m[0]), Integer.parseInt(m[1]), Integer.parseInt(m[2])};
+                    break;
+                }
+                case "--interval": intervalMillis = Long.parseLong(args[++i]); break;
+                case "--slo-ms":   sloMillis = Double.parseDouble(args[++i]); break;
+                case "--warmup":   warmup = Double.parseDouble(args[++i]); break;
+                default:
+                    System.err.println("[Warning] Unknown option: " + args[i]);
+            }
+        }
+
+        System.out.printf("[Load] %s for %.0f s, %d players on %d threads, mix %d:%d:%d (attack:heal:switch)%n",
+                profile, duration, players, threads, mix[0], mix[1], mix[2]);
+        new LoadGenerator(profile, duration, players, threads, mix).run(intervalMillis, sloMillis, warmup);
+    }
+
+    public void run(long intervalMillis, double sloMillis, double warmupSeconds)
+            throws InterruptedException {
+        long start = System.nanoTime() + 10_000_000L;   // let every worker reach its first slot
+        Thread[] threads = new Thread[workers.length];
+        for (int w = 0; w < workers.length; w++) {
+            workers[w].start = start;
+            threads[w] = new Thread(workers[w], "load-" + w);
+            threads[w].start();
+        }
+
+        LatencyHistogram interval = new LatencyHistogram();
+        LatencyHistogram total = new LatencyHistogram();
+        LatencyHistogram service = new LatencyHistogram();
+        long intervalNanos = intervalMillis * 1_000_000L;
+        long nextReport = start + intervalNanos;
+        String saturation = null;
+        System.out.println("[Load]   time   target/s   actual/s      p50 ms      p99 ms    p99.9 ms      max ms");
+
+        boolean running = true;
+        while (running) {
+            LockSupport.parkNanos(Math.max(0, nextReport - System.nanoTime()));
+            running = false;
+            for (Thread t : threads) {
+                running |= t.isAlive();
+            }
+            long now = System.nanoTime();
+            double seconds = (now - start) / 1e9;
+            double window = intervalNanos / 1e9;
+            for (Worker w : workers) {
+                w.drainInto(interval);
+            }
+            if (interval.getCount() == 0 && !running) {
+                break;   // nothing left after the last worker finished
+            }
+            total.add(interval);
+
+            double target = profile.rateAt(Math.max(0, seconds - window / 2));
+            double actual = interval.getCount() / window;
+            System.out.printf("[Load] %5.0fs %10.0f %10.0f %11.3f %11.3f %11.3f %11.3f%n",
+                    seconds, target, actual, ms(interval.percentile(50)), ms(interval.percentile(99)),
+                    ms(interval.percentile(99.9)), ms(interval.getMax()));
+            if (saturation == null && seconds > warmupSeconds && seconds - window < durationSeconds
+                    && (actual < 0.95 * target || ms(interval.percentile(99)) > sloMillis)) {
+                saturation = String.format("%.0f req/s at %.0f s (actual %.0f/s, p99 %.3f ms)",
+                        target, seconds, actual, ms(interval.percentile(99)));
+            }
+            interval.reset();
+            nextReport += intervalNanos;
+        }
+
+        for (Worker w : workers) {
+            service.add(w.service);
+        }
+        System.out.printf("[Load] total %,d commands: p50 %.3f ms, p99 %.3f ms, p99.9 %.3f ms, max %.3f ms%n",
+                total.getCount(), ms(total.percentile(50)), ms(total.percentile(99)),
+                ms(total.percentile(99.9)), ms(total.getMax()));
+        System.out.printf("[Load] service time only (what a closed-loop tool would report): p99 %.3f ms, p99.9 %.3f ms%n",
+                ms(service.percentile(99)), ms(service.percentile(99.9)));
+        System.out.println("[Load] saturation: " + (saturation != null ? saturation
+                : "not reached (target rate met, p99 within " + sloMillis + " ms)"));
+    }
+
+    private static double ms(long nanos) {
+        return nanos / 1e6;
+    }
+
+    /** One thread driving a fixed set of sessions on its share of the schedule. */
+    private final class Worker implements Runnable {
+        private final int id;
+        private final GameFacade[] sessions;
+        private final int workerCount;
+        private final int attackBelow;
+        private final int healBelow;
+        private final SplittableRandom random;
+        private final LatencyHistogram recorded = new LatencyHistogram();   // guarded by this
+        final LatencyHistogram service = new LatencyHistogram();            // read after join
+        volatile long start;
+
+        Worker(int id, int players, int workerCount, int[] mix) {
+            this.id = id;
+            this.workerCount = workerCount;
+            int sum = mix[0] + mix[1] + mix[2];
+            this.attackBelow = mix[0] * 1000 / sum;
+            this.healBelow = (mix[0] + mix[1]) * 1000 / sum;
+            this.random = new SplittableRandom(id);
+            this.sessions = new GameFacade[players];
+            for (int p = 0; p < players; p++) {
+                sessions[p] = new GameFacade();
+                sessions[p].startNewGame("load-" + id + "-" + p, "warrior", 1 + p % 3, random.nextLong());
+            }
+        }
+
+        @Override
+        public void run() {
+            // Workers interleave their slots rather than all firing together
+            long intended = start + (long) (1e9 / Math.max(1, profile.rateAt(0))) * id;
+            long end = start + (long) (durationSeconds * 1e9);
+            int next = 0;
+            while (intended < end) {
+                waitUntil(intended);
+                long began = System.nanoTime();
+                command(sessions[next]);
+                next = (next + 1) % sessions.length;
+                long done = System.nanoTime();
+
+                synchronized (this) {
+                    recorded.record(done - intended);
+                }
+                service.record(done - began);
+
+                double rate = Math.max(1e-3, profile.rateAt((intended - start) / 1e9)) / workerCount;
+                intended += (long) (1e9 / rate);
+            }
+        }
+
+        private void command(GameFacade game) {
+            if (game.isBattleOver()) {
+                game.startNewGame(game.getPlayer().getName(), "warrior", game.getConfig().getDifficulty(),
+                        random.nextLong());
+                return;
+            }
+            int roll = random.nextInt(1000);
+            if (roll < attackBelow) {
+                game.playerAttack();
+            } else if (roll < healBelow) {
+                game.playerHeal();
+            } else {
+                SharedStrategies s = game.getConfig().strategies();
+                game.playerSwitchStrategy(game.getPlayer().getStrategy() == s.defensive()
+                        ? s.aggressiveCrit() : s.defensive());
+            }
+        }
+
+        synchronized void drainInto(LatencyHistogram into) {
+            into.add(recorded);
+            recorded.reset();
+        }
+
+        // Park for the bulk of the wait, spin the last stretch for accuracy
+        private void waitUntil(long deadline) {
+            long remaining;
+            while ((remaining = deadline - System.nanoTime()) > 0) {
+                if (remaining > 200_000) {
+                    LockSupport.parkNanos(remaining - 100_000);
+                } else {
+                    Thread.onSpinWait();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package edu.neu.csye7374;
+
+/**
+ * Target request rate over time for LoadGenerator.
+ *
+ *   constant  rate                    e.g. "5000"
+ *   step      start:step:every:max    rate += step every {@code every} seconds
+ *   ramp      from:to:seconds         linear from -> to, then holds {@code to}
+ */
+public final class LoadProfile {
+
+    private final String description;
+    private final double start;
+    private final double step;          // step profile: per increment
+    private final double stepSeconds;   // step profile: increment period (0 = none)
+    private final double end;           // cap (step) or target (ramp)
+    private final double rampSeconds;   // ramp profile: duration (0 = none)
+
+    private LoadProfile(String description, double start, double step, double stepSeconds,
+                        double end, double rampSeconds) {
+        this.description = description;
+        this.start = start;
+        this.step = step;
+        this.stepSeconds = stepSeconds;
+        this.end = end;
+        this.rampSeconds = rampSeconds;
+    }
+
+    public static LoadProfile constant(double rate) {
+        return new LoadProfile("constant " + rate + "/s", rate, 0, 0, rate, 0);
+    }
+
+    public static LoadProfile step(double start, double step, double everySeconds, double max) {
+        return new LoadProfile("step " + start + "/s +" + step + " every " + everySeconds + "s up to " + max,
+                start, step, everySeconds, max, 0);
+    }
+
+    public static LoadProfile ramp(double from, double to, double seconds) {
+        return new LoadProfile("ramp " + from + "/s -> " + to + "/s over " + seconds + "s",
+                from, 0, 0, to, seconds);
+    }
+
+    /** Requests per second at {@code seconds} into the run. */
+    public double rateAt(double seconds) {
+        if (stepSeconds > 0) {
+            return Math.min(end, start + step * Math.floor(seconds / stepSeconds));
+        }
+        if (rampSeconds > 0) {
+            return seconds >= rampSeconds ? end : start + (end - start) * seconds / rampSeconds;
+        }
+        return start;
+    }
+
+    public static LoadProfile parse(String kind, String spec) {
+        String[] p = spec.split(":");
+        switch (kind) {
+            case "rate":
+                return constant(Double.parseDouble(p[0]));
+            case "step":
+                return step(Double.parseDouble(p[0]), Double.parseDouble(p[1]),
+                        Double.parseDouble(p[2]), Double.parseDouble(p[3]));
+            case "ramp":
+                return ramp(Double.parseDouble(p[0]), Double.parseDouble(p[1]), Double.parseDouble(p[2]));
+            default:
+                throw new IllegalArgumentException("Unknown profile: " + kind);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
@@ -0,0 +1,63 @@
+package edu.neu.csye7374;
+
+/**
+ * One stat change from an item or buff: a flat amount and/or a percentage
+ * on a single stat. Immutable; a Character applies it as
+ *   final = (base + sum of flat) * (100 + sum of percent) / 100
+ * per stat, so both stacks add up and removing a modifier is exact.
+ *
+ * Modifiers are removed by identity: keep the instance you added (or the
+ * Equipment that holds it).
+ */
+public final class Modifier {
+
+    private final String source;
+    private final StatType stat;
+    private final int flat;
+    private final int percent;
+
+    public Modifier(String source, StatType stat, int flat, int percent) {
+        this.source = source;
+        this.stat = stat;
+        this.flat = flat;
+        this.percent = percent;
+    }
+
+    public static Modifier flat(String source, StatType stat, int amount) {
+        return new Modifier(source, stat, amount, 0);
+    }
+
+    public static Modifier percent(String source, StatType stat, int percent) {
+        return new Modifier(source, stat, 0, percent);
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public StatType getStat() {
+        return stat;
+    }
+
+    public int getFlat() {
+        return flat;
+    }
+
+    public int getPercent() {
+        return percent;
+    }
+
+    // Stable across JVMs (content, not identity), for state hashing
+    long key() {
+        long k = StateHash.mix(source.hashCode() + ((long) stat.ordinal() << 32));
+        return StateHash.mix(k ^ ((long) flat << 32 | (percent & 0xFFFFFFFFL)));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(source).append(": ").append(stat);
+        if (flat != 0) sb.append(flat > 0 ? " +" : " ").append(flat);
+        if (percent != 0) sb.append(percent > 0 ? " +" : " ").append(percent).append('%');
+        return sb.toString();
+    }
+}
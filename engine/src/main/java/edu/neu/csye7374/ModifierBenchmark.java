@@ -0,0 +1,133 @@
+package edu.neu.csye7374;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Cached modifier aggregates vs walking every modifier on every hit.
+ *
+ * First churns modifiers on a character (random equips, buffs with
+ * durations, removals and ticks) and checks after every step that the
+ * incrementally maintained stats equal a full recompute, and that the
+ * state hash returns to its starting value once everything is gone.
+ *
+ * Then times Aggressive+Crit attacks between two characters carrying
+ * {@code n} modifiers each: once through getStats() (one field read) and
+ * once with a strategy that re-derives both sides' stats from their
+ * modifier lists per hit, as code without the aggregate would.
+ *
+ * Usage: ModifierBenchmark [--attacks n] [--steps n]
+ */
+public class ModifierBenchmark {
+
+    public static void main(String[] args) {
+        int attacks = 2_000_000;
+        int steps = 200_000;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--attacks": attacks = Integer.parseInt(args[++i]); break;
+                case "--steps":   steps = Integer.parseInt(args[++i]); break;
+                default:
+                    System.err.println("[Warning] Unknown option: " + args[i]);
+            }
+        }
+        churn(steps);
+        GameConfig config = GameConfig.defaults();
+        AttackStrategy cached = config.strategies().aggressiveCrit();
+        AttackStrategy walking = new CriticalStrikeDecorator(new WalkingAttack(config), config);
+        for (int n : new int[] {0, 4, 16, 64}) {
+            for (int r = 0; r < 3; r++) {       // warm-up
+                run(config, cached, n, attacks / 10);
+                run(config, walking, n, attacks / 10);
+            }
+            double a = run(config, cached, n, attacks);
+            double b = run(config, walking, n, attacks);
+            System.out.printf("[Modifiers] %2d modifiers: cached %6.2f ns/attack, walking %6.2f ns/attack%n",
+                    n, a, b);
+        }
+    }
+
+    private static void churn(int steps) {
+        edu.neu.csye7374.Character c = CharacterPrototypes.WARRIOR.create("Hero", GameConfig.defaults());
+        long startHash = c.getStateHash();
+        SplittableRandom rnd = new SplittableRandom(7374);
+        StatType[] types = StatType.all();
+        List<Modifier> active = new ArrayList<>();
+        List<Equipment> equipped = new ArrayList<>();
+        for (int s = 0; s < steps; s++) {
+            int op = rnd.nextInt(10);
+            if (op < 3) {
+                Modifier m = new Modifier("buff" + s, types[rnd.nextInt(types.length)],
+                        rnd.nextInt(-20, 40), rnd.nextInt(-30, 60));
+                c.addModifier(m, rnd.nextInt(4));
+                active.add(m);
+            } else if (op < 5 && !active.isEmpty()) {
+                c.removeModifier(active.remove(rnd.nextInt(active.size())));
+            } else if (op < 6) {
+                Equipment e = new Equipment("item" + s,
+                        Modifier.flat("item" + s, StatType.ATTACK, rnd.nextInt(50)),
+                        Modifier.percent("item" + s, StatType.DEFENSE, rnd.nextInt(100)));
+                c.equip(e);
+                equipped.add(e);
+            } else if (op < 7 && !equipped.isEmpty()) {
+                c.unequip(equipped.remove(rnd.nextInt(equipped.size())));
+            } else {
+                c.tickModifiers();
+            }
+            if (c.modifierSet() != null && c.getStats() != c.modifierSet().recompute()) {
+                throw new IllegalStateException("aggregate differs from recompute at step " + s);
+            }
+        }
+        for (Modifier m : active) c.removeModifier(m);
+        for (Equipment e : equipped) c.unequip(e);
+        if (!c.getModifiers().isEmpty() || c.getStateHash() != startHash) {
+            throw new IllegalStateException("state hash not restored after removing every modifier");
+        }
+        System.out.printf("[Modifiers] %,d random changes: aggregates match a full recompute, "
+                + "hash restored (version %,d)%n", steps, c.getModifierVersion());
+    }
+
+    // ns per attack
+    private static double run(GameConfig config, AttackStrategy strategy, int modifiers, int attacks) {
+        edu.neu.csye7374.Character a = CharacterPrototypes.WARRIOR.create("A", config);
+        edu.neu.csye7374.Character b = CharacterPrototypes.GOBLIN.create("B", config);
+        for (int i = 0; i < modifiers; i++) {
+            StatType t = StatType.all()[i % 3];
+            a.addModifier(new Modifier("a" + i, t, 1, 1));
+            b.addModifier(new Modifier("b" + i, t, 1, 1));
+        }
+        b.setMaxHealth(Integer.MAX_VALUE);
+        a.setStrategy(strategy);
+        a.getRandom().setSeed(1);
+        long start = System.nanoTime();
+        for (int i = 0; i < attacks; i++) {
+            if (b.getHealth() < 1_000_000) b.setHealth(Integer.MAX_VALUE / 2);
+            a.attack(b);
+        }
+        return (System.nanoTime() - start) / (double) attacks;
+    }
+
+    /** AggressiveAttack, but deriving stats from the modifier lists on every hit. */
+    private static final class WalkingAttack extends AggressiveAttack {
+        private final GameConfig config;
+
+        WalkingAttack(GameConfig config) {
+            super(config);
+            this.config = config;
+        }
+
+        @Override
+        public void execute(edu.neu.csye7374.Character self, edu.neu.csye7374.Character target) {
+            if (target == null) return;
+            int min = config.getAggressiveMinDamage();
+            int roll = self.getRandom().nextInt(config.getAggressiveMaxDamage() - min + 1) + min;
+            target.takeDamage(StatBlock.damage(roll, stats(self), stats(target)));
+        }
+
+        private static long stats(edu.neu.csye7374.Character c) {
+            ModifierSet m = c.modifierSet();
+            return m == null ? c.getBaseStats() : m.recompute();
+        }
+    }
+}
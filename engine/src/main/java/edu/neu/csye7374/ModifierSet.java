@@ -0,0 +1,184 @@
+package edu.neu.csye7374;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable snapshot of a Character's active modifiers together with their
+ * aggregates: per stat the sum of flat amounts and the sum of percentages,
+ * and the resulting StatBlock.
+ *
+ * Every change (add, remove, expiry, new base stats) builds a new set from
+ * the old one by adjusting the aggregates by the changed modifiers only;
+ * the effective stats are then re-derived from the aggregates (one pass
+ * over the five stats, independent of how many modifiers are active). The
+ * Character swaps the reference in one write, so combat code reading
+ * getStats() sees either the old totals or the new ones, never a mix, and
+ * a strategy that reads the block once uses one consistent version for
+ * the whole attack. version counts changes.
+ */
+final class ModifierSet {
+
+    private static final long GAMMA = 0x9E3779B97F4A7C15L;
+    private static final int STATS = StatType.all().length;
+
+    final long base;                  // the character's own StatBlock
+    final long stats;                 // base with every modifier applied
+    final long version;               // +1 per change
+    final long key;                   // StateHash part for stats, modifiers and turns left
+
+    private final Modifier[] modifiers;
+    private final int[] turns;        // turns left; 0 = until removed
+    private final int[] flat;         // by StatType ordinal
+    private final int[] percent;
+    private final long modifiersKey;  // sum of entryKey over modifiers
+    private final int timed;          // modifiers with turns > 0
+
+    private ModifierSet(long base, Modifier[] modifiers, int[] turns, int[] flat, int[] percent,
+                        long modifiersKey, int timed, long version) {
+        this.base = base;
+        this.modifiers = modifiers;
+        this.turns = turns;
+        this.flat = flat;
+        this.percent = percent;
+        this.modifiersKey = modifiersKey;
+        this.timed = timed;
+        this.version = version;
+        this.stats = apply(base, flat, percent);
+        this.key = StateHash.stats(stats) ^ modifiersKey;
+    }
+
+    static ModifierSet empty(long base, long version) {
+        return new ModifierSet(base, new Modifier[0], new int[0], new int[STATS], new int[STATS], 0, 0, version);
+    }
+
+    // --- Changes (each returns a new set) ---
+
+    ModifierSet with(Modifier m, int turnsLeft) {
+        if (turnsLeft < 0) {
+            throw new IllegalArgumentException("negative duration " + turnsLeft);
+        }
+        int n = modifiers.length;
+        Modifier[] mods = Arrays.copyOf(modifiers, n + 1);
+        int[] t = Arrays.copyOf(turns, n + 1);
+        mods[n] = m;
+        t[n] = turnsLeft;
+        int[] f = flat.clone();
+        int[] p = percent.clone();
+        f[m.getStat().ordinal()] += m.getFlat();
+        p[m.getStat().ordinal()] += m.getPercent();
+        return new ModifierSet(base, mods, t, f, p, modifiersKey + entryKey(m, turnsLeft),
+                timed + (turnsLeft > 0 ? 1 : 0), version + 1);
+    }
+
+    /** This set without {@code m} (by identity); this set if {@code m} isn't active. */
+    ModifierSet without(Modifier m) {
+        for (int i = 0; i < modifiers.length; i++) {
+            if (modifiers[i] == m) {
+                return remove(i);
+            }
+        }
+        return this;
+    }
+
+    private ModifierSet remove(int i) {
+        Modifier m = modifiers[i];
+        int n = modifiers.length - 1;
+        Modifier[] mods = new Modifier[n];
+        int[] t = new int[n];
+        System.arraycopy(modifiers, 0, mods, 0, i);
+        System.arraycopy(modifiers, i + 1, mods, i, n - i);
+        System.arraycopy(turns, 0, t, 0, i);
+        System.arraycopy(turns, i + 1, t, i, n - i);
+        int[] f = flat.clone();
+        int[] p = percent.clone();
+        f[m.getStat().ordinal()] -= m.getFlat();
+        p[m.getStat().ordinal()] -= m.getPercent();
+        return new ModifierSet(base, mods, t, f, p, modifiersKey - entryKey(m, turns[i]),
+                timed - (turns[i] > 0 ? 1 : 0), version + 1);
+    }
+
+    /** One turn passes: timed modifiers count down and those reaching 0 expire. */
+    ModifierSet tick() {
+        if (timed == 0) return this;
+        int n = modifiers.length;
+        Modifier[] mods = new Modifier[n];
+        int[] t = new int[n];
+        int[] f = flat.clone();
+        int[] p = percent.clone();
+        long k = modifiersKey;
+        int left = 0;
+        int kept = 0;
+        for (int i = 0; i < n; i++) {
+            Modifier m = modifiers[i];
+            int turnsLeft = turns[i];
+            if (turnsLeft > 0) {
+                k -= entryKey(m, turnsLeft);
+                if (--turnsLeft == 0) {                // expired
+                    f[m.getStat().ordinal()] -= m.getFlat();
+                    p[m.getStat().ordinal()] -= m.getPercent();
+                    continue;
+                }
+                k += entryKey(m, turnsLeft);
+                left++;
+            }
+            mods[kept] = m;
+            t[kept] = turnsLeft;
+            kept++;
+        }
+        return new ModifierSet(base, Arrays.copyOf(mods, kept), Arrays.copyOf(t, kept), f, p, k, left, version + 1);
+    }
+
+    ModifierSet withBase(long base) {
+        return new ModifierSet(base, modifiers, turns, flat, percent, modifiersKey, timed, version + 1);
+    }
+
+    // --- Reads ---
+
+    int size() {
+        return modifiers.length;
+    }
+
+    List<Modifier> modifiers() {
+        return Collections.unmodifiableList(Arrays.asList(modifiers.clone()));
+    }
+
+    /** Turns left for {@code m} (0 = permanent); -1 if it isn't active. */
+    int turnsLeft(Modifier m) {
+        for (int i = 0; i < modifiers.length; i++) {
+            if (modifiers[i] == m) return turns[i];
+        }
+        return -1;
+    }
+
+    /**
+     * Effective stats recomputed by walking every modifier: what stats
+     * would cost on every hit without the aggregates. For checks and
+     * benchmarks only.
+     */
+    long recompute() {
+        int[] f = new int[STATS];
+        int[] p = new int[STATS];
+        for (Modifier m : modifiers) {
+            f[m.getStat().ordinal()] += m.getFlat();
+            p[m.getStat().ordinal()] += m.getPercent();
+        }
+        return apply(base, f, p);
+    }
+
+    private static long apply(long base, int[] flat, int[] percent) {
+        long s = base;
+        for (StatType type : StatType.all()) {
+            int i = type.ordinal();
+            if (flat[i] == 0 && percent[i] == 0) continue;
+            long v = ((long) type.get(base) + flat[i]) * Math.max(0, 100 + percent[i]) / 100;
+            s = type.with(s, (int) Math.max(0, Math.min(v, type.getMax())));
+        }
+        return s;
+    }
+
+    private static long entryKey(Modifier m, int turnsLeft) {
+        return StateHash.mix(m.key() + turnsLeft * GAMMA);
+    }
+}
@@ -0,0 +1,80 @@
+package edu.neu.csye7374;
+
+/**
+ * Design Pattern: Observer (shared channel)
+ * -----------------------------------------
+ * A copy-on-write set of subscriptions that any number of Characters can
+ * reference. Joining a channel costs a Character one reference, and a
+ * subscription change publishes a new EventDispatchTable through a
+ * volatile field, so every member sees it at once without locking on the
+ * publish path.
+ *
+ * A Character's own subscriptions (addObserver / subscribe) go into a
+ * private channel layered on top of the shared one, so they never leak to
+ * the other members.
+ */
+public class ObserverChannel {
+
+    /** Channel of a Character nobody observes. Immutable. */
+    static final ObserverChannel NONE = new ObserverChannel(null, null);
+
+    private final ObserverChannel parent;   // shared channel below a private one
+    private final Character owner;          // null for shared channels
+    private volatile EventDispatchTable table = EventDispatchTable.EMPTY;
+
+    public ObserverChannel() {
+        this(null, null);
+    }
+
+    ObserverChannel(ObserverChannel parent, Character owner) {
+        this.parent = (parent == NONE) ? null : parent;
+        this.owner = owner;
+    }
+
+    boolean isOwnedBy(Character c) {
+        return owner == c;
+    }
+
+    ObserverChannel getParent() {
+        return parent;
+    }
+
+    // --- Subscriptions (copy-on-write, writers serialised) ---
+
+    public synchronized void addObserver(GameObserver obs) {
+        checkMutable();
+        table = table.withAll(obs);
+    }
+
+    public synchronized void subscribe(GameObserver obs, GameEventType... types) {
+        checkMutable();
+        table = table.with(obs, types);
+    }
+
+    public synchronized void removeObserver(GameObserver obs) {
+        checkMutable();
+        table = table.without(obs);
+    }
+
+    public synchronized void clear() {
+        checkMutable();
+        table = EventDispatchTable.EMPTY;
+    }
+
+    private void checkMutable() {
+        if (this == NONE) throw new UnsupportedOperationException("NONE channel is immutable");
+    }
+
+    // --- Publishing (lock-free) ---
+
+    public boolean hasObservers(GameEventType type) {
+        return table.hasObservers(type) || (parent != null && parent.hasObservers(type));
+    }
+
+    public void publish(GameEventType type, Character source, String message) {
+        table.publish(type, source, message);
+        if (parent != null) {
+            parent.publish(type, source, message);
+        }
+    }
+}
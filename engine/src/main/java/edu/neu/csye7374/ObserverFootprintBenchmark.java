@@ -0,0 +1,85 @@
+package edu.neu.csye7374;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares retained heap per Character for different ways of observing a
+ * large population of combatants.
+ *
+ * Scenarios (each subscribes the same two observers, as GameFacade and
+ * GameGUI do):
+ *   bare      - no observers at all (baseline)
+ *   list      - one ArrayList of observers per Character (the old layout,
+ *               modelled alongside the Character since the field is gone)
+ *   private   - addObserver() on every Character (private channel each)
+ *   shared    - every Character joins one ObserverChannel
+ *
+ * Usage: ObserverFootprintBenchmark [count]   (default 1,000,000)
+ * Run with a fixed heap (e.g. -Xms1g -Xmx1g) for stable numbers.
+ */
+public class ObserverFootprintBenchmark {
+
+    private static final String[] SCENARIOS = {"bare", "list", "private", "shared"};
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        GameObserver a = message -> { };
+        GameObserver b = message -> { };
+
+        System.out.printf("[Footprint] %,d characters%n", count);
+        for (String scenario : SCENARIOS) {
+            long before = usedHeap();
+            Object[][] retained = populate(scenario, count, a, b);
+            long after = usedHeap();
+            System.out.printf("  %-8s %7.1f bytes/character%n",
+                    scenario, (after - before) / (double) count);
+            // Touch the arrays so they stay reachable until measured
+            if (retained[0].length != count) throw new IllegalStateException();
+        }
+    }
+
+    // Returns {characters, side lists}; both arrays are allocated in every
+    // scenario so the array overhead cancels out of the comparison
+    private static Object[][] populate(String scenario, int count, GameObserver a, GameObserver b) {
+        Object[] out = new Object[count];
+        Object[] lists = new Object[count];
+        ObserverChannel shared = new ObserverChannel();
+        shared.addObserver(a);
+        shared.addObserver(b);
+
+        for (int i = 0; i < count; i++) {
+            Character c = new Character("C", 100);
+            switch (scenario) {
+                case "list":
+                    List<GameObserver> observers = new ArrayList<>();
+                    observers.add(a);
+                    observers.add(b);
+                    lists[i] = observers;
+                    break;
+                case "private":
+                    c.addObserver(a);
+                    c.addObserver(b);
+                    break;
+                case "shared":
+                    c.joinChannel(shared);
+                    break;
+                default:
+                    break;
+            }
+            out[i] = c;
+        }
+        return new Object[][] {out, lists};
+    }
+
+    private static long usedHeap() {
+        Runtime rt = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        // Several collections: the first may leave floating garbage behind
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            used = Math.min(used, rt.totalMemory() - rt.freeMemory());
+        }
+        return used;
+    }
+}
@@ -0,0 +1,83 @@
+package edu.neu.csye7374;
+
+/**
+ * One row of an OutcomeQuery result: totals for a strategy x difficulty
+ * group (either may be null / -1 when the query didn't group by it).
+ */
+public class OutcomeGroup {
+
+    private final String strategy;
+    private final int difficulty;
+    final long[] totals;   // indexed by OutcomeQuery's T_* constants
+    private final boolean hasDamage;
+
+    OutcomeGroup(String strategy, int difficulty, long[] totals, boolean hasDamage) {
+        this.strategy = strategy;
+        this.difficulty = difficulty;
+        this.totals = totals;
+        this.hasDamage = hasDamage;
+    }
+
+    /** False when the query ran without withDamage(): damage and crit totals are 0. */
+    public boolean hasDamage() {
+        return hasDamage;
+    }
+
+    public String getStrategy() {
+        return strategy;
+    }
+
+    public int getDifficulty() {
+        return difficulty;
+    }
+
+    public long getBattles() {
+        return totals[OutcomeQuery.T_BATTLES];
+    }
+
+    public long getWins() {
+        return totals[OutcomeQuery.T_WINS];
+    }
+
+    public long getDraws() {
+        return totals[OutcomeQuery.T_DRAWS];
+    }
+
+    public long getTotalTurns() {
+        return totals[OutcomeQuery.T_TURNS];
+    }
+
+    public long getTotalDamageDealt() {
+        return totals[OutcomeQuery.T_DEALT];
+    }
+
+    public long getTotalDamageTaken() {
+        return totals[OutcomeQuery.T_TAKEN];
+    }
+
+    public long getTotalCrits() {
+        return totals[OutcomeQuery.T_CRITS];
+    }
+
+    public double getWinRate() {
+        return getBattles() == 0 ? 0 : getWins() / (double) getBattles();
+    }
+
+    public double getMeanTurns() {
+        return getBattles() == 0 ? 0 : getTotalTurns() / (double) getBattles();
+    }
+
+    @Override
+    public String toString() {
+        long n = Math.max(1, getBattles());
+        String s = String.format("%-28s d=%-3s %,12d battles  win %6.2f%%  draw %5.2f%%  turns %6.2f",
+                strategy != null ? strategy : "*", difficulty >= 0 ? String.valueOf(difficulty) : "*",
+                getBattles(), 100.0 * getWinRate(), 100.0 * getDraws() / n, getMeanTurns());
+        if (hasDamage) {
+            s += String.format("  dealt %7.2f  taken %7.2f  crits %5.2f",
+                    getTotalDamageDealt() / (double) n, getTotalDamageTaken() / (double) n,
+                    getTotalCrits() / (double) n);
+        }
+        return s;
+    }
+}
@@ -0,0 +1,197 @@
+package edu.neu.csye7374;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Filtered group-by aggregate over an OutcomeStore.
+ *
+ * Filters are translated to per-dictionary-code lookup tables once, so the
+ * scan itself is a primitive loop over the mapped columns: a few array
+ * lookups and adds per row, no strings, no boxing. Only the columns the
+ * query needs are read (damage and crit columns only with withDamage()).
+ *
+ *   List&lt;OutcomeGroup&gt; rows = store.query()
+ *           .difficulty(2, 3)
+ *           .groupByStrategyAndDifficulty()
+ *           .run();
+ */
+public class OutcomeQuery {
+
+    static final int T_BATTLES = 0;
+    static final int T_WINS = 1;
+    static final int T_DRAWS = 2;
+    static final int T_TURNS = 3;
+    static final int T_DEALT = 4;
+    static final int T_TAKEN = 5;
+    static final int T_CRITS = 6;
+    private static final int TOTALS = 7;
+
+    private final OutcomeStore store;
+    private int[] difficulties;      // null = all
+    private String[] strategies;     // null = all
+    private final boolean[] winners = {true, true, true};
+    private int minTurns = 0;
+    private int maxTurns = Integer.MAX_VALUE;
+    private boolean byStrategy;
+    private boolean byDifficulty;
+    private boolean withDamage;
+
+    OutcomeQuery(OutcomeStore store) {
+        this.store = store;
+    }
+
+    public OutcomeQuery difficulty(int... values) {
+        difficulties = values.clone();
+        return this;
+    }
+
+    public OutcomeQuery strategy(String... names) {
+        strategies = names.clone();
+        return this;
+    }
+
+    /** Keeps only rows with these results (OutcomeStore.PLAYER_WON etc.). */
+    public OutcomeQuery winner(int... results) {
+        for (int r : results) {
+            if (r < 0 || r >= winners.length) {
+                throw new IllegalArgumentException("Unknown result code " + r + " (expected "
+                        + OutcomeStore.ENEMY_WON + "-" + OutcomeStore.DRAW + ")");
+            }
+        }
+        Arrays.fill(winners, false);
+        for (int r : results) {
+            winners[r] = true;
+        }
+        return this;
+    }
+
+    public OutcomeQuery turnsBetween(int min, int max) {
+        minTurns = min;
+        maxTurns = max;
+        return this;
+    }
+
+    public OutcomeQuery groupByStrategy() {
+        byStrategy = true;
+        return this;
+    }
+
+    public OutcomeQuery groupByDifficulty() {
+        byDifficulty = true;
+        return this;
+    }
+
+    public OutcomeQuery groupByStrategyAndDifficulty() {
+        byStrategy = true;
+        byDifficulty = true;
+        return this;
+    }
+
+    /** Also sums damage dealt/taken and crits (three more columns to scan). */
+    public OutcomeQuery withDamage() {
+        withDamage = true;
+        return this;
+    }
+
+    /** Runs the scan; groups with no matching rows are left out. */
+    public List<OutcomeGroup> run() {
+        String[] strategyDict = store.strategyDictionary();
+        int[] difficultyDict = store.difficultyDictionary();
+        int sGroups = byStrategy ? strategyDict.length : 1;
+        int dGroups = byDifficulty ? difficultyDict.length : 1;
+
+        // Dictionary code -> group key, or -1 when filtered out
+        int[] sKey = new int[Math.max(1, strategyDict.length)];
+        for (int c = 0; c < strategyDict.length; c++) {
+            sKey[c] = !matches(strategies, strategyDict[c]) ? -1 : byStrategy ? c * dGroups : 0;
+        }
+        int[] dKey = new int[Math.max(1, difficultyDict.length)];
+        for (int c = 0; c < difficultyDict.length; c++) {
+            dKey[c] = !matches(difficulties, difficultyDict[c]) ? -1 : byDifficulty ? c : 0;
+        }
+
+        long[][] totals = new long[TOTALS][sGroups * dGroups];
+        scan(sKey, dKey, totals);
+
+        List<OutcomeGroup> out = new ArrayList<>();
+        for (int s = 0; s < sGroups; s++) {
+            for (int d = 0; d < dGroups; d++) {
+                int g = s * dGroups + d;
+                if (totals[T_BATTLES][g] == 0) continue;
+                long[] row = new long[TOTALS];
+                for (int t = 0; t < TOTALS; t++) {
+                    row[t] = totals[t][g];
+                }
+                out.add(new OutcomeGroup(byStrategy ? strategyDict[s] : null,
+                        byDifficulty ? difficultyDict[d] : -1, row, withDamage));
+            }
+        }
+        return out;
+    }
+
+    private void scan(int[] sKey, int[] dKey, long[][] totals) {
+        ByteBuffer difficultyCol = store.difficulties;
+        ShortBuffer strategyCol = store.strategies;
+        ByteBuffer winnerCol = store.winners;
+        ShortBuffer turnsCol = store.turns;
+        IntBuffer dealtCol = store.dealt;
+        IntBuffer takenCol = store.taken;
+        ShortBuffer critsCol = store.crits;
+
+        long[] battles = totals[T_BATTLES];
+        long[] wins = totals[T_WINS];
+        long[] draws = totals[T_DRAWS];
+        long[] turnSum = totals[T_TURNS];
+        long[] dealtSum = totals[T_DEALT];
+        long[] takenSum = totals[T_TAKEN];
+        long[] critSum = totals[T_CRITS];
+
+        boolean[] keepWinner = winners.clone();
+        final int minT = minTurns;
+        final int maxT = maxTurns;
+        final boolean damage = withDamage;
+        final int rows = store.getRowCount();
+
+        for (int i = 0; i < rows; i++) {
+            int sk = sKey[strategyCol.get(i) & 0xFFFF];
+            int dk = dKey[difficultyCol.get(i) & 0xFF];
+            if ((sk | dk) < 0) continue;
+            int w = winnerCol.get(i);
+            if (!keepWinner[w]) continue;
+            int t = turnsCol.get(i) & 0xFFFF;
+            if (t < minT || t > maxT) continue;
+
+            int g = sk + dk;
+            battles[g]++;
+            wins[g] += w & 1;          // PLAYER_WON == 1
+            draws[g] += w >>> 1;       // DRAW == 2
+            turnSum[g] += t;
+            if (damage) {
+                dealtSum[g] += dealtCol.get(i);
+                takenSum[g] += takenCol.get(i);
+                critSum[g] += critsCol.get(i) & 0xFFFF;
+            }
+        }
+    }
+
+    private static boolean matches(String[] filter, String value) {
+        if (filter == null) return true;
+        for (String f : filter) {
+            if (f.equals(value)) return true;
+        }
+        return false;
+    }
+
+    private static boolean matches(int[] filter, int value) {
+        if (filter == null) return true;
+        for (int f : filter) {
+            if (f == value) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,177 @@
+package edu.neu.csye7374;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Read-only, memory-mapped columnar store of battle outcomes.
+ *
+ * A store is a directory with one file per column (little-endian):
+ *   seed.col          delta + zigzag + varint encoded longs
+ *   difficulty.col    u8 dictionary codes   (difficulty.dict, one value per line)
+ *   strategy.col      u16 dictionary codes  (strategy.dict, one chain per line)
+ *   winner.col        u8: 0 enemy, 1 player, 2 draw
+ *   turns.col         u16
+ *   damage_dealt.col  i32
+ *   damage_taken.col  i32
+ *   crits.col         u16
+ *   store.meta        format version and row count, written last
+ *
+ * Queries (see OutcomeQuery) scan the mapped columns with primitive loops
+ * and never decode strings per row. Written by OutcomeStoreWriter.
+ */
+public class OutcomeStore {
+
+    static final int FORMAT_VERSION = 1;
+    static final String META_FILE = "store.meta";
+
+    static final String SEED = "seed";
+    static final String DIFFICULTY = "difficulty";
+    static final String STRATEGY = "strategy";
+    static final String WINNER = "winner";
+    static final String TURNS = "turns";
+    static final String DAMAGE_DEALT = "damage_dealt";
+    static final String DAMAGE_TAKEN = "damage_taken";
+    static final String CRITS = "crits";
+
+    public static final int ENEMY_WON = 0;
+    public static final int PLAYER_WON = 1;
+    public static final int DRAW = 2;
+
+    private final Path dir;
+    private final int rows;
+    private final int[] difficultyDict;
+    private final String[] strategyDict;
+
+    final ByteBuffer difficulties;
+    final ShortBuffer strategies;
+    final ByteBuffer winners;
+    final ShortBuffer turns;
+    final IntBuffer dealt;
+    final IntBuffer taken;
+    final ShortBuffer crits;
+
+    private OutcomeStore(Path dir, int rows, int[] difficultyDict, String[] strategyDict)
+            throws IOException {
+        this.dir = dir;
+        this.rows = rows;
+        this.difficultyDict = difficultyDict;
+        this.strategyDict = strategyDict;
+        difficulties = map(DIFFICULTY, rows);
+        strategies = map(STRATEGY, rows * 2L).asShortBuffer();
+        winners = map(WINNER, rows);
+        turns = map(TURNS, rows * 2L).asShortBuffer();
+        dealt = map(DAMAGE_DEALT, rows * 4L).asIntBuffer();
+        taken = map(DAMAGE_TAKEN, rows * 4L).asIntBuffer();
+        crits = map(CRITS, rows * 2L).asShortBuffer();
+    }
+
+    public static OutcomeStore open(Path dir) throws IOException {
+        Path metaFile = dir.resolve(META_FILE);
+        if (!Files.exists(metaFile)) {
+            throw new IOException("Not a complete outcome store (no " + META_FILE + "): " + dir);
+        }
+        Properties meta = new Properties();
+        try (InputStream in = Files.newInputStream(metaFile)) {
+            meta.load(in);
+        }
+        int format = Integer.parseInt(meta.getProperty("format", "0"));
+        if (format != FORMAT_VERSION) {
+            throw new IOException("Unsupported store format " + format + " in " + dir);
+        }
+        long rows = Long.parseLong(meta.getProperty("rows", "0"));
+        if (rows * 4 > Integer.MAX_VALUE) {
+            throw new IOException("Store too large to map (" + rows + " rows): " + dir);
+        }
+
+        List<String> difficultyLines = Files.readAllLines(dir.resolve(DIFFICULTY + ".dict"), StandardCharsets.UTF_8);
+        int[] difficultyDict = new int[difficultyLines.size()];
+        for (int i = 0; i < difficultyDict.length; i++) {
+            difficultyDict[i] = Integer.parseInt(difficultyLines.get(i));
+        }
+        String[] strategyDict = Files.readAllLines(dir.resolve(STRATEGY + ".dict"), StandardCharsets.UTF_8)
+                .toArray(new String[0]);
+        return new OutcomeStore(dir, (int) rows, difficultyDict, strategyDict);
+    }
+
+    private MappedByteBuffer map(String column, long bytes) throws IOException {
+        try (FileChannel ch = FileChannel.open(dir.resolve(column + ".col"), StandardOpenOption.READ)) {
+            if (ch.size() < bytes) {
+                throw new IOException("Column " + column + " is truncated in " + dir);
+            }
+            // The mapping stays valid after the channel is closed
+            MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, 0, bytes);
+            buf.order(ByteOrder.LITTLE_ENDIAN);
+            return buf;
+        }
+    }
+
+    public int getRowCount() {
+        return rows;
+    }
+
+    public Path getDirectory() {
+        return dir;
+    }
+
+    /** Difficulty for each dictionary code (code = index). */
+    public int[] difficultyDictionary() {
+        return difficultyDict.clone();
+    }
+
+    /** Strategy chain for each dictionary code (code = index). */
+    public String[] strategyDictionary() {
+        return strategyDict.clone();
+    }
+
+    int difficultyAt(int code) {
+        return difficultyDict[code];
+    }
+
+    String strategyAt(int code) {
+        return strategyDict[code];
+    }
+
+    /** Decodes {@code count} seeds starting at row {@code from} (sequential varint scan). */
+    public long[] seeds(int from, int count) throws IOException {
+        if (from < 0 || count < 0 || from + count > rows) {
+            throw new IndexOutOfBoundsException("rows " + from + ".." + (from + count) + " of " + rows);
+        }
+        long[] out = new long[count];
+        try (FileChannel ch = FileChannel.open(dir.resolve(SEED + ".col"), StandardOpenOption.READ)) {
+            MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+            long seed = 0;
+            for (int row = 0; row < from + count; row++) {
+                long zz = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = buf.get();
+                    zz |= (long) (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                seed += (zz >>> 1) ^ -(zz & 1);
+                if (row >= from) {
+                    out[row - from] = seed;
+                }
+            }
+        }
+        return out;
+    }
+
+    public OutcomeQuery query() {
+        return new OutcomeQuery(this);
+    }
+}
@@ -0,0 +1,115 @@
+package edu.neu.csye7374;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Command-line front end for OutcomeStore.
+ *
+ *   OutcomeStoreTool generate &lt;dir&gt; [--battles n] [--seed s]
+ *       Simulates n battles (default 1,000,000) for every difficulty and
+ *       player strategy (goblin plays aggressive) and writes them to dir.
+ *
+ *   OutcomeStoreTool query &lt;dir&gt; [--difficulty d,..] [--strategy name,..]
+ *                          [--group none|strategy|difficulty|both] [--damage] [--repeat n]
+ *       Prints the grouped aggregates (default: win rate by strategy x
+ *       difficulty) and the scan rate of the fastest of n runs.
+ */
+public class OutcomeStoreTool {
+
+    private static final String[] STRATEGIES = {"aggressive", "defensive", "aggressive+crit"};
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: OutcomeStoreTool generate|query <dir> [options]");
+            return;
+        }
+        Path dir = Paths.get(args[1]);
+        if (args[0].equals("generate")) {
+            generate(dir, args);
+        } else if (args[0].equals("query")) {
+            query(dir, args);
+        } else {
+            System.err.println("[Error] Unknown command: " + args[0]);
+        }
+    }
+
+    private static void generate(Path dir, String[] args) throws IOException {
+        long battles = 1_000_000;
+        long seed = 7374;
+        for (int i = 2; i < args.length; i++) {
+            switch (args[i]) {
+                case "--battles": battles = Long.parseLong(args[++i]); break;
+                case "--seed":    seed = Long.parseLong(args[++i]); break;
+                default:
+                    System.err.println("[Warning] Unknown option: " + args[i]);
+            }
+        }
+
+        GameConfig base = GameConfig.current();
+        int difficulties = base.goblinHpTableSize() - 1;
+        BattleSimulator sim = new BattleSimulator();
+        long start = System.nanoTime();
+        try (OutcomeStoreWriter writer = OutcomeStoreWriter.create(dir)) {
+            for (long n = 0; n < battles; n++) {
+                int difficulty = 1 + (int) (n % difficulties);
+                GameConfig config = base.withDifficulty(difficulty);
+                SharedStrategies strategies = config.strategies();
+                AttackStrategy player = strategies.byName(STRATEGIES[(int) ((n / difficulties) % STRATEGIES.length)]);
+                long battleSeed = seed + n;
+                BattleOutcome outcome = sim.simulate(config, player, strategies.aggressive(), battleSeed);
+                writer.append(battleSeed, difficulty, player.getName(), outcome);
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("[Store] wrote %,d battles to %s in %.1f s (%,.0f rows/s)%n",
+                battles, dir, seconds, battles / seconds);
+    }
+
+    private static void query(Path dir, String[] args) throws IOException {
+        OutcomeStore store = OutcomeStore.open(dir);
+        OutcomeQuery q = store.query();
+        String group = "both";
+        int repeat = 5;
+        for (int i = 2; i < args.length; i++) {
+            switch (args[i]) {
+                case "--difficulty": {
+                    String[] parts = args[++i].split(",");
+                    int[] values = new int[parts.length];
+                    for (int p = 0; p < parts.length; p++) {
+                        values[p] = Integer.parseInt(parts[p].trim());
+                    }
+                    q.difficulty(values);
+                    break;
+                }
+                case "--strategy": q.strategy(args[++i].split(",")); break;
+                case "--group":    group = args[++i]; break;
+                case "--damage":   q.withDamage(); break;
+                case "--repeat":   repeat = Integer.parseInt(args[++i]); break;
+                default:
+                    System.err.println("[Warning] Unknown option: " + args[i]);
+            }
+        }
+        switch (group) {
+            case "strategy":   q.groupByStrategy(); break;
+            case "difficulty": q.groupByDifficulty(); break;
+            case "both":       q.groupByStrategyAndDifficulty(); break;
+            default:           break;
+        }
+
+        List<OutcomeGroup> result = null;
+        long best = Long.MAX_VALUE;
+        for (int r = 0; r < Math.max(1, repeat); r++) {
+            long t0 = System.nanoTime();
+            result = q.run();
+            best = Math.min(best, System.nanoTime() - t0);
+        }
+        for (OutcomeGroup g : result) {
+            System.out.println(g);
+        }
+        System.out.printf("[Store] scanned %,d rows in %.2f ms (%,.0f M rows/s)%n",
+                store.getRowCount(), best / 1e6, store.getRowCount() * 1e3 / best);
+    }
+}
@@ -0,0 +1,187 @@
+package edu.neu.csye7374;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Appends battle outcomes to a columnar store directory (see OutcomeStore
+ * for the layout). Each column is buffered separately and written through
+ * its own FileChannel; the dictionaries and the row count are written on
+ * close(), so a store is only readable once its writer has been closed.
+ *
+ * Not thread-safe: one writer per store.
+ */
+public class OutcomeStoreWriter implements Closeable {
+
+    private static final int BUFFER_BYTES = 1 << 16;
+
+    private final Path dir;
+    private final Column seeds;
+    private final Column difficulties;
+    private final Column strategies;
+    private final Column winners;
+    private final Column turns;
+    private final Column dealt;
+    private final Column taken;
+    private final Column crits;
+
+    private final Map<Integer, Integer> difficultyCodes = new HashMap<>();
+    private final List<Integer> difficultyDict = new ArrayList<>();
+    private final Map<String, Integer> strategyCodes = new HashMap<>();
+    private final List<String> strategyDict = new ArrayList<>();
+
+    private long previousSeed;
+    private long rows;
+    private boolean closed;
+
+    /** Creates (or truncates) a store in {@code dir}. */
+    public static OutcomeStoreWriter create(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        Files.deleteIfExists(dir.resolve(OutcomeStore.META_FILE));
+        return new OutcomeStoreWriter(dir);
+    }
+
+    private OutcomeStoreWriter(Path dir) throws IOException {
+        this.dir = dir;
+        seeds = new Column(dir, OutcomeStore.SEED);
+        difficulties = new Column(dir, OutcomeStore.DIFFICULTY);
+        strategies = new Column(dir, OutcomeStore.STRATEGY);
+        winners = new Column(dir, OutcomeStore.WINNER);
+        turns = new Column(dir, OutcomeStore.TURNS);
+        dealt = new Column(dir, OutcomeStore.DAMAGE_DEALT);
+        taken = new Column(dir, OutcomeStore.DAMAGE_TAKEN);
+        crits = new Column(dir, OutcomeStore.CRITS);
+    }
+
+    /** Appends one row; {@code strategy} is the player's strategy chain name. */
+    public void append(long seed, int difficulty, String strategy, BattleOutcome outcome)
+            throws IOException {
+        append(seed, difficulty, strategy,
+                outcome.isDraw() ? OutcomeStore.DRAW
+                        : outcome.isPlayerWon() ? OutcomeStore.PLAYER_WON : OutcomeStore.ENEMY_WON,
+                outcome.getTurns(), outcome.getDamageDealt(), outcome.getDamageTaken(),
+                outcome.getCrits());
+    }
+
+    public void append(long seed, int difficulty, String strategy, int winner,
+                       int turnCount, int damageDealt, int damageTaken, int critCount)
+            throws IOException {
+        if (closed) {
+            throw new IllegalStateException("Writer is closed");
+        }
+        // Delta + zigzag + varint: sequential seeds cost one byte each
+        long delta = seed - previousSeed;
+        previousSeed = seed;
+        seeds.putVarLong((delta << 1) ^ (delta >> 63));
+
+        difficulties.buf(1).put((byte) code(difficultyCodes, difficultyDict, difficulty, 0xFF));
+        strategies.buf(2).putShort((short) code(strategyCodes, strategyDict, strategy, 0xFFFF));
+        winners.buf(1).put((byte) winner);
+        turns.buf(2).putShort((short) Math.min(turnCount, 0xFFFF));
+        dealt.buf(4).putInt(damageDealt);
+        taken.buf(4).putInt(damageTaken);
+        crits.buf(2).putShort((short) Math.min(critCount, 0xFFFF));
+        rows++;
+    }
+
+    public long getRowCount() {
+        return rows;
+    }
+
+    private static <K> int code(Map<K, Integer> codes, List<K> dict, K value, int maxCode) {
+        Integer code = codes.get(value);
+        if (code == null) {
+            if (dict.size() > maxCode) {
+                throw new IllegalStateException("Dictionary full (" + dict.size() + " entries)");
+            }
+            code = dict.size();
+            codes.put(value, code);
+            dict.add(value);
+        }
+        return code;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        closed = true;
+        for (Column c : new Column[] {seeds, difficulties, strategies, winners, turns, dealt, taken, crits}) {
+            c.close();
+        }
+        writeDictionary(OutcomeStore.DIFFICULTY, difficultyDict);
+        writeDictionary(OutcomeStore.STRATEGY, strategyDict);
+
+        // Written last: its presence marks the store as complete
+        Properties meta = new Properties();
+        meta.setProperty("format", String.valueOf(OutcomeStore.FORMAT_VERSION));
+        meta.setProperty("rows", String.valueOf(rows));
+        try (OutputStream out = Files.newOutputStream(dir.resolve(OutcomeStore.META_FILE))) {
+            meta.store(out, "Battle outcome store");
+        }
+    }
+
+    private void writeDictionary(String column, List<?> dict) throws IOException {
+        try (Writer w = Files.newBufferedWriter(dir.resolve(column + ".dict"), StandardCharsets.UTF_8)) {
+            for (Object value : dict) {
+                w.write(String.valueOf(value));
+                w.write('\n');
+            }
+        }
+    }
+
+    /** One column file with a little-endian write buffer. */
+    private static final class Column {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN);
+
+        Column(Path dir, String name) throws IOException {
+            channel = FileChannel.open(dir.resolve(name + ".col"), StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        }
+
+        // Buffer with room for at least {@code bytes} more
+        ByteBuffer buf(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+            return buffer;
+        }
+
+        void putVarLong(long v) throws IOException {
+            ByteBuffer b = buf(10);
+            while ((v & ~0x7FL) != 0) {
+                b.put((byte) ((v & 0x7F) | 0x80));
+                v >>>= 7;
+            }
+            b.put((byte) v);
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        void close() throws IOException {
+            flush();
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package edu.neu.csye7374;
+
+/**
+ * What a BattleEventPublisher does when a subscriber's buffer is full.
+ * The publisher never waits for a subscriber, whichever policy is chosen.
+ */
+public enum OverflowPolicy {
+    /** Discard the oldest buffered event to make room (counted as dropped). */
+    DROP_OLDEST,
+    /** Keep only the newest event; the buffer size is forced to one. */
+    LATEST_ONLY,
+    /** Fail the subscription with onError and cancel it. */
+    ERROR
+}
@@ -0,0 +1,139 @@
+package edu.neu.csye7374;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+/**
+ * Classic CommandInvoker.executeAll() vs the phased pipeline on large
+ * batches of attack and heal commands among many characters sharing one
+ * observed channel (as in a GameFacade session).
+ *
+ * First checks that SEQUENTIAL resolution leaves every character in the
+ * same state (HP, dice position: getStateHash) as the classic loop, then
+ * times batches in each mode and counts observer notifications. The
+ * observer logs like ConsoleLogger, to an auto-flushing stream on a temp
+ * file (one write per notification).
+ *
+ * Usage: PhasedBatchBenchmark [--characters n] [--batch n] [--rounds n] [--quiet]
+ *   --quiet  no observers attached
+ */
+public class PhasedBatchBenchmark {
+
+    private static final int HP = 1_000_000;
+
+    public static void main(String[] args) throws IOException {
+        int characters = 1000;
+        int batchSize = 100_000;
+        int rounds = 10;
+        boolean quiet = false;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--characters": characters = Integer.parseInt(args[++i]); break;
+                case "--batch":      batchSize = Integer.parseInt(args[++i]); break;
+                case "--rounds":     rounds = Integer.parseInt(args[++i]); break;
+                case "--quiet":      quiet = true; break;
+                default:
+                    System.err.println("[Warning] Unknown option: " + args[i]);
+            }
+        }
+
+        Path logFile = Files.createTempFile("phased", ".log");
+        log = new PrintStream(new FileOutputStream(logFile.toFile()), true);
+        try {
+            compareModes(characters, batchSize, rounds, quiet);
+        } finally {
+            log.close();
+            Files.deleteIfExists(logFile);
+        }
+    }
+
+    private static PrintStream log;
+
+    private static void compareModes(int characters, int batchSize, int rounds, boolean quiet) {
+        // Equivalence on small, lethal HP so deaths and rejections happen
+        long[] classic = run(null, 200, 100, 20_000, false);
+        long[] sequential = run(ResolutionMode.SEQUENTIAL, 200, 100, 20_000, false);
+        for (int c = 0; c < classic.length; c++) {
+            if (classic[c] != sequential[c]) {
+                throw new IllegalStateException("SEQUENTIAL differs from executeAll() at character " + c);
+            }
+        }
+        System.out.println("[Phased] SEQUENTIAL matches executeAll() for 200 characters x 20000 commands");
+
+        for (int r = 0; r < 3; r++) {                // warm-up
+            run(null, characters, HP, batchSize, quiet);
+            run(ResolutionMode.SEQUENTIAL, characters, HP, batchSize, quiet);
+            run(ResolutionMode.SIMULTANEOUS, characters, HP, batchSize, quiet);
+        }
+        report("executeAll()", null, characters, batchSize, rounds, quiet);
+        report("SEQUENTIAL", ResolutionMode.SEQUENTIAL, characters, batchSize, rounds, quiet);
+        report("SIMULTANEOUS", ResolutionMode.SIMULTANEOUS, characters, batchSize, rounds, quiet);
+    }
+
+    private static long notifications;
+    private static double seconds;
+
+    private static void report(String label, ResolutionMode mode, int characters, int batchSize,
+                               int rounds, boolean quiet) {
+        double best = Double.MAX_VALUE;
+        long n = 0;
+        for (int r = 0; r < rounds; r++) {
+            notifications = 0;
+            run(mode, characters, HP, batchSize, quiet);
+            best = Math.min(best, seconds);
+            n = notifications;
+        }
+        System.out.printf("[Phased] %-13s %,12.0f commands/s, %,d notifications per batch%n",
+                label, batchSize / best, n);
+    }
+
+    /** Plays one batch; returns every character's state hash. */
+    private static long[] run(ResolutionMode mode, int characters, int hp, int batchSize, boolean quiet) {
+        ObserverChannel shared = new ObserverChannel();
+        if (!quiet) {
+            shared.addObserver(message -> {
+                notifications++;
+                log.println("[Log] " + message);
+            });
+        }
+        SharedStrategies strategies = GameConfig.defaults().strategies();
+        AttackStrategy[] pool = {strategies.aggressive(), strategies.aggressiveCrit(), strategies.defensive()};
+        edu.neu.csye7374.Character[] world = new edu.neu.csye7374.Character[characters];
+        for (int c = 0; c < characters; c++) {
+            world[c] = new CharacterBuilder().setName("C" + c).setHealth(hp).build();
+            world[c].setStrategy(pool[c % pool.length]);
+            world[c].getRandom().setSeed(c);
+            world[c].joinChannel(shared);
+        }
+
+        CommandInvoker invoker = new CommandInvoker();
+        SplittableRandom rnd = new SplittableRandom(7374);
+        for (int i = 0; i < batchSize; i++) {
+            edu.neu.csye7374.Character a = world[rnd.nextInt(characters)];
+            edu.neu.csye7374.Character b = world[rnd.nextInt(characters)];
+            if (rnd.nextInt(10) == 0) {
+                invoker.addCommand(new HealCommand(a, 10));
+            } else {
+                invoker.addCommand(new AttackCommand(a, b));
+            }
+        }
+
+        long start = System.nanoTime();
+        if (mode == null) {
+            invoker.executeAll();
+        } else {
+            invoker.executeAll(mode);
+        }
+        seconds = (System.nanoTime() - start) / 1e9;
+
+        long[] hashes = new long[characters];
+        for (int c = 0; c < characters; c++) {
+            hashes[c] = world[c].getStateHash();
+        }
+        return hashes;
+    }
+}
@@ -0,0 +1,26 @@
+package edu.neu.csye7374;
+
+/**
+ * Design Pattern: Command (phased variant)
+ * ----------------------------------------
+ * A command that can take part in CommandInvoker's phased pipeline:
+ * validate against the batch's projected state, then roll its effects into
+ * the batch without touching any Character. The batch applies all state
+ * changes in one pass and publishes one coalesced notification per
+ * channel and event type.
+ */
+public interface PhasedCommand extends Command {
+
+    /**
+     * Checks preconditions against {@code batch} (projected HP). A command
+     * that can't run records why with batch.reject and returns false.
+     */
+    boolean validate(EffectBatch batch);
+
+    /**
+     * Records this command's effects in {@code batch}. Returns false, with
+     * nothing recorded, if it can't be resolved ahead of time; the invoker
+     * then runs execute() instead.
+     */
+    boolean resolve(EffectBatch batch);
+}
@@ -0,0 +1,43 @@
+package edu.neu.csye7374;
+
+/**
+ * Design Pattern: Command (Concrete Command)
+ * ------------------------------------------
+ * One player action on a GameFacade session, including the enemy's reply
+ * and any state transition. Undo restores both combatants, their dice and
+ * the session's GameState and turn count.
+ */
+public class PlayerTurnCommand implements ReversibleCommand {
+
+    private final GameFacade game;
+    private final boolean heal;
+
+    public PlayerTurnCommand(GameFacade game, boolean heal) {
+        this.game = game;
+        this.heal = heal;
+    }
+
+    public static PlayerTurnCommand attack(GameFacade game) {
+        return new PlayerTurnCommand(game, false);
+    }
+
+    public static PlayerTurnCommand heal(GameFacade game) {
+        return new PlayerTurnCommand(game, true);
+    }
+
+    @Override
+    public void execute() {
+        if (heal) {
+            game.playerHeal();
+        } else {
+            game.playerAttack();
+        }
+    }
+
+    @Override
+    public void capture(UndoLog log) {
+        log.capture(game);
+        log.capture(game.getPlayer());
+        log.capture(game.getEnemy());
+    }
+}
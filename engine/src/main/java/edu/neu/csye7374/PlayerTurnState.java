@@ -4,21 +4,20 @@ public class PlayerTurnState implements GameState {
 
     @Override
     public void playerAttack(GameFacade game) {
+        // Hand the turn over first so afterAction() runs the enemy's reply
+        game.setState(new EnemyTurnState());
         game.basicPlayerAttack();
         if (game.isBattleOver()) {
             game.setState(new GameOverState());
-        } else {
-            game.setState(new EnemyTurnState());
         }
     }
 
     @Override
     public void playerHeal(GameFacade game) {
+        game.setState(new EnemyTurnState());
         game.basicPlayerHeal();
         if (game.isBattleOver()) {
             game.setState(new GameOverState());
-        } else {
-            game.setState(new EnemyTurnState());
         }
     }
 
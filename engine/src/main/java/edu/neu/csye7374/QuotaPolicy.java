@@ -0,0 +1,12 @@
+package edu.neu.csye7374;
+
+/**
+ * What a SessionScheduler does with a session that has used up its
+ * SessionQuota for the current window.
+ */
+public enum QuotaPolicy {
+    /** Keep its queued commands but run none of them until the window ends. */
+    THROTTLE,
+    /** Fail its queued commands and every new one until the window ends. */
+    REJECT
+}
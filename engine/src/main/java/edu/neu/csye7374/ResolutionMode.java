@@ -0,0 +1,21 @@
+package edu.neu.csye7374;
+
+/**
+ * How CommandInvoker.executeAll(ResolutionMode) orders the effects of a
+ * phased batch (see EffectBatch).
+ */
+public enum ResolutionMode {
+    /**
+     * Commands are validated and rolled in order, each against the state
+     * left by the ones before it: same dice and same final HP as the
+     * classic executeAll().
+     */
+    SEQUENTIAL,
+    /**
+     * Every command is validated and rolled against the state at the start
+     * of the batch and all effects land together, so two characters can
+     * knock each other out in the same batch. A character's heals and
+     * damage are netted before clamping to 0..max HP.
+     */
+    SIMULTANEOUS
+}
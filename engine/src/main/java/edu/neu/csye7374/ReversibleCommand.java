@@ -0,0 +1,15 @@
+package edu.neu.csye7374;
+
+/**
+ * Design Pattern: Command (reversible)
+ * ------------------------------------
+ * A command that can be undone in O(1). Before execute() runs, the invoker
+ * asks it to capture() everything it may change; the UndoLog then records
+ * compact before/after deltas for those participants (HP, strategy, dice
+ * position, turn state) instead of copying the battle.
+ */
+public interface ReversibleCommand extends Command {
+
+    /** Registers every Character / GameFacade that execute() may change. */
+    void capture(UndoLog log);
+}
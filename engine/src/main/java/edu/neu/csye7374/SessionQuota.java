@@ -0,0 +1,98 @@
+package edu.neu.csye7374;
+
+/**
+ * Immutable per-session budget for a SessionScheduler: CPU time and
+ * allocated bytes per window, and how many commands may wait in the
+ * session's queue.
+ *
+ * Usage is charged after each command (a running command is never
+ * interrupted), so a session can overshoot its budget by at most one
+ * command before the policy kicks in. A budget of 0 means unlimited.
+ */
+public final class SessionQuota {
+
+    private static final SessionQuota UNLIMITED = new SessionQuota(0, 0, 1_000_000_000L, 0, QuotaPolicy.THROTTLE);
+
+    private final long cpuNanos;          // per window, 0 = unlimited
+    private final long allocatedBytes;    // per window, 0 = unlimited
+    private final long windowNanos;
+    private final int maxQueued;          // 0 = unlimited
+    private final QuotaPolicy policy;
+
+    private SessionQuota(long cpuNanos, long allocatedBytes, long windowNanos, int maxQueued,
+                         QuotaPolicy policy) {
+        if (cpuNanos < 0 || allocatedBytes < 0 || maxQueued < 0 || windowNanos <= 0) {
+            throw new IllegalArgumentException("negative budget or empty window");
+        }
+        this.cpuNanos = cpuNanos;
+        this.allocatedBytes = allocatedBytes;
+        this.windowNanos = windowNanos;
+        this.maxQueued = maxQueued;
+        this.policy = policy;
+    }
+
+    public static SessionQuota unlimited() {
+        return UNLIMITED;
+    }
+
+    /** {@code cpuMillis} of CPU and {@code allocatedMegabytes} MB allocated per second. */
+    public static SessionQuota perSecond(long cpuMillis, long allocatedMegabytes) {
+        return new SessionQuota(cpuMillis * 1_000_000L, allocatedMegabytes << 20, 1_000_000_000L, 0,
+                QuotaPolicy.THROTTLE);
+    }
+
+    public SessionQuota withCpu(long cpuNanos) {
+        return new SessionQuota(cpuNanos, allocatedBytes, windowNanos, maxQueued, policy);
+    }
+
+    public SessionQuota withAllocation(long allocatedBytes) {
+        return new SessionQuota(cpuNanos, allocatedBytes, windowNanos, maxQueued, policy);
+    }
+
+    /** Budgets stay per window: a shorter window smooths a session's share, a longer one allows bursts. */
+    public SessionQuota withWindow(long windowNanos) {
+        return new SessionQuota(cpuNanos, allocatedBytes, windowNanos, maxQueued, policy);
+    }
+
+    public SessionQuota withMaxQueued(int maxQueued) {
+        return new SessionQuota(cpuNanos, allocatedBytes, windowNanos, maxQueued, policy);
+    }
+
+    public SessionQuota withPolicy(QuotaPolicy policy) {
+        return new SessionQuota(cpuNanos, allocatedBytes, windowNanos, maxQueued, policy);
+    }
+
+    public long getCpuNanos() {
+        return cpuNanos;
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public long getWindowNanos() {
+        return windowNanos;
+    }
+
+    public int getMaxQueued() {
+        return maxQueued;
+    }
+
+    public QuotaPolicy getPolicy() {
+        return policy;
+    }
+
+    /** True if a window with this usage has gone over budget. */
+    boolean exceeded(long cpu, long allocated) {
+        return (cpuNanos > 0 && cpu > cpuNanos) || (allocatedBytes > 0 && allocated > allocatedBytes);
+    }
+
+    @Override
+    public String toString() {
+        if (cpuNanos == 0 && allocatedBytes == 0 && maxQueued == 0) return "unlimited";
+        return String.format("cpu %s, alloc %s per %d ms, queue %s, %s",
+                cpuNanos == 0 ? "-" : (cpuNanos / 1_000_000) + " ms",
+                allocatedBytes == 0 ? "-" : (allocatedBytes >> 20) + " MB",
+                windowNanos / 1_000_000, maxQueued == 0 ? "-" : String.valueOf(maxQueued), policy);
+    }
+}
@@ -0,0 +1,560 @@
+package edu.neu.csye7374;
+
+import java.io.Closeable;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Runs the commands of many GameFacade sessions hosted in one process on a
+ * small pool of worker threads, so that one expensive session (a huge AI
+ * search, a huge command batch) can't starve the others.
+ *
+ * Each registered session has a FIFO of commands and runs at most one at a
+ * time. Workers pick between sessions by weighted fair queuing on measured
+ * CPU: every session carries a virtual time that advances by the CPU time
+ * of each command it ran divided by its weight, and the backlogged session
+ * with the lowest virtual time goes next. A session that was idle restarts
+ * at the current virtual time rather than with banked credit. A player
+ * sending cheap moves therefore stays ahead of a neighbour burning CPU,
+ * and waits at most for the command already running on each worker.
+ *
+ * CPU time and allocated bytes are measured per command on the worker
+ * thread through ThreadMXBean (com.sun.management for allocation; 0 when
+ * the JVM doesn't support it). Usage is charged to the session's
+ * SessionQuota window; a session over budget is suspended until the window
+ * ends, its queue either kept (THROTTLE) or failed with
+ * RejectedExecutionException (REJECT). A full queue rejects new commands
+ * under either policy. getMetrics() returns the accounting per session.
+ */
+public final class SessionScheduler implements Closeable {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final boolean CPU_TIME = enableCpuTime();
+    private static final com.sun.management.ThreadMXBean ALLOCATION = allocationBean();
+
+    private static final Comparator<Session> BY_VIRTUAL_TIME =
+            Comparator.comparingLong((Session s) -> s.virtualTime).thenComparingLong(s -> s.id);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition work = lock.newCondition();
+    private final PriorityQueue<Session> ready = new PriorityQueue<>(BY_VIRTUAL_TIME);
+    private final List<Session> suspended = new ArrayList<>();
+    private final List<Session> sessions = new ArrayList<>();     // registration order
+    private final Thread[] workers;
+    private long virtualTime;          // start tag of the last session picked
+    private boolean closed;
+
+    public SessionScheduler(int threads) {
+        workers = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            workers[i] = new Thread(this::work, "session-" + i);
+            workers[i].setDaemon(true);
+            workers[i].start();
+        }
+    }
+
+    public Session register(GameFacade game) {
+        return register(game, 1, SessionQuota.unlimited());
+    }
+
+    /** {@code weight}: share of CPU relative to other backlogged sessions (1 = normal). */
+    public Session register(GameFacade game, int weight, SessionQuota quota) {
+        if (weight < 1) {
+            throw new IllegalArgumentException("weight must be >= 1: " + weight);
+        }
+        lock.lock();
+        try {
+            if (closed) throw new RejectedExecutionException("scheduler closed");
+            Session s = new Session(game, weight, quota, System.nanoTime());
+            s.virtualTime = virtualTime;
+            sessions.add(s);
+            return s;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<SessionMetrics> getMetrics() {
+        lock.lock();
+        try {
+            List<SessionMetrics> list = new ArrayList<>(sessions.size());
+            for (Session s : sessions) {
+                list.add(s.metrics());
+            }
+            return list;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** True if allocated bytes are measured on this JVM. */
+    public static boolean isAllocationMeasured() {
+        return ALLOCATION != null;
+    }
+
+    /** Stops the workers after their current command; queued commands are rejected. */
+    @Override
+    public void close() {
+        List<Task> dropped = new ArrayList<>();
+        lock.lock();
+        try {
+            if (closed) return;
+            closed = true;
+            for (Session s : sessions) {
+                s.drainInto(dropped);
+            }
+            ready.clear();
+            suspended.clear();
+            work.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        reject(dropped, "scheduler closed");
+        for (Thread t : workers) {
+            try {
+                t.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    // --- Workers ---
+
+    private void work() {
+        for (;;) {
+            Session s;
+            Task task;
+            lock.lock();
+            try {
+                for (;;) {
+                    if (closed) return;
+                    long wait = resumeExpired(System.nanoTime());
+                    s = ready.poll();
+                    if (s != null) break;
+                    if (wait == Long.MAX_VALUE) {
+                        work.await();
+                    } else {
+                        work.awaitNanos(wait);
+                    }
+                }
+                s.inReady = false;
+                s.running = true;
+                task = s.queue.poll();
+                virtualTime = Math.max(virtualTime, s.virtualTime);
+            } catch (InterruptedException e) {
+                return;
+            } finally {
+                lock.unlock();
+            }
+            run(s, task);
+        }
+    }
+
+    private void run(Session s, Task task) {
+        long cpuBefore = cpuTime();
+        long allocBefore = allocatedBytes();
+        long start = System.nanoTime();
+        Throwable failure = null;
+        try {
+            task.command.accept(s.game);
+        } catch (Throwable e) {
+            failure = e;
+        }
+        long end = System.nanoTime();
+        long cpu = CPU_TIME ? cpuTime() - cpuBefore : end - start;
+        long allocated = allocBefore < 0 ? 0 : allocatedBytes() - allocBefore;
+
+        List<Task> dropped = null;
+        lock.lock();
+        try {
+            dropped = s.finish(task, failure != null, cpu, allocated, end);
+        } finally {
+            lock.unlock();
+        }
+        if (failure != null) {
+            task.future.completeExceptionally(failure);
+        } else {
+            task.future.complete(null);
+        }
+        if (dropped != null) {
+            reject(dropped, "session " + s.id + " over quota");
+        }
+    }
+
+    // Resumes suspended sessions whose window has ended; nanos until the next one (MAX_VALUE if none)
+    private long resumeExpired(long now) {
+        long wait = Long.MAX_VALUE;
+        for (int i = suspended.size() - 1; i >= 0; i--) {
+            Session s = suspended.get(i);
+            long left = s.suspendedUntil - now;
+            if (left <= 0) {
+                suspended.remove(i);
+                s.resume(now);
+            } else {
+                wait = Math.min(wait, left);
+            }
+        }
+        return wait;
+    }
+
+    private void makeReady(Session s) {
+        s.virtualTime = Math.max(s.virtualTime, virtualTime);
+        s.inReady = true;
+        ready.add(s);
+        work.signal();
+    }
+
+    private static void reject(List<Task> tasks, String reason) {
+        for (Task t : tasks) {
+            t.future.completeExceptionally(new RejectedExecutionException(reason));
+        }
+    }
+
+    // --- Accounting ---
+
+    private static long cpuTime() {
+        return CPU_TIME ? THREADS.getCurrentThreadCpuTime() : 0;
+    }
+
+    private static long allocatedBytes() {
+        return ALLOCATION == null ? -1 : ALLOCATION.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static boolean enableCpuTime() {
+        try {
+            if (!THREADS.isCurrentThreadCpuTimeSupported()) return false;
+            if (!THREADS.isThreadCpuTimeEnabled()) THREADS.setThreadCpuTimeEnabled(true);
+            return true;
+        } catch (UnsupportedOperationException | SecurityException e) {
+            return false;
+        }
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        try {
+            if (THREADS instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) THREADS;
+                if (bean.isThreadAllocatedMemorySupported()) {
+                    if (!bean.isThreadAllocatedMemoryEnabled()) bean.setThreadAllocatedMemoryEnabled(true);
+                    return bean;
+                }
+            }
+        } catch (LinkageError | UnsupportedOperationException | SecurityException e) {
+            // jdk.management missing or locked down: CPU only
+        }
+        return null;
+    }
+
+    private static final class Task {
+        final Consumer<GameFacade> command;
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        final long submitted = System.nanoTime();
+
+        Task(Consumer<GameFacade> command) {
+            this.command = command;
+        }
+    }
+
+    /** A registered GameFacade: submit its commands here instead of calling it directly. */
+    public final class Session {
+        final long id;
+        final GameFacade game;
+        final int weight;
+
+        // Guarded by the scheduler lock
+        private SessionQuota quota;
+        private final ArrayDeque<Task> queue = new ArrayDeque<>();
+        private boolean running;
+        private boolean inReady;
+        private boolean registered = true;
+        long virtualTime;
+        private boolean overQuota;         // suspended until suspendedUntil
+        private long suspendedUntil;
+        private boolean rejecting;
+        private long windowStart;
+        private long windowCpu;
+        private long windowAllocated;
+
+        private long completed;
+        private long failed;
+        private long rejected;
+        private long suspensions;
+        private long cpuNanos;
+        private long allocated;
+        private long maxCommandCpu;
+        private final LatencyHistogram latency = new LatencyHistogram();   // submit to done
+
+        Session(GameFacade game, int weight, SessionQuota quota, long now) {
+            this.id = game.getSessionId();
+            this.game = game;
+            this.weight = weight;
+            this.quota = quota;
+            this.windowStart = now;
+        }
+
+        public GameFacade getGame() {
+            return game;
+        }
+
+        /**
+         * Queues {@code command} to run against the session's GameFacade after
+         * its earlier commands. The future fails with RejectedExecutionException
+         * if the queue is full, the session is rejecting or the scheduler is
+         * closed, and with the command's own exception if it throws.
+         */
+        public CompletableFuture<Void> submit(Consumer<GameFacade> command) {
+            Task task = new Task(command);
+            String reason = null;
+            lock.lock();
+            try {
+                if (closed || !registered) {
+                    reason = "session " + id + " closed";
+                } else {
+                    if (overQuota && task.submitted - suspendedUntil >= 0) {
+                        suspended.remove(this);
+                        resume(task.submitted);
+                    }
+                    if (rejecting) {
+                        reason = "session " + id + " over quota";
+                    } else if (quota.getMaxQueued() > 0 && queue.size() >= quota.getMaxQueued()) {
+                        reason = "session " + id + " queue full";
+                    }
+                }
+                if (reason != null) {
+                    rejected++;
+                } else {
+                    queue.add(task);
+                    if (!running && !inReady && !overQuota) {
+                        makeReady(this);
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (reason != null) {
+                task.future.completeExceptionally(new RejectedExecutionException(reason));
+            }
+            return task.future;
+        }
+
+        public void setQuota(SessionQuota quota) {
+            lock.lock();
+            try {
+                this.quota = quota;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        public SessionMetrics getMetrics() {
+            lock.lock();
+            try {
+                return metrics();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /** Unregisters the session; queued commands are rejected, a running one finishes. */
+        public void close() {
+            List<Task> dropped = new ArrayList<>();
+            lock.lock();
+            try {
+                if (!registered) return;
+                registered = false;
+                sessions.remove(this);
+                ready.remove(this);
+                suspended.remove(this);
+                drainInto(dropped);
+            } finally {
+                lock.unlock();
+            }
+            reject(dropped, "session " + id + " closed");
+        }
+
+        // Charges a finished command; returns the commands to reject if it went over a REJECT quota
+        List<Task> finish(Task task, boolean threw, long cpu, long allocatedBytes, long now) {
+            running = false;
+            if (threw) failed++; else completed++;
+            cpuNanos += cpu;
+            allocated += allocatedBytes;
+            maxCommandCpu = Math.max(maxCommandCpu, cpu);
+            latency.record(now - task.submitted);
+            virtualTime += Math.max(1, cpu / weight);
+
+            rollWindow(now);
+            windowCpu += cpu;
+            windowAllocated += allocatedBytes;
+            if (!registered) return null;
+            if (quota.exceeded(windowCpu, windowAllocated)) {
+                suspensions++;
+                overQuota = true;
+                suspendedUntil = windowStart + quota.getWindowNanos();
+                suspended.add(this);
+                if (quota.getPolicy() == QuotaPolicy.REJECT) {
+                    rejecting = true;
+                    List<Task> dropped = new ArrayList<>(queue.size());
+                    drainInto(dropped);
+                    rejected += dropped.size();
+                    return dropped;
+                }
+            } else if (!queue.isEmpty()) {
+                makeReady(this);
+            }
+            return null;
+        }
+
+        void resume(long now) {
+            overQuota = false;
+            rejecting = false;
+            rollWindow(now);
+            if (registered && !running && !queue.isEmpty()) {
+                makeReady(this);
+            }
+        }
+
+        private void rollWindow(long now) {
+            long window = quota.getWindowNanos();
+            if (now - windowStart >= window) {
+                windowStart += (now - windowStart) / window * window;
+                windowCpu = 0;
+                windowAllocated = 0;
+            }
+        }
+
+        void drainInto(List<Task> into) {
+            into.addAll(queue);
+            queue.clear();
+        }
+
+        SessionMetrics metrics() {
+            return new SessionMetrics(id, weight, quota, queue.size(), completed, failed, rejected,
+                    suspensions, overQuota, cpuNanos, allocated, maxCommandCpu,
+                    latency.percentile(50), latency.percentile(99), latency.getMax());
+        }
+    }
+
+    /** Accounting snapshot of one session. */
+    public static final class SessionMetrics {
+        private final long sessionId;
+        private final int weight;
+        private final SessionQuota quota;
+        private final int queued;
+        private final long completed;
+        private final long failed;
+        private final long rejected;
+        private final long suspensions;
+        private final boolean suspended;
+        private final long cpuNanos;
+        private final long allocatedBytes;
+        private final long maxCommandCpuNanos;
+        private final long p50Nanos;
+        private final long p99Nanos;
+        private final long maxNanos;
+
+        SessionMetrics(long sessionId, int weight, SessionQuota quota, int queued, long completed,
+                       long failed, long rejected, long suspensions, boolean suspended, long cpuNanos,
+                       long allocatedBytes, long maxCommandCpuNanos, long p50Nanos, long p99Nanos,
+                       long maxNanos) {
+            this.sessionId = sessionId;
+            this.weight = weight;
+            this.quota = quota;
+            this.queued = queued;
+            this.completed = completed;
+            this.failed = failed;
+            this.rejected = rejected;
+            this.suspensions = suspensions;
+            this.suspended = suspended;
+            this.cpuNanos = cpuNanos;
+            this.allocatedBytes = allocatedBytes;
+            this.maxCommandCpuNanos = maxCommandCpuNanos;
+            this.p50Nanos = p50Nanos;
+            this.p99Nanos = p99Nanos;
+            this.maxNanos = maxNanos;
+        }
+
+        public long getSessionId() {
+            return sessionId;
+        }
+
+        public int getWeight() {
+            return weight;
+        }
+
+        public SessionQuota getQuota() {
+            return quota;
+        }
+
+        public int getQueued() {
+            return queued;
+        }
+
+        public long getCompleted() {
+            return completed;
+        }
+
+        public long getFailed() {
+            return failed;
+        }
+
+        public long getRejected() {
+            return rejected;
+        }
+
+        /** Times the session went over its quota and was throttled or rejected. */
+        public long getSuspensions() {
+            return suspensions;
+        }
+
+        public boolean isSuspended() {
+            return suspended;
+        }
+
+        public long getCpuNanos() {
+            return cpuNanos;
+        }
+
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        public long getMaxCommandCpuNanos() {
+            return maxCommandCpuNanos;
+        }
+
+        /** Submit-to-done latency percentiles of completed commands. */
+        public long getLatencyP50Nanos() {
+            return p50Nanos;
+        }
+
+        public long getLatencyP99Nanos() {
+            return p99Nanos;
+        }
+
+        public long getLatencyMaxNanos() {
+            return maxNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("session %d (weight %d): %d done, %d failed, %d rejected, %d queued, "
+                    + "cpu %.1f ms, alloc %.1f MB, max command %.3f ms, suspended %d%s, "
+                    + "latency p50 %.3f ms p99 %.3f ms max %.3f ms",
+                    sessionId, weight, completed, failed, rejected, queued, cpuNanos / 1e6,
+                    allocatedBytes / 1048576.0, maxCommandCpuNanos / 1e6, suspensions,
+                    suspended ? " (now)" : "", p50Nanos / 1e6, p99Nanos / 1e6, maxNanos / 1e6);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package edu.neu.csye7374;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Well-behaved players next to a noisy neighbour, with and without the
+ * SessionScheduler.
+ *
+ * {@code players} sessions send cheap attack/heal moves open-loop at a
+ * fixed total rate; latency is measured from each move's intended send
+ * time (see LoadGenerator). One extra session runs an exhaustive what-if
+ * search (CommandInvoker.speculate, depth {@code depth}) before every move
+ * and keeps {@code backlog} of those queued at all times. Four runs:
+ *   quiet       players only, SessionScheduler
+ *   fifo        with the neighbour, one shared FIFO thread pool
+ *   fair        with the neighbour, SessionScheduler, no quota
+ *   fair+quota  as fair, neighbour limited to {@code quota-ms} CPU per second
+ * For the scheduled runs the neighbour's accounting is printed as well.
+ *
+ * Usage: SessionSchedulerBenchmark [--players n] [--rate r] [--duration s]
+ *                                  [--threads n] [--depth d] [--backlog n]
+ *                                  [--quota-ms ms]
+ */
+public class SessionSchedulerBenchmark {
+
+    public static void main(String[] args) throws InterruptedException {
+        int players = 32;
+        double rate = 2000;
+        double duration = 5;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int depth = 10;
+        int backlog = 8;
+        long quotaMillis = 100;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--players":  players = Integer.parseInt(args[++i]); break;
+                case "--rate":     rate = Double.parseDouble(args[++i]); break;
+                case "--duration": duration = Double.parseDouble(args[++i]); break;
+                case "--threads":  threads = Integer.parseInt(args[++i]); break;
+                case "--depth":    depth = Integer.parseInt(args[++i]); break;
+                case "--backlog":  backlog = Integer.parseInt(args[++i]); break;
+                case "--quota-ms": quotaMillis = Long.parseLong(args[++i]); break;
+                default:
+                    System.err.println("[Warning] Unknown option: " + args[i]);
+            }
+        }
+        System.out.printf("[Sessions] %d players at %.0f moves/s for %.0f s on %d worker thread(s); "
+                + "neighbour: depth-%d search per move, %d queued%s%n", players, rate, duration, threads,
+                depth, backlog, SessionScheduler.isAllocationMeasured() ? "" : " (allocation not measured)");
+        System.out.println("[Sessions] run              moves     p50 ms     p99 ms   p99.9 ms     max ms  neighbour moves");
+
+        Run warmup = new Run(players, depth, backlog);
+        warmup.scheduled(rate, Math.min(duration, 2), threads, SessionQuota.unlimited(), true);
+
+        new Run(players, depth, backlog).scheduled(rate, duration, threads, SessionQuota.unlimited(), false)
+                .report("quiet");
+        new Run(players, depth, backlog).fifo(rate, duration, threads).report("fifo");
+        new Run(players, depth, backlog).scheduled(rate, duration, threads, SessionQuota.unlimited(), true)
+                .report("fair");
+        new Run(players, depth, backlog).scheduled(rate, duration, threads,
+                SessionQuota.perSecond(quotaMillis, 0), true).report("fair+quota");
+    }
+
+    /** Where a run sends commands: player index (players.length = the neighbour) and command. */
+    private interface Submitter {
+        CompletableFuture<Void> submit(int session, Consumer<GameFacade> command);
+    }
+
+    private static final class Run {
+        final GameFacade[] games;          // players, then the neighbour
+        final CommandInvoker invoker;
+        final int depth;
+        final int backlog;
+        final LatencyHistogram latency = new LatencyHistogram();   // guarded by this
+        final SplittableRandom random = new SplittableRandom(7374);     // generator thread only
+        volatile boolean stopped;
+        long neighbourMoves;               // written by whichever worker runs the neighbour
+        String accounting = "";
+
+        Run(int players, int depth, int backlog) {
+            this.depth = depth;
+            this.backlog = backlog;
+            this.invoker = new CommandInvoker(depth + 1);
+            this.games = new GameFacade[players + 1];
+            Leaderboard board = new Leaderboard();
+            for (int i = 0; i <= players; i++) {
+                games[i] = new GameFacade();
+                games[i].setLeaderboard(board);
+                games[i].startNewGame(i < players ? "player-" + i : "neighbour", "warrior", 1 + i % 3, i);
+            }
+        }
+
+        Run scheduled(double rate, double duration, int threads, SessionQuota neighbourQuota, boolean noisy)
+                throws InterruptedException {
+            SessionScheduler scheduler = new SessionScheduler(threads);
+            SessionScheduler.Session[] sessions = new SessionScheduler.Session[games.length];
+            for (int i = 0; i < games.length; i++) {
+                sessions[i] = i < games.length - 1 ? scheduler.register(games[i])
+                        : scheduler.register(games[i], 1, neighbourQuota);
+            }
+            drive(rate, duration, noisy, (session, command) -> sessions[session].submit(command));
+            if (noisy) {
+                SessionScheduler.SessionMetrics m = sessions[games.length - 1].getMetrics();
+                accounting = String.format("neighbour cpu %.0f ms, %.0f MB allocated, max move %.2f ms, "
+                        + "suspended %d times (quota %s)", m.getCpuNanos() / 1e6,
+                        m.getAllocatedBytes() / 1048576.0, m.getMaxCommandCpuNanos() / 1e6,
+                        m.getSuspensions(), m.getQuota());
+            }
+            scheduler.close();
+            return this;
+        }
+
+        Run fifo(double rate, double duration, int threads) throws InterruptedException {
+            ExecutorService pool = Executors.newFixedThreadPool(threads);
+            drive(rate, duration, true,
+                    (session, command) -> CompletableFuture.runAsync(() -> command.accept(games[session]), pool));
+            pool.shutdownNow();
+            pool.awaitTermination(10, TimeUnit.SECONDS);
+            return this;
+        }
+
+        private void drive(double rate, double duration, boolean noisy, Submitter submitter) {
+            int neighbour = games.length - 1;
+            if (noisy) {
+                for (int i = 0; i < backlog; i++) {
+                    searchForever(submitter, neighbour);
+                }
+            }
+            long start = System.nanoTime();
+            long end = start + (long) (duration * 1e9);
+            long period = (long) (1e9 / rate);
+            int next = 0;
+            for (long intended = start; intended < end; intended += period) {
+                waitUntil(intended);
+                final long sent = intended;
+                final boolean heal = random.nextInt(10) < 3;
+                submitter.submit(next, game -> {
+                    synchronized (game) {
+                        move(game, heal);
+                    }
+                    long late = System.nanoTime() - sent;
+                    synchronized (this) {
+                        latency.record(late);
+                    }
+                });
+                next = (next + 1) % neighbour;
+            }
+            stopped = true;
+            // Let the players' last moves land before reading the histogram
+            LockSupport.parkNanos(200_000_000L);
+        }
+
+        // Resubmits itself, keeping one of the neighbour's searches queued until the run stops
+        private void searchForever(Submitter submitter, int neighbour) {
+            if (stopped) return;
+            submitter.submit(neighbour, game -> {
+                synchronized (game) {
+                    boolean heal = invoker.speculate(inv -> search(inv, game, true, depth)
+                            > search(inv, game, false, depth));
+                    move(game, heal);
+                    neighbourMoves++;
+                }
+            }).whenComplete((v, e) -> {
+                if (e == null) searchForever(submitter, neighbour);
+            });
+        }
+
+        private void move(GameFacade game, boolean heal) {
+            if (game.isBattleOver()) {
+                game.startNewGame(game.getPlayer().getName(), "warrior", game.getConfig().getDifficulty(),
+                        ThreadLocalRandom.current().nextLong());
+            } else if (heal) {
+                game.playerHeal();
+            } else {
+                game.playerAttack();
+            }
+        }
+
+        void report(String name) {
+            synchronized (this) {
+                System.out.printf("[Sessions] %-12s %9d %10.3f %10.3f %10.3f %10.3f  %,15d%n", name,
+                        latency.getCount(), latency.percentile(50) / 1e6, latency.percentile(99) / 1e6,
+                        latency.percentile(99.9) / 1e6, latency.getMax() / 1e6, neighbourMoves);
+            }
+            if (!accounting.isEmpty()) {
+                System.out.println("[Sessions]              " + accounting);
+            }
+        }
+    }
+
+    /** Best (player HP - enemy HP) reachable after playing {@code heal} then searching (see WhatIfBenchmark). */
+    private static int search(CommandInvoker inv, GameFacade game, boolean heal, int depth) {
+        inv.doCommand(new PlayerTurnCommand(game, heal));
+        int best;
+        if (depth <= 1 || game.isBattleOver()) {
+            edu.neu.csye7374.Character p = game.getPlayer();
+            edu.neu.csye7374.Character e = game.getEnemy();
+            best = !p.isAlive() ? -1_000_000 : !e.isAlive() ? 1_000_000 + p.getHealth()
+                    : p.getHealth() - e.getHealth();
+        } else {
+            best = Math.max(search(inv, game, false, depth - 1), search(inv, game, true, depth - 1));
+        }
+        inv.undo();
+        return best;
+    }
+
+    private static void waitUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            if (remaining > 200_000) {
+                LockSupport.parkNanos(remaining - 100_000);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+}
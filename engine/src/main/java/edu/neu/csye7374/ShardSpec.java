@@ -0,0 +1,93 @@
+package edu.neu.csye7374;
+
+import java.util.Properties;
+import java.util.StringJoiner;
+import java.util.TreeSet;
+
+/**
+ * One unit of distributed simulation work: a battle setup (config and
+ * strategies) and a seed range [seedFrom, seedTo). Running the same shard
+ * twice gives the same BattleAggregate, so a shard lost with a worker can
+ * simply be re-run.
+ *
+ * The config travels with the shard as its properties plus
+ * GameConfig.fingerprint(). decode() rebuilds the config and rejects the
+ * shard if the fingerprint doesn't match, so a worker whose GameConfig
+ * reads the settings differently can't silently simulate something else.
+ */
+public final class ShardSpec {
+
+    private final int id;
+    private final GameConfig config;        // difficulty included
+    private final String playerStrategy;    // SharedStrategies.byName key
+    private final String enemyStrategy;
+    private final long seedFrom;
+    private final long seedTo;
+
+    public ShardSpec(int id, GameConfig config, String playerStrategy, String enemyStrategy,
+                     long seedFrom, long seedTo) {
+        this.id = id;
+        this.config = config;
+        this.playerStrategy = playerStrategy;
+        this.enemyStrategy = enemyStrategy;
+        this.seedFrom = seedFrom;
+        this.seedTo = seedTo;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public GameConfig getConfig() {
+        return config;
+    }
+
+    /** Simulates every seed of the shard with the shard's config. */
+    public BattleAggregate run(BattleSimulator sim) {
+        AttackStrategy player = strategy(config, playerStrategy);
+        AttackStrategy enemy = strategy(config, enemyStrategy);
+        BattleAggregate agg = new BattleAggregate();
+        for (long seed = seedFrom; seed < seedTo; seed++) {
+            agg.add(sim.simulate(config, player, enemy, seed));
+        }
+        return agg;
+    }
+
+    private static AttackStrategy strategy(GameConfig config, String name) {
+        AttackStrategy s = config.strategies().byName(name);
+        if (s == null) throw new IllegalArgumentException("Unknown strategy: " + name);
+        return s;
+    }
+
+    /** Protocol form: "SHARD id fingerprint key=value,... player enemy from to". */
+    public String encode() {
+        Properties p = config.toProperties();
+        StringJoiner props = new StringJoiner(",");
+        for (String key : new TreeSet<>(p.stringPropertyNames())) {
+            props.add(key + '=' + p.getProperty(key));
+        }
+        return "SHARD " + id + ' ' + Long.toHexString(config.fingerprint()) + ' ' + props + ' '
+                + playerStrategy + ' ' + enemyStrategy + ' ' + seedFrom + ' ' + seedTo;
+    }
+
+    public static ShardSpec decode(String line) {
+        String[] p = line.trim().split(" ");
+        if (p.length != 8 || !p[0].equals("SHARD")) {
+            throw new IllegalArgumentException("Malformed shard: " + line);
+        }
+        Properties props = new Properties();
+        for (String entry : p[3].split(",")) {
+            int eq = entry.indexOf('=');
+            if (eq < 0) throw new IllegalArgumentException("Malformed shard config: " + p[3]);
+            props.setProperty(entry.substring(0, eq), entry.substring(eq + 1));
+        }
+        GameConfig config = GameConfig.fromProperties(props);
+        long fingerprint = Long.parseUnsignedLong(p[2], 16);
+        if (config.fingerprint() != fingerprint) {
+            throw new IllegalArgumentException("Shard " + p[1] + " config fingerprint " + p[2]
+                    + " doesn't match its settings (" + Long.toHexString(config.fingerprint()) + ")");
+        }
+        return new ShardSpec(Integer.parseInt(p[1]), config, p[4], p[5],
+                Long.parseLong(p[6]), Long.parseLong(p[7]));
+    }
+}
@@ -0,0 +1,53 @@
+package edu.neu.csye7374;
+
+/**
+ * Design Pattern: Flyweight
+ * -------------------------
+ * Shared, stateless strategy instances. The concrete strategies keep no
+ * per-battle state (dice live on the Character), so one instance of each
+ * can serve every character and every battle instead of allocating new
+ * strategies per game or per enemy turn.
+ *
+ * Use {@link #unpinned()} to follow GameConfig.current(), or
+ * {@link GameConfig#strategies()} for instances pinned to a snapshot.
+ */
+public final class SharedStrategies {
+
+    private static final SharedStrategies UNPINNED = new SharedStrategies(null);
+
+    private final AttackStrategy aggressive;
+    private final AttackStrategy defensive;
+    private final AttackStrategy aggressiveCrit;
+
+    SharedStrategies(GameConfig config) {
+        this.aggressive = new AggressiveAttack(config);
+        this.defensive = new DefensiveAttack(config);
+        this.aggressiveCrit = new CriticalStrikeDecorator(aggressive, config);
+    }
+
+    public static SharedStrategies unpinned() {
+        return UNPINNED;
+    }
+
+    public AttackStrategy aggressive() {
+        return aggressive;
+    }
+
+    public AttackStrategy defensive() {
+        return defensive;
+    }
+
+    public AttackStrategy aggressiveCrit() {
+        return aggressiveCrit;
+    }
+
+    /** Looks up a shared instance by AttackStrategy.getName(); null if unknown. */
+    public AttackStrategy byName(String name) {
+        switch (name.toLowerCase()) {
+            case "aggressive":      return aggressive;
+            case "defensive":       return defensive;
+            case "aggressive+crit": return aggressiveCrit;
+            default:                return null;
+        }
+    }
+}
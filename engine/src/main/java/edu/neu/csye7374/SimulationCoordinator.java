@@ -0,0 +1,327 @@
+package edu.neu.csye7374;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Splits a Monte Carlo battle workload into seed-range shards and farms
+ * them out to SimulationWorker JVMs over TCP, merging their partial
+ * aggregates (win/draw counts and turn histograms) exactly.
+ *
+ * A worker that disconnects or dies mid-shard loses nothing: its in-flight
+ * shard goes back on the queue for another worker, and workers launched by
+ * the coordinator are restarted while work remains. Results are accepted
+ * once per shard id, so a re-run never double counts. A worker that hangs
+ * without closing its connection is treated the same way once a shard
+ * takes longer than the shard timeout.
+ *
+ * The workload covers one or more configs (the coordinator's own, loaded
+ * like Driver does, or each --config file) times the seed range. Every
+ * shard carries its config, and results are merged per config fingerprint.
+ *
+ * Usage:
+ *   SimulationCoordinator [--workers n] [--battles n] [--shard-size n]
+ *                         [--config file]... [--difficulty d]
+ *                         [--player name] [--enemy name] [--port p] [--bind addr]
+ *                         [--shard-timeout s] [--fail-after n] [--verify]
+ *
+ *  --workers        worker JVMs to launch locally (0 = wait for external ones)
+ *  --shard-timeout  seconds to wait for a shard's result before re-queueing it
+ *  --fail-after     first local worker crashes after n shards (failure drill)
+ *  --verify         re-run the workload in-process and check the merge is exact
+ */
+public class SimulationCoordinator {
+
+    private final BlockingQueue<ShardSpec> pending = new LinkedBlockingQueue<>();
+    private final Set<Integer> completed = ConcurrentHashMap.newKeySet();
+    private final CountDownLatch remaining;
+    private final BattleAggregate total = new BattleAggregate();
+    private final Map<Long, BattleAggregate> byConfig = new LinkedHashMap<>();   // guarded by total
+    private final int shardTimeoutMillis;
+    private volatile int reassigned;
+
+    public SimulationCoordinator(List<ShardSpec> shards) {
+        this(shards, 300_000);
+    }
+
+    /** {@code shardTimeoutMillis}: longest wait for one shard's result (0 = forever). */
+    public SimulationCoordinator(List<ShardSpec> shards, int shardTimeoutMillis) {
+        pending.addAll(shards);
+        remaining = new CountDownLatch(shards.size());
+        this.shardTimeoutMillis = shardTimeoutMillis;
+        for (ShardSpec s : shards) {
+            byConfig.putIfAbsent(s.getConfig().fingerprint(), new BattleAggregate());
+        }
+    }
+
+    /** Splits [0, battles) into shards of {@code shardSize} seeds, for each config. */
+    public static List<ShardSpec> plan(long battles, long shardSize, List<GameConfig> configs,
+                                       String player, String enemy) {
+        List<ShardSpec> shards = new ArrayList<>();
+        int id = 0;
+        for (GameConfig config : configs) {
+            for (long from = 0; from < battles; from += shardSize) {
+                shards.add(new ShardSpec(id++, config, player, enemy, from,
+                        Math.min(battles, from + shardSize)));
+            }
+        }
+        return shards;
+    }
+
+    /** Accepts worker connections until every shard has a result. */
+    public BattleAggregate serve(ServerSocket server) throws InterruptedException {
+        Thread acceptor = new Thread(() -> {
+            while (!server.isClosed()) {
+                try {
+                    Socket s = server.accept();
+                    Thread t = new Thread(() -> handle(s), "coordinator-" + s.getPort());
+                    t.setDaemon(true);
+                    t.start();
+                } catch (IOException e) {
+                    return; // server closed
+                }
+            }
+        }, "coordinator-accept");
+        acceptor.setDaemon(true);
+        acceptor.start();
+
+        remaining.await();
+        synchronized (total) {
+            return total;
+        }
+    }
+
+    /** Merged results per config fingerprint, in plan order (complete once serve() returns). */
+    public Map<Long, BattleAggregate> getResultsByConfig() {
+        synchronized (total) {
+            return new LinkedHashMap<>(byConfig);
+        }
+    }
+
+    private void handle(Socket socket) {
+        ShardSpec inFlight = null;
+        String worker = socket.getRemoteSocketAddress().toString();
+        try (Socket s = socket;
+             BufferedReader in = new BufferedReader(
+                     new InputStreamReader(s.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter out = new PrintWriter(
+                     new OutputStreamWriter(s.getOutputStream(), StandardCharsets.UTF_8))) {
+            s.setSoTimeout(shardTimeoutMillis);    // a hung worker times out and loses its shard
+            String hello = in.readLine();
+            if (hello == null || !hello.startsWith("HELLO ")) return;
+            worker = hello.substring(6);
+
+            while (remaining.getCount() > 0) {
+                inFlight = pending.poll(100, TimeUnit.MILLISECONDS);
+                if (inFlight == null) continue;  // others still running; wait for a re-queue
+                if (completed.contains(inFlight.getId())) {
+                    inFlight = null;
+                    continue;
+                }
+                out.println(inFlight.encode());
+                out.flush();
+
+                String line = in.readLine();
+                if (line == null) throw new IOException("connection closed");
+                accept(line, inFlight);
+                inFlight = null;
+            }
+            out.println("DONE");
+            out.flush();
+        } catch (IOException | RuntimeException e) {
+            System.err.println("[Coordinator] lost " + worker + ": " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (inFlight != null && !completed.contains(inFlight.getId())) {
+                reassigned++;
+                pending.add(inFlight);
+            }
+        }
+    }
+
+    private void accept(String line, ShardSpec shard) throws IOException {
+        String prefix = "RESULT " + shard.getId() + ' ';
+        if (line.startsWith("REFUSE ")) {
+            throw new IOException("refused shard: " + line.substring(7));
+        }
+        if (!line.startsWith(prefix)) {
+            throw new IOException("unexpected reply: " + line);
+        }
+        BattleAggregate part = BattleAggregate.decode(line.substring(prefix.length()));
+        if (completed.add(shard.getId())) {
+            synchronized (total) {
+                total.merge(part);
+                byConfig.get(shard.getConfig().fingerprint()).merge(part);
+            }
+            remaining.countDown();
+        }
+    }
+
+    public int getReassigned() {
+        return reassigned;
+    }
+
+    public long remainingShards() {
+        return remaining.getCount();
+    }
+
+    // --- Local worker supervision ---
+
+    private static Process launchWorker(String host, int port, int index, int failAfter, boolean anyConfig)
+            throws IOException {
+        List<String> cmd = new ArrayList<>();
+        cmd.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        String configFile = System.getProperty("game.config");
+        if (configFile != null) cmd.add("-Dgame.config=" + configFile);
+        cmd.add("-cp");
+        cmd.add(System.getProperty("java.class.path"));
+        cmd.add(SimulationWorker.class.getName());
+        cmd.add(host);
+        cmd.add(String.valueOf(port));
+        cmd.add("--name");
+        cmd.add("worker-" + index);
+        if (failAfter >= 0) {
+            cmd.add("--fail-after");
+            cmd.add(String.valueOf(failAfter));
+        }
+        if (anyConfig) cmd.add("--any-config");
+        return new ProcessBuilder(cmd).inheritIO().start();
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int workers = Math.max(1, Runtime.getRuntime().availableProcessors());
+        long battles = 2_000_000;
+        long shardSize = 50_000;
+        int difficulty = 2;
+        String player = "aggressive+crit";
+        String enemy = "aggressive";
+        int port = 0;
+        String bind = "127.0.0.1";
+        int failAfter = -1;
+        boolean verify = false;
+        int shardTimeout = 300;
+        List<GameConfig> configs = new ArrayList<>();
+        GameConfig own = SimulationWorker.installConfig();
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--workers":    workers = Integer.parseInt(args[++i]); break;
+                case "--battles":    battles = Long.parseLong(args[++i]); break;
+                case "--shard-size": shardSize = Long.parseLong(args[++i]); break;
+                case "--difficulty": difficulty = Integer.parseInt(args[++i]); break;
+                case "--config":     configs.add(GameConfig.load(Paths.get(args[++i]))); break;
+                case "--shard-timeout": shardTimeout = Integer.parseInt(args[++i]); break;
+                case "--player":     player = args[++i]; break;
+                case "--enemy":      enemy = args[++i]; break;
+                case "--port":       port = Integer.parseInt(args[++i]); break;
+                case "--bind":       bind = args[++i]; break;
+                case "--fail-after": failAfter = Integer.parseInt(args[++i]); break;
+                case "--verify":     verify = true; break;
+                default:
+                    System.err.println("[Warning] Unknown option: " + args[i]);
+            }
+        }
+
+        if (configs.isEmpty()) configs.add(own);
+        boolean foreign = false;                   // local workers only know the coordinator's own config
+        for (int c = 0; c < configs.size(); c++) {
+            configs.set(c, configs.get(c).withDifficulty(difficulty));
+            foreign |= configs.get(c).fingerprint() != own.withDifficulty(difficulty).fingerprint();
+        }
+        boolean anyConfig = foreign;
+        List<ShardSpec> shards = plan(battles, shardSize, configs, player, enemy);
+        SimulationCoordinator coordinator = new SimulationCoordinator(shards, shardTimeout * 1000);
+
+        try (ServerSocket server = new ServerSocket()) {
+            server.bind(new InetSocketAddress(InetAddress.getByName(bind), port));
+            int boundPort = server.getLocalPort();
+            // Local workers connect to the address actually bound (loopback for a wildcard bind)
+            InetAddress bound = server.getInetAddress();
+            String host = (bound.isAnyLocalAddress() ? InetAddress.getLoopbackAddress() : bound).getHostAddress();
+            System.out.println("[Coordinator] " + shards.size() + " shards, " + configs.size() + " config(s) x "
+                    + battles + " battles, listening on " + bind + ":" + boundPort);
+
+            Process[] procs = new Process[workers];
+            for (int w = 0; w < workers; w++) {
+                procs[w] = launchWorker(host, boundPort, w, w == 0 ? failAfter : -1, anyConfig);
+            }
+            Thread supervisor = new Thread(() -> {
+                try {
+                    while (coordinator.remainingShards() > 0) {
+                        for (int w = 0; w < procs.length; w++) {
+                            if (!procs[w].isAlive() && procs[w].exitValue() != 0
+                                    && procs[w].exitValue() != SimulationWorker.REFUSED_EXIT
+                                    && coordinator.remainingShards() > 0) {
+                                System.err.println("[Coordinator] restarting worker-" + w
+                                        + " (exit " + procs[w].exitValue() + ")");
+                                procs[w] = launchWorker(host, boundPort, w, -1, anyConfig);
+                            }
+                        }
+                        Thread.sleep(200);
+                    }
+                } catch (IOException | InterruptedException e) {
+                    // stop supervising
+                }
+            }, "coordinator-supervisor");
+            supervisor.setDaemon(true);
+            supervisor.start();
+
+            long start = System.nanoTime();
+            BattleAggregate total = coordinator.serve(server);
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            for (Process p : procs) {
+                p.waitFor(5, TimeUnit.SECONDS);
+            }
+
+            System.out.printf("[Coordinator] %d battles in %.1fs: %d wins, %d losses, %d draws, "
+                            + "win rate %.4f, mean turns %.3f, shards reassigned %d%n",
+                    total.getBattles(), seconds, total.getWins(), total.getLosses(), total.getDraws(),
+                    (double) total.getWins() / total.getBattles(), total.meanTurns(),
+                    coordinator.getReassigned());
+            Map<Long, BattleAggregate> results = coordinator.getResultsByConfig();
+            if (results.size() > 1) {
+                for (Map.Entry<Long, BattleAggregate> e : results.entrySet()) {
+                    BattleAggregate a = e.getValue();
+                    System.out.printf("[Coordinator]   config %016x: win rate %.4f, mean turns %.3f%n",
+                            e.getKey(), (double) a.getWins() / a.getBattles(), a.meanTurns());
+                }
+            }
+
+            if (verify) {
+                Map<Long, BattleAggregate> local = new LinkedHashMap<>();
+                BattleSimulator sim = new BattleSimulator();
+                for (ShardSpec s : shards) {
+                    local.computeIfAbsent(s.getConfig().fingerprint(), k -> new BattleAggregate())
+                            .merge(s.run(sim));
+                }
+                boolean same = true;
+                for (Map.Entry<Long, BattleAggregate> e : local.entrySet()) {
+                    same &= e.getValue().sameAs(results.get(e.getKey()));
+                }
+                System.out.println("[Coordinator] verify: merged result "
+                        + (same ? "matches" : "DIFFERS FROM") + " single-process run");
+            }
+        }
+    }
+}
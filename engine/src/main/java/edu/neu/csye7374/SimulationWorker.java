@@ -0,0 +1,134 @@
+package edu.neu.csye7374;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Worker process for SimulationCoordinator.
+ *
+ * Protocol (one line per message, UTF-8):
+ *   worker -> coordinator   HELLO name
+ *   coordinator -> worker   SHARD id fingerprint config player enemy seedFrom seedTo | DONE
+ *   worker -> coordinator   RESULT id battles wins draws histogram | REFUSE id reason
+ *
+ * Workers are stateless between shards, so a crashed worker can simply be
+ * started again; the coordinator re-queues whatever shard it was running.
+ *
+ * The worker loads its own config like Driver does (game.properties, or
+ * -Dgame.config=...) and refuses any shard whose config fingerprint differs
+ * from it (difficulty aside, which the shard sets), then exits with
+ * REFUSED_EXIT: results from differently configured workers never end up
+ * in one merge. --any-config runs whatever config the shard carries.
+ *
+ * Usage: SimulationWorker host port [--name n] [--fail-after shards] [--any-config]
+ *   --fail-after  exit abruptly after that many shards (failure testing)
+ */
+public class SimulationWorker {
+
+    /** Exit status after refusing a shard (not a crash: don't restart). */
+    static final int REFUSED_EXIT = 2;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String host = args[0];
+        int port = Integer.parseInt(args[1]);
+        String name = "worker-" + ProcessHandle.current().pid();
+        int failAfter = -1;
+        boolean anyConfig = false;
+        for (int i = 2; i < args.length; i++) {
+            switch (args[i]) {
+                case "--name":       name = args[++i]; break;
+                case "--fail-after": failAfter = Integer.parseInt(args[++i]); break;
+                case "--any-config": anyConfig = true; break;
+                default:
+                    System.err.println("[Warning] Unknown option: " + args[i]);
+            }
+        }
+
+        GameConfig own = installConfig();
+        Socket socket = connect(host, port);
+        BattleSimulator sim = new BattleSimulator();
+        int done = 0;
+        int status = 0;
+
+        try (BufferedReader in = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter out = new PrintWriter(
+                     new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            out.println("HELLO " + name);
+            out.flush();
+
+            String line;
+            while ((line = in.readLine()) != null && !line.equals("DONE")) {
+                String refusal = null;
+                ShardSpec shard = null;
+                try {
+                    shard = ShardSpec.decode(line);
+                    GameConfig expected = own.withDifficulty(shard.getConfig().getDifficulty());
+                    if (!anyConfig && shard.getConfig().fingerprint() != expected.fingerprint()) {
+                        refusal = "config " + Long.toHexString(shard.getConfig().fingerprint())
+                                + " differs from this worker's " + Long.toHexString(expected.fingerprint());
+                    }
+                } catch (IllegalArgumentException e) {
+                    refusal = e.getMessage();
+                }
+                if (refusal != null) {
+                    String id = line.split(" ").length > 1 ? line.split(" ")[1] : "?";
+                    System.err.println("[" + name + "] refusing shard " + id + ": " + refusal);
+                    out.println("REFUSE " + id + ' ' + refusal);
+                    out.flush();
+                    status = REFUSED_EXIT;
+                    break;
+                }
+                if (failAfter >= 0 && done == failAfter) {
+                    System.err.println("[" + name + "] simulated crash on shard " + shard.getId());
+                    Runtime.getRuntime().halt(3);
+                }
+                BattleAggregate result = shard.run(sim);
+                out.println("RESULT " + shard.getId() + ' ' + result.encode());
+                out.flush();
+                done++;
+            }
+        }
+        socket.close();
+        if (status != 0) System.exit(status);
+    }
+
+    /**
+     * Loads game.properties (or -Dgame.config=...) as Driver does and
+     * installs it; defaults if there is no such file.
+     */
+    static GameConfig installConfig() {
+        Path file = Paths.get(System.getProperty("game.config", "game.properties"));
+        if (Files.isRegularFile(file)) {
+            try {
+                GameConfig.install(GameConfig.load(file));
+            } catch (IOException | IllegalArgumentException e) {
+                System.err.println("[Warning] Using default config: " + e.getMessage());
+            }
+        } else if (System.getProperty("game.config") != null) {
+            System.err.println("[Warning] Using default config: " + file + " not found");
+        }
+        return GameConfig.current();
+    }
+
+    private static Socket connect(String host, int port) throws IOException, InterruptedException {
+        IOException last = null;
+        for (int attempt = 0; attempt < 50; attempt++) {
+            try {
+                return new Socket(host, port);
+            } catch (IOException e) {
+                last = e;
+                Thread.sleep(100);
+            }
+        }
+        throw last;
+    }
+}
@@ -0,0 +1,107 @@
+package edu.neu.csye7374;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Measures how quickly a headless engine process reaches its first turn.
+ *
+ * Without arguments it starts a game through GameFacade, plays one player
+ * turn and prints the time since process start. With {@code --runs n} it
+ * launches n fresh JVMs of itself (same classpath, engine only) and
+ * reports min / median / max; {@code --cds file} adds
+ * -XX:SharedArchiveFile so runs with and without the AppCDS archive
+ * (built by the engine's appcds profile) can be compared.
+ *
+ * Launched children receive the parent's System.nanoTime() just before the
+ * fork (nanoTime is a system-wide monotonic clock on Linux), which is more
+ * precise than the OS process start time.
+ */
+public class StartupBenchmark {
+
+    private static final String T0_PROPERTY = "startup.t0";
+    private static final String RESULT_PREFIX = "first-turn-ms=";
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int runs = 0;
+        String cds = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--runs": runs = Integer.parseInt(args[++i]); break;
+                case "--cds":  cds = args[++i]; break;
+                default:
+                    System.err.println("[Warning] Unknown option: " + args[i]);
+            }
+        }
+        if (runs > 0) {
+            launchRuns(runs, cds);
+        } else {
+            firstTurn();
+        }
+    }
+
+    private static void firstTurn() {
+        GameFacade game = new GameFacade();
+        game.startNewGame("Hero", "warrior", 1);
+        game.playerAttack();
+        long end = System.nanoTime();
+
+        String t0 = System.getProperty(T0_PROPERTY);
+        double ms;
+        if (t0 != null) {
+            ms = (end - Long.parseLong(t0)) / 1e6;
+        } else {
+            Instant start = ProcessHandle.current().info().startInstant().orElse(Instant.now());
+            ms = Duration.between(start, Instant.now()).toNanos() / 1e6;
+        }
+        System.out.printf("%s%.2f%n", RESULT_PREFIX, ms);
+    }
+
+    private static void launchRuns(int runs, String cds) throws IOException, InterruptedException {
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        String classpath = System.getProperty("java.class.path");
+        double[] results = new double[runs];
+
+        for (int r = 0; r < runs; r++) {
+            List<String> cmd = new ArrayList<>();
+            cmd.add(java);
+            cmd.add("-XX:TieredStopAtLevel=1");
+            if (cds != null) {
+                cmd.add("-XX:SharedArchiveFile=" + cds);
+            }
+            cmd.add("-D" + T0_PROPERTY + "=" + System.nanoTime());
+            cmd.add("-cp");
+            cmd.add(classpath);
+            cmd.add(StartupBenchmark.class.getName());
+
+            Process p = new ProcessBuilder(cmd).redirectErrorStream(true).start();
+            double ms = Double.NaN;
+            try (BufferedReader in = new BufferedReader(
+                    new InputStreamReader(p.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = in.readLine()) != null) {
+                    if (line.startsWith(RESULT_PREFIX)) {
+                        ms = Double.parseDouble(line.substring(RESULT_PREFIX.length()));
+                    } else {
+                        System.out.println(line);
+                    }
+                }
+            }
+            p.waitFor();
+            results[r] = ms;
+        }
+
+        Arrays.sort(results);
+        System.out.printf("[Startup] %d runs%s: min %.1f ms, median %.1f ms, max %.1f ms%n",
+                runs, cds != null ? " with CDS " + cds : "",
+                results[0], results[runs / 2], results[runs - 1]);
+    }
+}
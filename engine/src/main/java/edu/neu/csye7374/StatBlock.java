@@ -0,0 +1,121 @@
+package edu.neu.csye7374;
+
+/**
+ * Combat stats packed into one long: a Character carries a single 8-byte
+ * field instead of an object with a field per stat, and an archetype's
+ * block is just a shared constant copied into every character it stamps.
+ *
+ * Layout (low to high bits):
+ *   attack      12 bits  0..4095   % bonus to outgoing damage
+ *   defense     12 bits  0..4095   reduces incoming damage
+ *   speed       12 bits  0..4095
+ *   critChance   7 bits  0..100    % added to a crit decorator's chance
+ *   maxMana     16 bits  0..65535
+ *   (5 bits spare)
+ *
+ * Accessors are a shift and a mask. Derived values are computed on demand
+ * rather than stored: damage() scales a rolled amount by
+ * (100 + attack) / (100 + defense) with one multiply and one divide and no
+ * branches. NONE (all zeros) is neutral, so characters built without
+ * stats fight exactly as before.
+ */
+public final class StatBlock {
+
+    /** No bonuses: damage and crit chance pass through unchanged. */
+    public static final long NONE = 0L;
+
+    public static final int MAX_STAT = 4095;
+    public static final int MAX_MANA = 65535;
+
+    private static final int ATTACK_SHIFT = 0;
+    private static final int DEFENSE_SHIFT = 12;
+    private static final int SPEED_SHIFT = 24;
+    private static final int CRIT_SHIFT = 36;
+    private static final int MANA_SHIFT = 43;
+    private static final long STAT_MASK = 0xFFF;
+    private static final long CRIT_MASK = 0x7F;
+    private static final long MANA_MASK = 0xFFFF;
+
+    private StatBlock() {}
+
+    /** Packs a stat block; IllegalArgumentException if a value is out of range. */
+    public static long of(int attack, int defense, int speed, int critChance, int maxMana) {
+        return NONE
+                | field(attack, MAX_STAT, "attack") << ATTACK_SHIFT
+                | field(defense, MAX_STAT, "defense") << DEFENSE_SHIFT
+                | field(speed, MAX_STAT, "speed") << SPEED_SHIFT
+                | field(critChance, 100, "crit chance") << CRIT_SHIFT
+                | field(maxMana, MAX_MANA, "max mana") << MANA_SHIFT;
+    }
+
+    private static long field(int value, int max, String name) {
+        if (value < 0 || value > max) {
+            throw new IllegalArgumentException(name + " must be 0-" + max + ", was " + value);
+        }
+        return value;
+    }
+
+    // --- Accessors ---
+
+    public static int attack(long stats) {
+        return (int) (stats >>> ATTACK_SHIFT & STAT_MASK);
+    }
+
+    public static int defense(long stats) {
+        return (int) (stats >>> DEFENSE_SHIFT & STAT_MASK);
+    }
+
+    public static int speed(long stats) {
+        return (int) (stats >>> SPEED_SHIFT & STAT_MASK);
+    }
+
+    public static int critChance(long stats) {
+        return (int) (stats >>> CRIT_SHIFT & CRIT_MASK);
+    }
+
+    public static int maxMana(long stats) {
+        return (int) (stats >>> MANA_SHIFT & MANA_MASK);
+    }
+
+    public static long withAttack(long stats, int attack) {
+        return stats & ~(STAT_MASK << ATTACK_SHIFT) | field(attack, MAX_STAT, "attack") << ATTACK_SHIFT;
+    }
+
+    public static long withDefense(long stats, int defense) {
+        return stats & ~(STAT_MASK << DEFENSE_SHIFT) | field(defense, MAX_STAT, "defense") << DEFENSE_SHIFT;
+    }
+
+    public static long withSpeed(long stats, int speed) {
+        return stats & ~(STAT_MASK << SPEED_SHIFT) | field(speed, MAX_STAT, "speed") << SPEED_SHIFT;
+    }
+
+    public static long withCritChance(long stats, int critChance) {
+        return stats & ~(CRIT_MASK << CRIT_SHIFT) | field(critChance, 100, "crit chance") << CRIT_SHIFT;
+    }
+
+    public static long withMaxMana(long stats, int maxMana) {
+        return stats & ~(MANA_MASK << MANA_SHIFT) | field(maxMana, MAX_MANA, "max mana") << MANA_SHIFT;
+    }
+
+    // --- Derived values ---
+
+    /**
+     * {@code base} damage from {@code attacker} after both sides' stats,
+     * clamped to [0, Integer.MAX_VALUE] (computed in long, so a large roll
+     * times a 4095 attack can't wrap around).
+     */
+    public static int damage(int base, long attacker, long defender) {
+        long d = (long) base * (100 + attack(attacker)) / (100 + defense(defender));
+        return (int) Math.max(0, Math.min(d, Integer.MAX_VALUE));
+    }
+
+    /** Crit chance in percent: the strategy's {@code base} plus the stat bonus. */
+    public static int critChance(int base, long stats) {
+        return base + critChance(stats);
+    }
+
+    public static String toString(long stats) {
+        return "ATK " + attack(stats) + " DEF " + defense(stats) + " SPD " + speed(stats)
+                + " CRIT " + critChance(stats) + "% MANA " + maxMana(stats);
+    }
+}
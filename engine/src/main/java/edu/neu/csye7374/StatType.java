@@ -0,0 +1,49 @@
+package edu.neu.csye7374;
+
+/**
+ * The stats in a StatBlock, for code that picks a stat at run time
+ * (modifiers, equipment). Combat code reads the packed block directly.
+ */
+public enum StatType {
+    ATTACK(StatBlock.MAX_STAT),
+    DEFENSE(StatBlock.MAX_STAT),
+    SPEED(StatBlock.MAX_STAT),
+    CRIT_CHANCE(100),
+    MAX_MANA(StatBlock.MAX_MANA);
+
+    private static final StatType[] VALUES = values();
+
+    private final int max;
+
+    StatType(int max) {
+        this.max = max;
+    }
+
+    public int getMax() {
+        return max;
+    }
+
+    public int get(long stats) {
+        switch (this) {
+            case ATTACK:  return StatBlock.attack(stats);
+            case DEFENSE: return StatBlock.defense(stats);
+            case SPEED:   return StatBlock.speed(stats);
+            case CRIT_CHANCE: return StatBlock.critChance(stats);
+            default:      return StatBlock.maxMana(stats);
+        }
+    }
+
+    public long with(long stats, int value) {
+        switch (this) {
+            case ATTACK:  return StatBlock.withAttack(stats, value);
+            case DEFENSE: return StatBlock.withDefense(stats, value);
+            case SPEED:   return StatBlock.withSpeed(stats, value);
+            case CRIT_CHANCE: return StatBlock.withCritChance(stats, value);
+            default:      return StatBlock.withMaxMana(stats, value);
+        }
+    }
+
+    static StatType[] all() {
+        return VALUES;
+    }
+}
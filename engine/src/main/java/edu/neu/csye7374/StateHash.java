@@ -0,0 +1,54 @@
+package edu.neu.csye7374;
+
+/**
+ * Zobrist-style keys for incremental game-state hashing.
+ *
+ * Classic Zobrist hashing XORs a random key per (feature, value) into the
+ * hash, so changing one feature costs two XORs. HP values are unbounded,
+ * so keys are derived with a 64-bit mixer instead of a lookup table; they
+ * are stable across JVMs and machines, which lets two runs compare hashes.
+ */
+public final class StateHash {
+
+    private static final long HP_KEY = 0x6A09E667F3BCC909L;
+    private static final long MAX_HP_KEY = 0xBB67AE8584CAA73BL;
+    private static final long STRATEGY_KEY = 0x3C6EF372FE94F82BL;
+    private static final long STATE_KEY = 0xA54FF53A5F1D36F1L;
+    private static final long RNG_KEY = 0x510E527FADE682D1L;
+    private static final long STATS_KEY = 0x9B05688C2B3E6C1FL;
+
+    private StateHash() {}
+
+    /** SplitMix64 finaliser. */
+    public static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    public static long hp(int hp) {
+        return mix(HP_KEY + hp);
+    }
+
+    public static long maxHp(int maxHp) {
+        return mix(MAX_HP_KEY + maxHp);
+    }
+
+    /** Keyed by strategy name so equal strategies hash equally in every JVM. */
+    public static long strategy(AttackStrategy s) {
+        return s == null ? 0 : mix(STRATEGY_KEY + s.getName().hashCode());
+    }
+
+    public static long state(GameState s) {
+        return s == null ? 0 : mix(STATE_KEY + s.getName().hashCode());
+    }
+
+    /** StatBlock.NONE hashes to 0, so stat-less characters hash as before. */
+    public static long stats(long stats) {
+        return stats == StatBlock.NONE ? 0 : mix(STATS_KEY + stats);
+    }
+
+    public static long rng(long position) {
+        return mix(RNG_KEY + position);
+    }
+}
@@ -0,0 +1,77 @@
+package edu.neu.csye7374;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Desync detection for lockstep / replayed battles.
+ *
+ * Compares the per-turn state hashes of two runs (GameFacade.getTurnHashes)
+ * or two journals written with {@link #writeJournal}, and reports the first
+ * turn where they differ. A journal is 8 bytes per turn, no state dump.
+ */
+public final class StateHashComparator {
+
+    private StateHashComparator() {}
+
+    /**
+     * Index of the first turn whose hashes differ, the shorter length if
+     * one run is a prefix of the other, or -1 if both are identical.
+     */
+    public static int firstDivergence(long[] a, int lengthA, long[] b, int lengthB) {
+        int n = Math.min(lengthA, lengthB);
+        for (int i = 0; i < n; i++) {
+            if (a[i] != b[i]) return i;
+        }
+        return lengthA == lengthB ? -1 : n;
+    }
+
+    public static int firstDivergence(long[] a, long[] b) {
+        return firstDivergence(a, a.length, b, b.length);
+    }
+
+    public static void writeJournal(Path file, long[] hashes, int count) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(file)))) {
+            for (int i = 0; i < count; i++) {
+                out.writeLong(hashes[i]);
+            }
+        }
+    }
+
+    public static long[] readJournal(Path file) throws IOException {
+        long[] hashes = new long[(int) (Files.size(file) / Long.BYTES)];
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(file)))) {
+            for (int i = 0; i < hashes.length; i++) {
+                hashes[i] = in.readLong();
+            }
+        } catch (EOFException e) {
+            // truncated journal: compare what we have
+        }
+        return hashes;
+    }
+
+    /** Usage: StateHashComparator journalA journalB */
+    public static void main(String[] args) throws IOException {
+        long[] a = readJournal(Paths.get(args[0]));
+        long[] b = readJournal(Paths.get(args[1]));
+        int turn = firstDivergence(a, b);
+        if (turn < 0) {
+            System.out.println("[Desync] runs are identical (" + a.length + " turns)");
+        } else if (turn >= Math.min(a.length, b.length)) {
+            System.out.println("[Desync] identical for " + turn + " turns, then one run ends "
+                    + "(" + a.length + " vs " + b.length + " turns)");
+        } else {
+            System.out.printf("[Desync] first divergence at turn %d: %016x vs %016x%n",
+                    turn + 1, a[turn], b[turn]);
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package edu.neu.csye7374;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+/**
+ * Compiles StrategyScripts into AttackStrategy classes.
+ *
+ * Each script becomes straight-line Java (rules as an if-chain, constants
+ * inlined, no per-call interpretation) that is compiled in memory with the
+ * platform compiler (javax.tools) and defined in a fresh class loader, so
+ * the JIT sees an ordinary class and a replaced script's old class can be
+ * unloaded. Compiling needs a JDK at runtime; running the result does not
+ * need anything beyond the engine.
+ *
+ * Thread-safe; one compile task per call (batch several scripts together,
+ * compiler start-up dominates small scripts).
+ */
+public final class StrategyCompiler {
+
+    private static final String PACKAGE = "edu.neu.csye7374.script";
+    private static final AtomicLong CLASS_IDS = new AtomicLong();
+
+    private StrategyCompiler() {
+    }
+
+    public static AttackStrategy compile(StrategyScript script) {
+        return compileAll(Arrays.asList(script)).get(script.getName());
+    }
+
+    /**
+     * Compiles several scripts in one compiler run; the result maps script
+     * name to a new strategy instance (stateless, shareable).
+     *
+     * @throws IllegalStateException if no compiler is available or the
+     *         generated source does not compile
+     */
+    public static Map<String, AttackStrategy> compileAll(List<StrategyScript> scripts) {
+        JavaCompiler javac = ToolProvider.getSystemJavaCompiler();
+        if (javac == null) {
+            throw new IllegalStateException("Strategy scripts need a JDK (no system Java compiler)");
+        }
+
+        Map<String, String> classNames = new LinkedHashMap<>();
+        List<JavaFileObject> sources = new ArrayList<>();
+        for (StrategyScript script : scripts) {
+            String simple = "Script_" + script.getName().replaceAll("[^A-Za-z0-9]", "_")
+                    + "_" + CLASS_IDS.incrementAndGet();
+            classNames.put(script.getName(), PACKAGE + "." + simple);
+            sources.add(new Source(simple, generate(simple, script)));
+        }
+
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        Map<String, ByteArrayOutputStream> classes = new HashMap<>();
+        StandardJavaFileManager standard = javac.getStandardFileManager(diagnostics, Locale.ROOT, null);
+        try (MemoryFileManager files = new MemoryFileManager(standard, classes)) {
+            List<String> options = Arrays.asList("-classpath", engineClasspath(), "-proc:none", "-g:none");
+            if (!javac.getTask(null, files, diagnostics, options, null, sources).call()) {
+                StringBuilder msg = new StringBuilder("Strategy script compilation failed:");
+                for (Diagnostic<? extends JavaFileObject> d : diagnostics.getDiagnostics()) {
+                    msg.append('\n').append(d.getMessage(Locale.ROOT));
+                }
+                throw new IllegalStateException(msg.toString());
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Strategy script compilation failed", e);
+        }
+
+        ScriptClassLoader loader = new ScriptClassLoader(classes);
+        Map<String, AttackStrategy> result = new LinkedHashMap<>();
+        try {
+            for (Map.Entry<String, String> e : classNames.entrySet()) {
+                Class<?> c = loader.loadClass(e.getValue());
+                result.put(e.getKey(), (AttackStrategy) c.getDeclaredConstructor().newInstance());
+            }
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not load compiled strategy", e);
+        }
+        return result;
+    }
+
+    // --- Code generation ---
+
+    static String generate(String simpleName, StrategyScript script) {
+        StringBuilder j = new StringBuilder(2048);
+        j.append("package ").append(PACKAGE).append(";\n\n")
+         .append("import edu.neu.csye7374.EffectBatch;\n")
+         .append("import edu.neu.csye7374.GameEventType;\n")
+         .append("import edu.neu.csye7374.StatBlock;\n\n")
+         .append("public final class ").append(simpleName)
+         .append(" implements edu.neu.csye7374.AttackStrategy {\n")
+         .append("  public String getName() { return \"").append(script.getName()).append("\"; }\n")
+         .append("  public long fingerprint() { return ").append(script.fingerprint()).append("L; }\n");
+        method(j, script, false);
+        method(j, script, true);
+        j.append("}\n");
+        return j.toString();
+    }
+
+    // execute(), or resolve() for the phased pipeline (same dice, effects go to the batch)
+    private static void method(StringBuilder j, StrategyScript script, boolean phased) {
+        String self = phased ? "batch.projectedHealth(self)" : "self.getHealth()";
+        String target = phased ? "batch.projectedHealth(target)" : "target.getHealth()";
+        j.append(phased
+                ? "  public boolean resolve(edu.neu.csye7374.Character self, edu.neu.csye7374.Character target, EffectBatch batch) {\n"
+                : "  public void execute(edu.neu.csye7374.Character self, edu.neu.csye7374.Character target) {\n");
+
+        boolean usesTarget = false;
+        boolean usesSelf = false;
+        for (StrategyScript.Rule rule : script.rules()) {
+            for (StrategyScript.Condition c : rule.conditions) {
+                if (c.target) usesTarget = true; else usesSelf = true;
+            }
+        }
+        if (usesSelf) {
+            j.append("    int selfHp = ").append(self).append(";\n");
+        }
+        if (usesTarget) {
+            j.append("    int targetHp = target != null ? ").append(target).append(" : 0;\n");
+        }
+
+        String keyword = "if";
+        for (StrategyScript.Rule rule : script.rules()) {
+            if (rule.conditions.isEmpty()) {
+                j.append(keyword.equals("if") ? "    {\n" : "    else {\n");
+                effects(j, rule.effects, phased);
+                j.append("    }\n");
+                break;                                    // later rules are unreachable
+            }
+            j.append("    ").append(keyword).append(" (");
+            for (int i = 0; i < rule.conditions.size(); i++) {
+                if (i > 0) j.append(" && ");
+                condition(j, rule.conditions.get(i));
+            }
+            j.append(") {\n");
+            effects(j, rule.effects, phased);
+            j.append("    }\n");
+            keyword = "else if";
+        }
+        if (phased) {
+            j.append("    return true;\n");
+        }
+        j.append("  }\n");
+    }
+
+    private static void condition(StringBuilder j, StrategyScript.Condition c) {
+        String hp = c.target ? "targetHp" : "selfHp";
+        if (c.percent) {
+            // In long: max HP may be anything up to Integer.MAX_VALUE
+            String max = c.target ? "(target != null ? target.getMaxHealth() : 1)" : "self.getMaxHealth()";
+            j.append(hp).append(" * 100L ").append(c.op).append(' ')
+             .append(c.value).append("L * ").append(max);
+        } else {
+            j.append(hp).append(' ').append(c.op).append(' ').append(c.value);
+        }
+    }
+
+    private static void effects(StringBuilder j, List<StrategyScript.Effect> effects, boolean phased) {
+        String selfAlive = phased ? "batch.isAlive(self)" : "self.isAlive()";
+        String targetAlive = phased ? "batch.isAlive(target)" : "target.isAlive()";
+        for (StrategyScript.Effect e : effects) {
+            switch (e.kind) {
+                case StrategyScript.DAMAGE:
+                    j.append("      if (target != null) {\n")
+                     .append("        int d = StatBlock.damage(").append(roll(e))
+                     .append(", self.getStats(), target.getStats());\n");
+                    if (phased) {
+                        j.append("        batch.damage(self, target, d, GameEventType.ATTACK);\n");
+                    } else {
+                        j.append("        target.takeDamage(d);\n")
+                         .append("        if (self.hasObservers(GameEventType.ATTACK)) {\n")
+                         .append("          self.notifyObservers(GameEventType.ATTACK, self.getName() + \" attacked \"")
+                         .append(" + target.getName() + \" for \" + d + \" damage!\");\n")
+                         .append("        }\n");
+                    }
+                    j.append("      }\n");
+                    break;
+                case StrategyScript.HEAL:
+                    j.append("      if (").append(selfAlive).append(") {\n")
+                     .append("        int h = ").append(roll(e)).append(";\n");
+                    if (phased) {
+                        j.append("        batch.heal(self, self, h, GameEventType.STRATEGY);\n");
+                    } else {
+                        j.append("        self.heal(h);\n")
+                         .append("        if (self.hasObservers(GameEventType.STRATEGY)) {\n")
+                         .append("          self.notifyObservers(GameEventType.STRATEGY, self.getName() + \" healed \"")
+                         .append(" + h + \" HP!\");\n")
+                         .append("        }\n");
+                    }
+                    j.append("      }\n");
+                    break;
+                default:
+                    j.append("      if (target != null && ").append(targetAlive)
+                     .append(" && self.getRandom().nextInt(100) < StatBlock.critChance(").append(e.chance)
+                     .append(", self.getStats())) {\n")
+                     .append("        int x = ").append(roll(e)).append(";\n");
+                    if (phased) {
+                        j.append("        batch.damage(self, target, x, GameEventType.CRIT);\n");
+                    } else {
+                        j.append("        target.takeDamage(x);\n")
+                         .append("        if (self.hasObservers(GameEventType.CRIT)) {\n")
+                         .append("          self.notifyObservers(GameEventType.CRIT, \"\\u001B[35mCritical strike! \"")
+                         .append(" + self.getName() + \" dealt extra \" + x + \" damage!\\u001B[0m\");\n")
+                         .append("        }\n");
+                    }
+                    j.append("      }\n");
+            }
+        }
+    }
+
+    // Same draw as the hand-written strategies: nextInt(max - min + 1) + min
+    private static String roll(StrategyScript.Effect e) {
+        if (e.min == e.max) return Integer.toString(e.min);
+        return "self.getRandom().nextInt(" + (e.max - e.min + 1) + ") + " + e.min;
+    }
+
+    // --- In-memory compiler plumbing ---
+
+    private static String engineClasspath() {
+        CodeSource source = AttackStrategy.class.getProtectionDomain().getCodeSource();
+        if (source != null) {
+            try {
+                return Paths.get(source.getLocation().toURI()).toString();
+            } catch (URISyntaxException | IllegalArgumentException e) {
+                // fall through to the process classpath
+            }
+        }
+        return System.getProperty("java.class.path", "") + File.pathSeparator;
+    }
+
+    private static final class Source extends SimpleJavaFileObject {
+        private final String code;
+
+        Source(String simpleName, String code) {
+            super(URI.create("string:///" + PACKAGE.replace('.', '/') + "/" + simpleName + ".java"),
+                    Kind.SOURCE);
+            this.code = code;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return code;
+        }
+    }
+
+    private static final class ClassOutput extends SimpleJavaFileObject {
+        private final ByteArrayOutputStream bytes;
+
+        ClassOutput(String className, ByteArrayOutputStream bytes) {
+            super(URI.create("mem:///" + className.replace('.', '/') + ".class"), Kind.CLASS);
+            this.bytes = bytes;
+        }
+
+        @Override
+        public OutputStream openOutputStream() {
+            return bytes;
+        }
+    }
+
+    private static final class MemoryFileManager extends ForwardingJavaFileManager<StandardJavaFileManager> {
+        private final Map<String, ByteArrayOutputStream> classes;
+
+        MemoryFileManager(StandardJavaFileManager standard, Map<String, ByteArrayOutputStream> classes) {
+            super(standard);
+            this.classes = classes;
+        }
+
+        @Override
+        public JavaFileObject getJavaFileForOutput(Location location, String className,
+                                                   JavaFileObject.Kind kind, FileObject sibling) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            classes.put(className, bytes);
+            return new ClassOutput(className, bytes);
+        }
+    }
+
+    private static final class ScriptClassLoader extends ClassLoader {
+        private final Map<String, ByteArrayOutputStream> classes;
+
+        ScriptClassLoader(Map<String, ByteArrayOutputStream> classes) {
+            super(AttackStrategy.class.getClassLoader());
+            this.classes = classes;
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            ByteArrayOutputStream bytes = classes.get(name);
+            if (bytes == null) throw new ClassNotFoundException(name);
+            byte[] b = bytes.toByteArray();
+            return defineClass(name, b, 0, b.length);
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package edu.neu.csye7374;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Parsed form of a strategy script (see StrategyCompiler for how it
+ * becomes an AttackStrategy). One statement per line, '#' starts a comment:
+ *
+ * <pre>
+ * strategy Berserker
+ * when self.hp &lt; 25% and target.hp &gt; 30: heal 8..14
+ * when target.hp &lt;= 15: damage 15..20
+ * otherwise: damage 10..20 then crit 30% 5
+ * </pre>
+ *
+ * Rules are tried top to bottom and the first whose conditions all hold
+ * runs its effects left to right; a rule without "when" always matches.
+ *   conditions: self.hp | target.hp, one of &lt; &lt;= &gt; &gt;= == !=, then a
+ *               number (HP) or a percentage of max HP
+ *   effects:    damage N | damage A..B   target takes damage (scaled by
+ *                                        stats, see StatBlock.damage)
+ *               heal N | heal A..B       self heals
+ *               crit P% N | crit P% A..B extra damage with chance P (plus
+ *                                        the crit stat) if the target is
+ *                                        still alive
+ * Dice rolls follow the hand-written strategies exactly, so
+ * "damage 10..20 then crit 30% 5" plays like Aggressive+Crit.
+ *
+ * Numbers are bounded (at most MAX_VALUE, percentages at most
+ * MAX_PERCENT), so compiled code can't overflow or pass nextInt() a bad
+ * bound at run time: a script either fails to load or plays.
+ *
+ * Parse errors are IllegalArgumentExceptions naming the line.
+ */
+public final class StrategyScript {
+
+    /** Largest HP, damage or heal amount a script may name. */
+    static final int MAX_VALUE = (1 << 20) - 1;
+    /** Largest percentage of max HP a condition may name. */
+    static final int MAX_PERCENT = 1000;
+
+    static final int DAMAGE = 0;
+    static final int HEAL = 1;
+    static final int CRIT = 2;
+
+    /** {@code subject.hp op value}; percent compares against max HP. */
+    static final class Condition {
+        final boolean target;
+        final String op;
+        final int value;
+        final boolean percent;
+
+        Condition(boolean target, String op, int value, boolean percent) {
+            this.target = target;
+            this.op = op;
+            this.value = value;
+            this.percent = percent;
+        }
+    }
+
+    static final class Effect {
+        final int kind;
+        final int min;
+        final int max;
+        final int chance;     // CRIT only
+
+        Effect(int kind, int min, int max, int chance) {
+            this.kind = kind;
+            this.min = min;
+            this.max = max;
+            this.chance = chance;
+        }
+    }
+
+    static final class Rule {
+        final List<Condition> conditions;
+        final List<Effect> effects;
+
+        Rule(List<Condition> conditions, List<Effect> effects) {
+            this.conditions = conditions;
+            this.effects = effects;
+        }
+    }
+
+    private final String name;
+    private final List<Rule> rules;
+
+    private StrategyScript(String name, List<Rule> rules) {
+        this.name = name;
+        this.rules = Collections.unmodifiableList(rules);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    List<Rule> rules() {
+        return rules;
+    }
+
+    /**
+     * Hash of the parsed rules (comments and spacing don't count), used as
+     * the compiled strategy's fingerprint: editing a script's behaviour
+     * changes it, so BattleCache entries for the old version stop matching.
+     */
+    public long fingerprint() {
+        long f = StateHash.mix(name.hashCode());
+        for (Rule r : rules) {
+            f = StateHash.mix(f + 1);
+            for (Condition c : r.conditions) {
+                f = StateHash.mix(f ^ ((c.target ? 1L : 0L) << 40 | (long) c.op.hashCode() << 8
+                        | (c.percent ? 1 : 0)));
+                f = StateHash.mix(f + c.value);
+            }
+            for (Effect e : r.effects) {
+                f = StateHash.mix(f ^ ((long) e.kind << 32 | e.chance));
+                f = StateHash.mix(f + ((long) e.min << 32 | e.max));
+            }
+        }
+        return f != 0 ? f : 1;
+    }
+
+    // --- Parsing ---
+
+    public static StrategyScript parse(String source) {
+        String name = null;
+        List<Rule> rules = new ArrayList<>();
+        String[] lines = source.split("\r?\n");
+        for (int n = 0; n < lines.length; n++) {
+            String line = lines[n];
+            int hash = line.indexOf('#');
+            if (hash >= 0) line = line.substring(0, hash);
+            line = line.trim();
+            if (line.isEmpty()) continue;
+            try {
+                if (name == null) {
+                    name = parseHeader(line);
+                } else {
+                    rules.add(parseRule(line));
+                }
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("line " + (n + 1) + ": " + e.getMessage());
+            }
+        }
+        if (name == null) {
+            throw new IllegalArgumentException("missing 'strategy <name>' line");
+        }
+        if (rules.isEmpty()) {
+            throw new IllegalArgumentException("strategy " + name + " has no rules");
+        }
+        return new StrategyScript(name, rules);
+    }
+
+    private static String parseHeader(String line) {
+        String[] t = line.split("\\s+");
+        if (t.length != 2 || !t[0].equals("strategy")) {
+            throw new IllegalArgumentException("expected 'strategy <name>', found '" + line + "'");
+        }
+        if (!t[1].matches("[A-Za-z][A-Za-z0-9_+\\-\\[\\]]*")) {
+            throw new IllegalArgumentException("invalid strategy name '" + t[1] + "'");
+        }
+        return t[1];
+    }
+
+    private static Rule parseRule(String line) {
+        List<Condition> conditions = new ArrayList<>();
+        String body = line;
+        if (line.startsWith("when ") || line.startsWith("otherwise")) {
+            int colon = line.indexOf(':');
+            if (colon < 0) throw new IllegalArgumentException("missing ':' after condition");
+            String head = line.substring(0, colon).trim();
+            body = line.substring(colon + 1).trim();
+            if (head.startsWith("when ")) {
+                for (String c : head.substring(5).split("\\s+and\\s+")) {
+                    conditions.add(parseCondition(c.trim()));
+                }
+            } else if (!head.equals("otherwise")) {
+                throw new IllegalArgumentException("unexpected '" + head + "'");
+            }
+        }
+        List<Effect> effects = new ArrayList<>();
+        for (String e : body.split("\\s+then\\s+")) {
+            effects.add(parseEffect(e.trim()));
+        }
+        return new Rule(conditions, effects);
+    }
+
+    private static Condition parseCondition(String text) {
+        String[] t = text.split("\\s+");
+        if (t.length != 3) {
+            throw new IllegalArgumentException("expected '<self|target>.hp <op> <value>', found '" + text + "'");
+        }
+        boolean target;
+        if (t[0].equals("self.hp")) {
+            target = false;
+        } else if (t[0].equals("target.hp")) {
+            target = true;
+        } else {
+            throw new IllegalArgumentException("unknown operand '" + t[0] + "'");
+        }
+        switch (t[1]) {
+            case "<": case "<=": case ">": case ">=": case "==": case "!=":
+                break;
+            default:
+                throw new IllegalArgumentException("unknown comparison '" + t[1] + "'");
+        }
+        boolean percent = t[2].endsWith("%");
+        int value = number(percent ? t[2].substring(0, t[2].length() - 1) : t[2]);
+        if (percent && value > MAX_PERCENT) {
+            throw new IllegalArgumentException("percentage above " + MAX_PERCENT + "%: " + t[2]);
+        }
+        return new Condition(target, t[1], value, percent);
+    }
+
+    private static Effect parseEffect(String text) {
+        String[] t = text.split("\\s+");
+        switch (t[0]) {
+            case "damage":
+            case "heal":
+                if (t.length != 2) throw new IllegalArgumentException("expected '" + t[0] + " <n|a..b>'");
+                int[] r = range(t[1]);
+                return new Effect(t[0].equals("damage") ? DAMAGE : HEAL, r[0], r[1], 0);
+            case "crit":
+                if (t.length != 3 || !t[1].endsWith("%")) {
+                    throw new IllegalArgumentException("expected 'crit <p>% <n|a..b>'");
+                }
+                int chance = number(t[1].substring(0, t[1].length() - 1));
+                if (chance > 100) throw new IllegalArgumentException("crit chance must be 0-100");
+                int[] c = range(t[2]);
+                return new Effect(CRIT, c[0], c[1], chance);
+            default:
+                throw new IllegalArgumentException("unknown effect '" + t[0] + "'");
+        }
+    }
+
+    private static int[] range(String text) {
+        int dots = text.indexOf("..");
+        int min = number(dots < 0 ? text : text.substring(0, dots));
+        int max = dots < 0 ? min : number(text.substring(dots + 2));
+        if (max < min) throw new IllegalArgumentException("empty range " + text);
+        return new int[] {min, max};
+    }
+
+    private static int number(String text) {
+        try {
+            int v = Integer.parseInt(text);
+            if (v < 0) throw new IllegalArgumentException("negative value " + text);
+            if (v > MAX_VALUE) throw new IllegalArgumentException("value above " + MAX_VALUE + ": " + text);
+            return v;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("not a number: '" + text + "'");
+        }
+    }
+}
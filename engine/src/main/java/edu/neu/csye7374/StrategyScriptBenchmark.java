@@ -0,0 +1,139 @@
+package edu.neu.csye7374;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Compiled strategy scripts vs the hand-written strategies.
+ *
+ * 1. Equivalence: a script and its hand-written counterpart, driven by
+ *    identically seeded dice, must leave the same HP after every attack.
+ * 2. Speed: ns per execute() for AggressiveAttack vs "damage 10..20" and
+ *    Aggressive+Crit vs "damage 10..20 then crit 30% 5", measured in
+ *    alternating rounds after warm-up (observers off, as in simulations).
+ * 3. Hot load: time from rewriting a file in a watched directory until the
+ *    new version is served.
+ *
+ * Usage: StrategyScriptBenchmark [--ops n] [--rounds n]
+ */
+public class StrategyScriptBenchmark {
+
+    static final String AGGRESSIVE = "strategy Aggressive\ndamage 10..20\n";
+    static final String AGGRESSIVE_CRIT = "strategy Aggressive+Crit\ndamage 10..20 then crit 30% 5\n";
+
+    private static final int TARGET_HP = 1_000_000;
+
+    private static long sink;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        long ops = 20_000_000;
+        int rounds = 5;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--ops":    ops = Long.parseLong(args[++i]); break;
+                case "--rounds": rounds = Integer.parseInt(args[++i]); break;
+                default:
+                    System.err.println("[Warning] Unknown option: " + args[i]);
+            }
+        }
+
+        GameConfig config = GameConfig.defaults();
+        long t0 = System.nanoTime();
+        AttackStrategy scripted = StrategyCompiler.compile(StrategyScript.parse(AGGRESSIVE));
+        long t1 = System.nanoTime();
+        AttackStrategy scriptedCrit = StrategyCompiler.compile(StrategyScript.parse(AGGRESSIVE_CRIT));
+        long t2 = System.nanoTime();
+        System.out.printf("[Scripts] compile: first %.0f ms, second %.0f ms%n",
+                (t1 - t0) / 1e6, (t2 - t1) / 1e6);
+
+        AttackStrategy hand = config.strategies().aggressive();
+        AttackStrategy handCrit = config.strategies().aggressiveCrit();
+        checkSame(hand, scripted);
+        checkSame(handCrit, scriptedCrit);
+
+        compare("Aggressive", hand, scripted, ops, rounds);
+        compare("Aggressive+Crit", handCrit, scriptedCrit, ops, rounds);
+
+        hotLoad();
+    }
+
+    private static void checkSame(AttackStrategy a, AttackStrategy b) {
+        edu.neu.csye7374.Character[] x = pair(a, 99);
+        edu.neu.csye7374.Character[] y = pair(b, 99);
+        for (int i = 0; i < 100_000; i++) {
+            if (x[1].getHealth() < 100) {
+                x[1].heal(TARGET_HP);
+                y[1].heal(TARGET_HP);
+            }
+            x[0].attack(x[1]);
+            y[0].attack(y[1]);
+            if (x[1].getHealth() != y[1].getHealth()) {
+                throw new IllegalStateException(b.getName() + " diverged from " + a.getName()
+                        + " at attack " + i);
+            }
+        }
+        System.out.println("[Scripts] " + b.getName() + ": same HP as hand-written over 100000 attacks");
+    }
+
+    private static void compare(String label, AttackStrategy hand, AttackStrategy scripted,
+                                long ops, int rounds) {
+        double bestHand = Double.MAX_VALUE;
+        double bestScript = Double.MAX_VALUE;
+        run(hand, ops / 4);              // warm-up both call targets
+        run(scripted, ops / 4);
+        for (int r = 0; r < rounds; r++) {
+            bestHand = Math.min(bestHand, run(hand, ops));
+            bestScript = Math.min(bestScript, run(scripted, ops));
+        }
+        System.out.printf("[Scripts] %-16s hand-written %.2f ns/op, script %.2f ns/op (%+.1f%%)%n",
+                label, bestHand, bestScript, (bestScript / bestHand - 1) * 100);
+    }
+
+    // ns per execute(); the target is topped up before it can die
+    private static double run(AttackStrategy s, long ops) {
+        edu.neu.csye7374.Character[] p = pair(s, 1);
+        edu.neu.csye7374.Character self = p[0];
+        edu.neu.csye7374.Character target = p[1];
+        long start = System.nanoTime();
+        for (long i = 0; i < ops; i++) {
+            s.execute(self, target);
+            if (target.getHealth() < 100) {
+                sink += target.getHealth();
+                target.heal(TARGET_HP);
+            }
+        }
+        return (System.nanoTime() - start) / (double) ops;
+    }
+
+    private static edu.neu.csye7374.Character[] pair(AttackStrategy s, long seed) {
+        edu.neu.csye7374.Character self = new CharacterBuilder().setName("Script").setHealth(100).build();
+        edu.neu.csye7374.Character target = new CharacterBuilder().setName("Dummy").setHealth(TARGET_HP).build();
+        self.setStrategy(s);
+        self.getRandom().setSeed(seed);
+        return new edu.neu.csye7374.Character[] {self, target};
+    }
+
+    private static void hotLoad() throws IOException, InterruptedException {
+        Path dir = Files.createTempDirectory("strategies");
+        Path file = dir.resolve("berserker" + StrategyScriptDirectory.SUFFIX);
+        Files.write(file, "strategy Berserker\ndamage 12..18\n".getBytes(StandardCharsets.UTF_8));
+        try (StrategyScriptDirectory scripts = StrategyScriptDirectory.start(dir)) {
+            long start = System.nanoTime();
+            Files.write(file, ("strategy Berserker\nwhen self.hp < 25%: heal 8..14\n"
+                    + "otherwise: damage 12..18 then crit 30% 5\n").getBytes(StandardCharsets.UTF_8));
+            while (scripts.getVersion("berserker") < 2) {
+                if (System.nanoTime() - start > 30_000_000_000L) {
+                    throw new IllegalStateException("reload not seen within 30 s");
+                }
+                Thread.sleep(5);
+            }
+            System.out.printf("[Scripts] hot reload of %s served after %.0f ms%n",
+                    file.getFileName(), (System.nanoTime() - start) / 1e6);
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(dir);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package edu.neu.csye7374;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Hot-loaded directory of strategy scripts ({@code *.strategy} files, see
+ * StrategyScript). Every script is compiled once when its file appears or
+ * changes; lookups read an immutable map published through a volatile
+ * field, so get() costs one map lookup and never compiles.
+ *
+ * A file that fails to parse or compile is reported and ignored; the
+ * previous version of its strategy stays active. Each successful (re)load
+ * of a strategy bumps its version. Characters keep whatever instance they
+ * were given, so a reload affects new setStrategy calls only.
+ */
+public class StrategyScriptDirectory implements Closeable {
+
+    public static final String SUFFIX = ".strategy";
+
+    /** A compiled script and the version it was loaded as (1, 2, ...). */
+    public static final class Loaded {
+        private final AttackStrategy strategy;
+        private final int version;
+        private final Path file;
+
+        Loaded(AttackStrategy strategy, int version, Path file) {
+            this.strategy = strategy;
+            this.version = version;
+            this.file = file;
+        }
+
+        public AttackStrategy getStrategy() {
+            return strategy;
+        }
+
+        public int getVersion() {
+            return version;
+        }
+
+        public Path getFile() {
+            return file;
+        }
+    }
+
+    private final Path dir;
+    private volatile Map<String, Loaded> loaded = Collections.emptyMap();  // by lower-case name
+    private final Map<String, Integer> versions = new HashMap<>();       // survives file deletion
+    private WatchService watchService;
+    private Thread thread;
+
+    public StrategyScriptDirectory(Path dir) {
+        this.dir = dir.toAbsolutePath();
+    }
+
+    /** Loads every script in {@code dir} now and keeps watching it. */
+    public static StrategyScriptDirectory start(Path dir) throws IOException {
+        StrategyScriptDirectory d = new StrategyScriptDirectory(dir);
+        d.reloadAll();
+        d.watch();
+        return d;
+    }
+
+    public AttackStrategy get(String name) {
+        Loaded l = loaded.get(name.toLowerCase());
+        return l != null ? l.strategy : null;
+    }
+
+    /** Version of the named strategy currently served; 0 if unknown. */
+    public int getVersion(String name) {
+        Loaded l = loaded.get(name.toLowerCase());
+        return l != null ? l.version : 0;
+    }
+
+    public Map<String, Loaded> getAll() {
+        return loaded;
+    }
+
+    // --- Loading ---
+
+    /** (Re)compiles every script in the directory in one compiler run. */
+    public synchronized void reloadAll() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, "*" + SUFFIX)) {
+            for (Path f : stream) {
+                files.add(f);
+            }
+        }
+        Collections.sort(files);
+        Map<String, Loaded> next = new TreeMap<>();
+        for (Loaded l : loaded.values()) {
+            if (files.contains(l.file)) next.put(l.strategy.getName().toLowerCase(), l);
+        }
+        load(files, next);
+    }
+
+    private synchronized void reload(Set<Path> changed) {
+        Map<String, Loaded> next = new TreeMap<>(loaded);
+        List<Path> present = new ArrayList<>();
+        for (Path f : changed) {
+            if (Files.exists(f)) {
+                present.add(f);
+            } else {
+                next.values().removeIf(l -> l.file.equals(f));
+                System.out.println("[Scripts] Removed " + f.getFileName());
+            }
+        }
+        load(present, next);
+    }
+
+    // Parses each file, compiles the good ones together, then publishes 'next'
+    private void load(List<Path> files, Map<String, Loaded> next) {
+        List<StrategyScript> scripts = new ArrayList<>();
+        Map<String, Path> origin = new HashMap<>();
+        for (Path f : files) {
+            try {
+                StrategyScript s = StrategyScript.parse(
+                        new String(Files.readAllBytes(f), StandardCharsets.UTF_8));
+                String key = s.getName().toLowerCase();
+                Path other = origin.get(key);
+                Loaded current = next.get(key);
+                if (other == null && current != null && !current.file.equals(f)) other = current.file;
+                if (other != null) {
+                    System.err.println("[Warning] Ignoring " + f.getFileName() + ": strategy "
+                            + s.getName() + " is already defined in " + other.getFileName());
+                    continue;
+                }
+                origin.put(key, f);
+                scripts.add(s);
+            } catch (IOException | IllegalArgumentException e) {
+                System.err.println("[Warning] Keeping previous strategy, could not load "
+                        + f.getFileName() + ": " + e.getMessage());
+            }
+        }
+        if (!scripts.isEmpty()) {
+            try {
+                Map<String, AttackStrategy> compiled = StrategyCompiler.compileAll(scripts);
+                for (Map.Entry<String, AttackStrategy> e : compiled.entrySet()) {
+                    String key = e.getKey().toLowerCase();
+                    int version = versions.merge(key, 1, Integer::sum);
+                    next.values().removeIf(l -> l.file.equals(origin.get(key)));  // renamed in place
+                    next.put(key, new Loaded(e.getValue(), version, origin.get(key)));
+                    System.out.println("[Scripts] Loaded " + e.getKey() + " v" + version);
+                }
+            } catch (IllegalStateException e) {
+                System.err.println("[Warning] Keeping previous strategies: " + e.getMessage());
+            }
+        }
+        loaded = Collections.unmodifiableMap(next);
+    }
+
+    // --- Watching ---
+
+    private void watch() throws IOException {
+        watchService = FileSystems.getDefault().newWatchService();
+        dir.register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE);
+        thread = new Thread(this::loop, "strategy-script-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void loop() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                Set<Path> changed = new LinkedHashSet<>();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    Object context = event.context();
+                    if (context instanceof Path && context.toString().endsWith(SUFFIX)) {
+                        changed.add(dir.resolve((Path) context));
+                    }
+                }
+                if (!changed.isEmpty()) {
+                    reload(changed);
+                }
+                if (!key.reset()) {
+                    return;
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // watcher closed
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+            thread.interrupt();
+        }
+    }
+}
@@ -0,0 +1,387 @@
+package edu.neu.csye7374;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Round-robin tournament between attack strategies (and decorator chains).
+ *
+ * Every pair of entrants plays {@code gamesPerPairing} mirror-match duels,
+ * swapping who acts first each game. Pairings are split recursively into
+ * fork-join tasks so idle workers steal the remaining ranges and all cores
+ * stay busy even when some matchups (Defensive vs Defensive) run to the
+ * turn limit while others end in a few turns.
+ *
+ * Per-entrant totals go into LongAdder counters (striped, so workers
+ * finishing games for the same entrant don't contend). The win matrix is a
+ * plain array: each cell is owned by the single task that plays that
+ * pairing. The report ranks entrants by a Bradley-Terry fit on the win
+ * matrix, expressed on the Elo scale (mean 1500).
+ *
+ * Usage:
+ *   StrategyTournament [--games n] [--crit-depth d] [--variants v]
+ *                      [--seed s] [--threads n] [--matrix] [--scripts dir]
+ *                      [--cache file]
+ *
+ * {@code --scripts} adds every compiled strategy script in the directory
+ * (see StrategyScriptDirectory) as an entrant. {@code --cache} memoizes
+ * duels in a BattleCache file, so re-running an unchanged tournament
+ * replays results instead of battles.
+ */
+public class StrategyTournament {
+
+    /** A named strategy taking part in the tournament. */
+    public static final class Entrant {
+        final String name;
+        final AttackStrategy strategy;
+
+        public Entrant(String name, AttackStrategy strategy) {
+            this.name = name;
+            this.strategy = strategy;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    private static final int SPLIT_THRESHOLD = 4;   // pairings per leaf task
+
+    private final List<Entrant> entrants;
+    private final GameConfig config;
+    private final int gamesPerPairing;
+    private final long seed;
+
+    private final int[] pairA;
+    private final int[] pairB;
+
+    private final LongAdder[] wins;
+    private final LongAdder[] losses;
+    private final LongAdder[] draws;
+    private final LongAdder[] turns;
+    private final long[] winMatrix;          // winMatrix[i * n + j] = wins of i against j
+
+    private final ThreadLocal<BattleSimulator> simulators = ThreadLocal.withInitial(this::newSimulator);
+    private BattleCache cache;
+
+    public StrategyTournament(List<Entrant> entrants, GameConfig config, int gamesPerPairing, long seed) {
+        this.entrants = new ArrayList<>(entrants);
+        this.config = config;
+        this.gamesPerPairing = gamesPerPairing;
+        this.seed = seed;
+
+        int n = this.entrants.size();
+        int pairings = n * (n - 1) / 2;
+        pairA = new int[pairings];
+        pairB = new int[pairings];
+        int k = 0;
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                pairA[k] = i;
+                pairB[k] = j;
+                k++;
+            }
+        }
+
+        wins = adders(n);
+        losses = adders(n);
+        draws = adders(n);
+        turns = adders(n);
+        winMatrix = new long[n * n];
+    }
+
+    /** Memoizes duels in {@code cache}; set before run(). */
+    public void setCache(BattleCache cache) {
+        this.cache = cache;
+    }
+
+    private BattleSimulator newSimulator() {
+        BattleSimulator sim = new BattleSimulator();
+        sim.setCache(cache);
+        return sim;
+    }
+
+    private static LongAdder[] adders(int n) {
+        LongAdder[] a = new LongAdder[n];
+        for (int i = 0; i < n; i++) a[i] = new LongAdder();
+        return a;
+    }
+
+    /** Plays every pairing on the given pool. */
+    public void run(ForkJoinPool pool) {
+        pool.invoke(new PairingTask(0, pairA.length));
+    }
+
+    private final class PairingTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+
+        PairingTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                BattleSimulator sim = simulators.get();
+                for (int k = from; k < to; k++) {
+                    playPairing(sim, k);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new PairingTask(from, mid), new PairingTask(mid, to));
+        }
+    }
+
+    private void playPairing(BattleSimulator sim, int k) {
+        int a = pairA[k];
+        int b = pairB[k];
+        AttackStrategy sa = entrants.get(a).strategy;
+        AttackStrategy sb = entrants.get(b).strategy;
+        int n = entrants.size();
+
+        long aWins = 0, bWins = 0, drawn = 0, totalTurns = 0;
+        long base = seed + (long) k * 0x9E3779B97F4A7C15L;
+        for (int g = 0; g < gamesPerPairing; g++) {
+            boolean aFirst = (g & 1) == 0;
+            BattleOutcome o = aFirst
+                    ? sim.duel(config, sa, sb, base + g)
+                    : sim.duel(config, sb, sa, base + g);
+            totalTurns += o.getTurns();
+            if (o.isDraw()) {
+                drawn++;
+            } else if (o.isPlayerWon() == aFirst) {
+                aWins++;
+            } else {
+                bWins++;
+            }
+        }
+
+        winMatrix[a * n + b] = aWins;
+        winMatrix[b * n + a] = bWins;
+        wins[a].add(aWins);
+        wins[b].add(bWins);
+        losses[a].add(bWins);
+        losses[b].add(aWins);
+        draws[a].add(drawn);
+        draws[b].add(drawn);
+        turns[a].add(totalTurns);
+        turns[b].add(totalTurns);
+    }
+
+    /**
+     * Bradley-Terry strengths fitted with the MM algorithm (draws count as
+     * half a win for each side), mapped to Elo points with mean 1500.
+     * Every entrant also draws one virtual game against a strength-1
+     * reference, which keeps unbeaten and winless entrants finite.
+     */
+    public double[] eloRatings() {
+        int n = entrants.size();
+        double[] strength = new double[n];
+        Arrays.fill(strength, 1.0);
+        double[] next = new double[n];
+
+        for (int iter = 0; iter < 200; iter++) {
+            for (int i = 0; i < n; i++) {
+                // Prior: half a win out of one game against the strength-1 reference
+                double w = 0.5;
+                double denom = 1.0 / (strength[i] + 1);
+                for (int j = 0; j < n; j++) {
+                    if (i == j) continue;
+                    double wij = winMatrix[i * n + j];
+                    double wji = winMatrix[j * n + i];
+                    double games = gamesPerPairing;
+                    w += wij + (games - wij - wji) / 2;
+                    denom += games / (strength[i] + strength[j]);
+                }
+                next[i] = w / denom;
+            }
+            double logMean = 0;
+            for (int i = 0; i < n; i++) logMean += Math.log(next[i]);
+            logMean /= n;
+            double scale = Math.exp(-logMean);
+            for (int i = 0; i < n; i++) strength[i] = next[i] * scale;
+        }
+
+        double[] elo = new double[n];
+        for (int i = 0; i < n; i++) {
+            elo[i] = 1500 + 400 * Math.log10(strength[i]);
+        }
+        return elo;
+    }
+
+    public void printReport(PrintStream out, boolean matrix) {
+        int n = entrants.size();
+        double[] elo = eloRatings();
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) order[i] = i;
+        Arrays.sort(order, (x, y) -> Double.compare(elo[y], elo[x]));
+
+        int width = 10;
+        for (Entrant e : entrants) width = Math.max(width, e.name.length());
+
+        out.println();
+        out.println("===========================================");
+        out.println("          STRATEGY TOURNAMENT RESULTS      ");
+        out.println("===========================================");
+        out.printf("%-4s %-" + width + "s %7s %10s %10s %10s %7s %9s%n",
+                "#", "Strategy", "Elo", "Wins", "Losses", "Draws", "Win%", "AvgTurns");
+        for (int r = 0; r < n; r++) {
+            int i = order[r];
+            long w = wins[i].sum();
+            long l = losses[i].sum();
+            long d = draws[i].sum();
+            long games = w + l + d;
+            out.printf("%-4d %-" + width + "s %7.0f %10d %10d %10d %6.1f%% %9.2f%n",
+                    r + 1, entrants.get(i).name, elo[i], w, l, d,
+                    games == 0 ? 0.0 : 100.0 * w / games,
+                    games == 0 ? 0.0 : (double) turns[i].sum() / games);
+        }
+
+        if (matrix) {
+            out.println();
+            out.println("Win matrix (row wins against column):");
+            out.printf("%-" + width + "s", "");
+            for (int c = 0; c < n; c++) out.printf(" %6d", c + 1);
+            out.println();
+            for (int r = 0; r < n; r++) {
+                int i = order[r];
+                out.printf("%-" + width + "s", entrants.get(i).name);
+                for (int c = 0; c < n; c++) {
+                    int j = order[c];
+                    if (i == j) out.printf(" %6s", "-");
+                    else out.printf(" %6d", winMatrix[i * n + j]);
+                }
+                out.println();
+            }
+        }
+    }
+
+    // --- Entrant generation ---
+
+    /**
+     * Aggressive and Defensive bases, each wrapped in 0..critDepth crit
+     * decorators, optionally multiplied by damage-band variants of the
+     * Aggressive base (each pinned to its own config snapshot).
+     */
+    public static List<Entrant> standardEntrants(GameConfig config, int critDepth, int variants) {
+        List<Entrant> list = new ArrayList<>();
+        List<AttackStrategy> bases = new ArrayList<>();
+        bases.add(config.strategies().aggressive());
+        bases.add(config.strategies().defensive());
+        for (int v = 1; v <= variants; v++) {
+            int min = config.getAggressiveMinDamage() + v - (variants + 1) / 2;
+            int max = min + config.getAggressiveMaxDamage() - config.getAggressiveMinDamage() + (v % 3) - 1;
+            if (min < 0 || max < min) continue;
+            GameConfig variant = config.toBuilder().setAggressiveDamage(min, max).build();
+            bases.add(new NamedStrategy("Aggressive[" + min + "-" + max + "]",
+                    new AggressiveAttack(variant)));
+        }
+        for (AttackStrategy base : bases) {
+            AttackStrategy s = base;
+            for (int d = 0; d <= critDepth; d++) {
+                list.add(new Entrant(s.getName(), s));
+                s = new CriticalStrikeDecorator(s, config);
+            }
+        }
+        return list;
+    }
+
+    /** Gives a strategy variant a distinct display name. */
+    static final class NamedStrategy extends AttackDecorator {
+        private final String name;
+
+        NamedStrategy(String name, AttackStrategy inner) {
+            super(inner);
+            this.name = name;
+        }
+
+        @Override
+        public void execute(Character self, Character target) {
+            inner.execute(self, target);
+        }
+
+        @Override
+        public boolean resolve(Character self, Character target, EffectBatch batch) {
+            return inner.resolve(self, target, batch);
+        }
+
+        @Override
+        public long fingerprint() {
+            return inner.fingerprint();   // the display name doesn't change play
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int games = 1000;
+        int critDepth = 1;
+        int variants = 0;
+        long seed = 7374;
+        int threads = Runtime.getRuntime().availableProcessors();
+        boolean matrix = false;
+        String scripts = null;
+        String cacheFile = null;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--games":      games = Integer.parseInt(args[++i]); break;
+                case "--crit-depth": critDepth = Integer.parseInt(args[++i]); break;
+                case "--variants":   variants = Integer.parseInt(args[++i]); break;
+                case "--seed":       seed = Long.parseLong(args[++i]); break;
+                case "--threads":    threads = Integer.parseInt(args[++i]); break;
+                case "--matrix":     matrix = true; break;
+                case "--scripts":    scripts = args[++i]; break;
+                case "--cache":      cacheFile = args[++i]; break;
+                default:
+                    System.err.println("[Warning] Unknown option: " + args[i]);
+            }
+        }
+
+        GameConfig config = GameConfig.current();
+        List<Entrant> entrants = standardEntrants(config, critDepth, variants);
+        if (scripts != null) {
+            StrategyScriptDirectory dir = new StrategyScriptDirectory(Paths.get(scripts));
+            dir.reloadAll();
+            for (StrategyScriptDirectory.Loaded l : dir.getAll().values()) {
+                entrants.add(new Entrant(l.getStrategy().getName(), l.getStrategy()));
+            }
+        }
+        StrategyTournament t = new StrategyTournament(entrants, config, games, seed);
+        long pairings = (long) entrants.size() * (entrants.size() - 1) / 2;
+        System.out.println("[Tournament] " + entrants.size() + " strategies, " + pairings
+                + " pairings x " + games + " games on " + threads + " threads");
+
+        BattleCache cache = cacheFile != null ? BattleCache.open(Paths.get(cacheFile), 1 << 20, 1 << 22) : null;
+        t.setCache(cache);
+
+        long start = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            t.run(pool);
+        } finally {
+            pool.shutdown();
+            if (cache != null) cache.close();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("[Tournament] %d games in %.1fs (%.0f games/s)%n",
+                pairings * games, seconds, pairings * games / seconds);
+        if (cache != null) {
+            System.out.println("[Tournament] cache: " + cache.getStats());
+        }
+        t.printReport(System.out, matrix || entrants.size() <= 12);
+    }
+}
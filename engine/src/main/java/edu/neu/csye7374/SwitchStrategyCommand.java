@@ -0,0 +1,27 @@
+package edu.neu.csye7374;
+
+/**
+ * Design Pattern: Command (Concrete Command)
+ * ------------------------------------------
+ * Swaps a character's AttackStrategy; undo puts the previous one back.
+ */
+public class SwitchStrategyCommand implements ReversibleCommand {
+
+    private final Character target;
+    private final AttackStrategy strategy;
+
+    public SwitchStrategyCommand(Character target, AttackStrategy strategy) {
+        this.target = target;
+        this.strategy = strategy;
+    }
+
+    @Override
+    public void execute() {
+        target.setStrategy(strategy);
+    }
+
+    @Override
+    public void capture(UndoLog log) {
+        log.capture(target);
+    }
+}
@@ -0,0 +1,259 @@
+package edu.neu.csye7374;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Preallocated undo/redo journal for ReversibleCommands.
+ *
+ * Each captured participant is one entry in parallel arrays (struct of
+ * arrays): subject, an int, an object and a long, before and after.
+ *   Character:  HP, strategy, GameRandom position (-1 if not a GameRandom),
+ *               modifier set (immutable, so saving the reference is enough)
+ *   GameFacade: turn count, GameState
+ * A command's entries form a frame. Undo writes the "before" values back
+ * and redo the "after" values, newest frame first; both cost time
+ * proportional to the entries in the frame and never re-run a command or
+ * notify observers.
+ *
+ * While speculating, capture() also mutes each participant (Characters
+ * publish to ObserverChannel.NONE, GameFacade suppresses logs, leaderboard
+ * reports and snapshots); undoing the frame restores what was there.
+ *
+ * A real (unmuted) move that ends a GameFacade's battle can't be undone:
+ * the result is already on the leaderboard, which has no way to take it
+ * back. Speculative game-overs are muted and so never reported.
+ *
+ * Arrays grow by doubling only when the initial capacity is exceeded.
+ * Not thread-safe.
+ */
+public final class UndoLog {
+
+    private Object[] subjects;
+    private int[] intBefore;
+    private int[] intAfter;
+    private Object[] objBefore;
+    private Object[] objAfter;
+    private long[] longBefore;
+    private long[] longAfter;
+    private Object[] extraBefore;    // Character: ModifierSet
+    private Object[] extraAfter;
+    private Object[] muted;          // saved channel (Character) or Boolean (GameFacade); null = not muted
+    private int size;
+
+    private int[] frameStart;
+    private int frames;              // frames applied (undo stack depth)
+    private int redoable;            // frames available for redo beyond 'frames'
+    private int speculating;         // nesting depth of CommandInvoker.speculate
+
+    public UndoLog(int capacity) {
+        int entries = Math.max(4, capacity * 3);
+        subjects = new Object[entries];
+        intBefore = new int[entries];
+        intAfter = new int[entries];
+        objBefore = new Object[entries];
+        objAfter = new Object[entries];
+        longBefore = new long[entries];
+        longAfter = new long[entries];
+        extraBefore = new Object[entries];
+        extraAfter = new Object[entries];
+        muted = new Object[entries];
+        frameStart = new int[Math.max(4, capacity) + 1];
+    }
+
+    // --- Capture (called by ReversibleCommand.capture) ---
+
+    public void capture(Character c) {
+        if (c == null) return;
+        int i = add(c);
+        intBefore[i] = c.getHealth();
+        objBefore[i] = c.getStrategy();
+        longBefore[i] = position(c);
+        extraBefore[i] = c.modifierSet();
+        if (speculating > 0) {
+            muted[i] = c.channel();
+            c.joinChannel(ObserverChannel.NONE);
+        }
+    }
+
+    public void capture(GameFacade game) {
+        if (game == null) return;
+        int i = add(game);
+        intBefore[i] = game.getTurnCount();
+        objBefore[i] = game.getState();
+        if (speculating > 0) {
+            muted[i] = game.isMuted();
+            game.setMuted(true);
+        }
+    }
+
+    private static long position(Character c) {
+        Random r = c.getRandom();
+        return (r instanceof GameRandom) ? ((GameRandom) r).getPosition() : -1;
+    }
+
+    private int add(Object subject) {
+        if (size == subjects.length) {
+            int n = size * 2;
+            subjects = Arrays.copyOf(subjects, n);
+            intBefore = Arrays.copyOf(intBefore, n);
+            intAfter = Arrays.copyOf(intAfter, n);
+            objBefore = Arrays.copyOf(objBefore, n);
+            objAfter = Arrays.copyOf(objAfter, n);
+            longBefore = Arrays.copyOf(longBefore, n);
+            longAfter = Arrays.copyOf(longAfter, n);
+            extraBefore = Arrays.copyOf(extraBefore, n);
+            extraAfter = Arrays.copyOf(extraAfter, n);
+            muted = Arrays.copyOf(muted, n);
+        }
+        subjects[size] = subject;
+        extraBefore[size] = null;
+        extraAfter[size] = null;
+        muted[size] = null;
+        return size++;
+    }
+
+    // --- Frames (driven by CommandInvoker) ---
+
+    void begin() {
+        redoable = 0;                 // a new action discards the redo history
+        size = frameStart[frames];
+        if (frames + 1 == frameStart.length) {
+            frameStart = Arrays.copyOf(frameStart, frameStart.length * 2);
+        }
+        frameStart[frames] = size;
+    }
+
+    /** Records the "after" values of the frame opened by begin(). */
+    void end() {
+        for (int i = frameStart[frames]; i < size; i++) {
+            Object s = subjects[i];
+            if (s instanceof Character) {
+                Character c = (Character) s;
+                intAfter[i] = c.getHealth();
+                objAfter[i] = c.getStrategy();
+                longAfter[i] = position(c);
+                extraAfter[i] = c.modifierSet();
+            } else {
+                GameFacade g = (GameFacade) s;
+                intAfter[i] = g.getTurnCount();
+                objAfter[i] = g.getState();
+            }
+        }
+        frames++;
+        frameStart[frames] = size;
+    }
+
+    boolean undo() {
+        if (!canUndo()) return false;
+        undoFrame();
+        return true;
+    }
+
+    private void undoFrame() {
+        frames--;
+        redoable++;
+        int from = frameStart[frames];
+        for (int i = frameStart[frames + 1] - 1; i >= from; i--) {
+            apply(i, intBefore[i], objBefore[i], longBefore[i], extraBefore[i]);
+            unmute(i);
+        }
+    }
+
+    boolean redo() {
+        if (redoable == 0) return false;
+        int from = frameStart[frames];
+        int to = frameStart[frames + 1];
+        for (int i = from; i < to; i++) {
+            apply(i, intAfter[i], objAfter[i], longAfter[i], extraAfter[i]);
+        }
+        frames++;
+        redoable--;
+        return true;
+    }
+
+    private void apply(int i, int intValue, Object objValue, long longValue, Object extra) {
+        Object s = subjects[i];
+        if (s instanceof Character) {
+            Character c = (Character) s;
+            c.restore(intValue, (AttackStrategy) objValue);
+            c.restoreModifiers((ModifierSet) extra);
+            Random r = c.getRandom();
+            if (longValue >= 0 && r instanceof GameRandom) {
+                ((GameRandom) r).setPosition(longValue);
+            }
+        } else {
+            ((GameFacade) s).restoreTurn((GameState) objValue, intValue);
+        }
+    }
+
+    private void unmute(int i) {
+        Object saved = muted[i];
+        if (saved == null) return;
+        Object s = subjects[i];
+        if (s instanceof Character) {
+            ((Character) s).restoreChannel((ObserverChannel) saved);
+        } else {
+            ((GameFacade) s).setMuted((Boolean) saved);
+        }
+        muted[i] = null;
+    }
+
+    boolean canUndo() {
+        return frames > 0 && !reported(frames - 1);
+    }
+
+    // True if the frame ended a game that wasn't muted, i.e. told the leaderboard
+    private boolean reported(int frame) {
+        for (int i = frameStart[frame]; i < frameStart[frame + 1]; i++) {
+            Object s = subjects[i];
+            if (s instanceof GameFacade && !((GameFacade) s).isMuted()
+                    && objAfter[i] instanceof GameOverState && !(objBefore[i] instanceof GameOverState)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    int frames() {
+        return frames;
+    }
+
+    int redoable() {
+        return redoable;
+    }
+
+    void enterSpeculation() {
+        speculating++;
+    }
+
+    /** Undoes every frame above {@code mark} and ends one speculation level. */
+    void exitSpeculation(int mark) {
+        while (frames > mark) {
+            undoFrame();
+        }
+        redoable = 0;
+        size = frameStart[frames];
+        speculating--;
+    }
+
+    /**
+     * Forgets all history (e.g. when a new game starts). Participants still
+     * muted by a speculative frame get their channel back, since no undo
+     * will restore it now.
+     */
+    void clear() {
+        int used = Math.max(size, frameStart[frames + redoable]);
+        for (int i = used - 1; i >= 0; i--) {
+            unmute(i);
+        }
+        Arrays.fill(subjects, 0, used, null);
+        Arrays.fill(objBefore, 0, used, null);
+        Arrays.fill(objAfter, 0, used, null);
+        Arrays.fill(extraBefore, 0, used, null);
+        Arrays.fill(extraAfter, 0, used, null);
+        size = 0;
+        frames = 0;
+        redoable = 0;
+    }
+}
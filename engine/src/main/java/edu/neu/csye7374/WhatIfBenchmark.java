@@ -0,0 +1,123 @@
+package edu.neu.csye7374;
+
+import java.util.Arrays;
+
+/**
+ * Depth-limited what-if search over a GameFacade session using
+ * CommandInvoker.speculate / doCommand / undo.
+ *
+ * At every real turn the player searches all attack/heal sequences up to
+ * {@code --depth} actions ahead (each action includes the enemy's reply)
+ * and plays the move with the best HP margin. After each speculation the
+ * session's state hash must be unchanged and no observer may have heard
+ * of the speculative moves. Reports searched nodes per second.
+ *
+ * Usage: WhatIfBenchmark [--depth n] [--games n] [--seed n]
+ */
+public class WhatIfBenchmark {
+
+    private static long nodes;
+
+    public static void main(String[] args) {
+        int depth = 6;
+        int games = 200;
+        long seed = 42;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--depth": depth = Integer.parseInt(args[++i]); break;
+                case "--games": games = Integer.parseInt(args[++i]); break;
+                case "--seed":  seed = Long.parseLong(args[++i]); break;
+                default:
+                    System.err.println("[Warning] Unknown option: " + args[i]);
+            }
+        }
+
+        GameFacade game = new GameFacade();
+        game.setLeaderboard(new Leaderboard());
+        long[] heard = new long[1];
+        game.subscribe(message -> heard[0]++, GameEventType.values());
+        CommandInvoker invoker = new CommandInvoker(depth + 1);
+
+        long realMoves = 0;
+        long wins = 0;
+        boolean[] moves = new boolean[64];     // the current game's real moves (true = heal)
+        int moveCount = 0;
+        long start = System.nanoTime();
+        for (int g = 0; g < games; g++) {
+            game.startNewGame("Hero", "warrior", 1 + g % 3, seed + g);
+            invoker.clearHistory();
+            moveCount = 0;
+            while (!game.isBattleOver()) {
+                long hash = game.currentStateHash();
+                long before = heard[0];
+                long snapshot = game.getSnapshotVersion();
+
+                final int d = depth;
+                boolean heal = invoker.speculate(inv -> {
+                    int attack = search(inv, game, false, d);
+                    int healing = search(inv, game, true, d);
+                    return healing > attack;
+                });
+
+                if (game.currentStateHash() != hash || heard[0] != before
+                        || game.getSnapshotVersion() != snapshot) {
+                    throw new IllegalStateException("speculation leaked at game " + g
+                            + ", turn " + game.getTurnCount());
+                }
+                invoker.doCommand(new PlayerTurnCommand(game, heal));
+                if (moveCount == moves.length) moves = Arrays.copyOf(moves, moveCount * 2);
+                moves[moveCount++] = heal;
+                realMoves++;
+            }
+            if (game.getPlayer().isAlive()) wins++;
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        // The game-ending move has been reported to the leaderboard, so it
+        // can't be undone. Replay the last game up to that move, then undo
+        // back to the start and redo.
+        boolean sealed = !invoker.undo();
+        game.startNewGame("Hero", "warrior", 1 + (games - 1) % 3, seed + games - 1);
+        invoker.clearHistory();
+        for (int m = 0; m < moveCount - 1; m++) {
+            invoker.doCommand(new PlayerTurnCommand(game, moves[m]));
+        }
+        int undone = 0;
+        while (invoker.undo()) undone++;
+        long startHash = game.getTurnHash(0);
+        boolean rewound = game.currentStateHash() == startHash;
+        while (invoker.redo()) { }
+
+        System.out.printf("[WhatIf] depth %d, %d games (%d won), %d real moves%n",
+                depth, games, wins, realMoves);
+        System.out.printf("[WhatIf] %,d speculative nodes in %.2f s: %,.0f nodes/s%n",
+                nodes, seconds, nodes / seconds);
+        System.out.printf("[WhatIf] last game: final move %s; undid %d moves of its replay to the start "
+                + "hash (%s), redo back to %s%n", sealed ? "not undoable" : "UNDONE",
+                undone, rewound ? "ok" : "MISMATCH",
+                game.isBattleOver() ? "game over" : "in progress");
+    }
+
+    /** Best (player HP - enemy HP) reachable after playing {@code heal} then searching. */
+    private static int search(CommandInvoker inv, GameFacade game, boolean heal, int depth) {
+        inv.doCommand(new PlayerTurnCommand(game, heal));
+        nodes++;
+        int best;
+        if (depth <= 1 || game.isBattleOver()) {
+            best = score(game);
+        } else {
+            best = Math.max(search(inv, game, false, depth - 1),
+                    search(inv, game, true, depth - 1));
+        }
+        inv.undo();
+        return best;
+    }
+
+    private static int score(GameFacade game) {
+        Character p = game.getPlayer();
+        Character e = game.getEnemy();
+        if (!p.isAlive()) return -1_000_000;
+        if (!e.isAlive()) return 1_000_000 + p.getHealth();
+        return p.getHealth() - e.getHealth();
+    }
+}
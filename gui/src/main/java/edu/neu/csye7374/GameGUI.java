@@ -11,9 +11,11 @@ import java.awt.event.ActionListener;
  * Demonstrates several design patterns via a graphical front-end:
  * - Singleton: GameConfig
  * - Factory + Builder: CharacterFactory, CharacterBuilder
+ * - Prototype + Object Pool: the goblin comes from CharacterPool like in GameFacade
  * - Strategy: AggressiveAttack, DefensiveAttack
  * - Command: CommandInvoker, AttackCommand, HealCommand
- * - Observer: GameObserver (ConsoleLogger + TextAreaObserverAdapter)
+ * - Observer: GameObserver (ConsoleLogger + TextAreaObserverAdapter),
+ *   with the GUI log subscribed to HP, attack, crit and game-over events
  * - Adapter: TextAreaObserverAdapter adapts GameObserver to JTextArea
  * - Facade-ish: GameGUI play/turn methods wrap the core calls
  */
@@ -44,6 +46,14 @@ public class GameGUI extends JFrame {
     private Character player;
     private Character enemy;
     private CommandInvoker invoker;
+    private final CharacterPool pool = new CharacterPool(1);   // recycles the goblin across games
+    private GameConfig config = GameConfig.current();
+    private int turn;
+
+    // Labels render from a seqlock snapshot published once per action,
+    // never from half-updated characters
+    private final BattleSnapshotSeqlock snapshots = new BattleSnapshotSeqlock();
+    private final BattleSnapshot view = new BattleSnapshot();
 
     // Observers
     private ConsoleLogger consoleLogger;
@@ -70,6 +80,14 @@ public class GameGUI extends JFrame {
         cardLayout.show(rootPanel, "menu");
     }
 
+    /** Launches the Swing GUI on the Event Dispatch Thread (used by Driver). */
+    public static void launch() {
+        SwingUtilities.invokeLater(() -> {
+            GameGUI gui = new GameGUI();
+            gui.setVisible(true);
+        });
+    }
+
     // ==========================
     // Scene builders
     // ==========================
@@ -240,59 +258,49 @@ public class GameGUI extends JFrame {
     private void setupGame(String name, String type, int difficulty, boolean aggressiveStart) {
         logArea.setText("");
 
-        // Singleton: store difficulty
-        GameConfig config = GameConfig.getInstance();
-        config.setDifficulty(difficulty);
+        // Singleton: take this game's config snapshot
+        config = GameConfig.current().withDifficulty(difficulty);
 
         // Enemy HP scaling (same as console)
-        int goblinHP;
-        switch (difficulty) {
-            case 1:
-                goblinHP = 50;
-                break;
-            case 2:
-                goblinHP = 80;
-                break;
-            case 3:
-                goblinHP = 120;
-                break;
-            default:
-                goblinHP = 80;
-        }
+        int goblinHP = config.getGoblinHp();
 
         // Factory + Builder for player
-        player = CharacterFactory.createCharacter(type, name);
+        player = CharacterFactory.createCharacter(type, name, config);
 
-        // Builder for enemy
-        CharacterBuilder enemyBuilder = new CharacterBuilder()
-                .setName("Goblin")
-                .setHealth(goblinHP);
-        enemy = enemyBuilder.build();
+        // Prototype + Object Pool for enemy (same archetype as GameFacade)
+        pool.release(enemy);
+        enemy = pool.acquire(CharacterPrototypes.GOBLIN, "Goblin", config);
 
         // Observers: console + GUI
         consoleLogger = new ConsoleLogger("GameLogger");
         guiLogger = new TextAreaObserverAdapter(logArea);
 
-        player.addObserver(consoleLogger);
-        player.addObserver(guiLogger);
-        enemy.addObserver(consoleLogger);
-        enemy.addObserver(guiLogger);
+        // The console gets everything; the GUI log shows the fight (HP,
+        // attack and crit narration, game over) but not strategy chatter or
+        // plain messages (one shared channel for both characters)
+        ObserverChannel channel = new ObserverChannel();
+        channel.addObserver(consoleLogger);
+        channel.subscribe(guiLogger, GameEventType.HP_CHANGED, GameEventType.ATTACK, GameEventType.CRIT,
+                GameEventType.GAME_OVER);
+        player.joinChannel(channel);
+        enemy.joinChannel(channel);
 
         // Strategy
         if (aggressiveStart) {
-            player.setStrategy(new AggressiveAttack());
+            player.setStrategy(config.strategies().aggressive());
         } else {
-            player.setStrategy(new DefensiveAttack());
+            player.setStrategy(config.strategies().defensive());
         }
-        enemy.setStrategy(new AggressiveAttack());
+        enemy.setStrategy(config.strategies().aggressive());
 
         // Command invoker
         invoker = new CommandInvoker();
 
+        turn = 0;
+        publishSnapshot("Player Turn");
         updateStrategyLabel();
-        updateHpLabels();
 
-        logDesignEvent("[Factory + Builder] Created player '" + player.getName()
+        logDesignEvent("[Factory + Prototype] Created player '" + player.getName()
                 + "' and enemy 'Goblin' with HP " + goblinHP);
         logDesignEvent("[Strategy] Starting strategy: " + playerStrategyName());
         logDesignEvent("[Singleton] Difficulty set to: " + difficulty + " (via GameConfig)");
@@ -311,14 +319,16 @@ public class GameGUI extends JFrame {
             playAttackAnimation(true);
         } else {
             // Command + Strategy (heal via DefensiveAttack logic)
-            invoker.addCommand(new HealCommand(player, 10));
+            invoker.addCommand(new HealCommand(player, config.getHealAmount()));
             logDesignEvent("[Command + Strategy] Player uses HealCommand with Defensive mindset");
         }
 
         invoker.executeAll();
-        updateHpLabels();
+        turn++;
+        boolean over = !enemy.isAlive() || !player.isAlive();
+        publishSnapshot(over ? "Game Over" : "Enemy Turn");
         checkGameOver();
-        if (!enemy.isAlive() || !player.isAlive()) return;
+        if (over) return;
 
         // Enemy turn
         enemyTurn();
@@ -328,11 +338,11 @@ public class GameGUI extends JFrame {
         if (!enemy.isAlive() || !player.isAlive()) return;
 
         logDesignEvent("[State] Enemy turn begins");
-        // Enemy always aggressive
-        enemy.setStrategy(new AggressiveAttack());
+        // Enemy always aggressive (shared instance, no allocation per turn)
+        enemy.setStrategy(config.strategies().aggressive());
         enemy.attack(player);
+        publishSnapshot(player.isAlive() ? "Player Turn" : "Game Over");
         playAttackAnimation(false);
-        updateHpLabels();
         checkGameOver();
         logDesignEvent("[State] Player turn begins again");
     }
@@ -340,20 +350,28 @@ public class GameGUI extends JFrame {
     private void onChangeStrategy() {
         if (player == null) return;
         if (player.getStrategy() instanceof AggressiveAttack) {
-            player.setStrategy(new DefensiveAttack());
+            player.setStrategy(config.strategies().defensive());
         } else {
-            player.setStrategy(new AggressiveAttack());
+            player.setStrategy(config.strategies().aggressive());
         }
+        publishSnapshot("Player Turn");
         updateStrategyLabel();
         logDesignEvent("[Strategy] Player strategy switched to: " + playerStrategyName());
     }
 
+    // Writer side: once per action, then refresh the labels from it
+    private void publishSnapshot(String stateName) {
+        snapshots.publish(player, enemy, stateName, turn);
+        updateHpLabels();
+    }
+
     private void updateHpLabels() {
-        if (player != null) {
-            heroHpLabel.setText(player.getName() + " HP: " + player.getHealth());
+        BattleSnapshot v = snapshots.read(view);
+        if (v.getPlayerName() != null) {
+            heroHpLabel.setText(v.getPlayerName() + " HP: " + v.getPlayerHp());
         }
-        if (enemy != null) {
-            goblinHpLabel.setText("Goblin HP: " + enemy.getHealth());
+        if (v.getEnemyName() != null) {
+            goblinHpLabel.setText("Goblin HP: " + v.getEnemyHp());
         }
     }
 
@@ -370,19 +388,21 @@ public class GameGUI extends JFrame {
     }
 
     private String playerStrategyName() {
-        AttackStrategy s = (player == null) ? null : player.getStrategy();
-        return (s == null) ? "None" : s.getName();
+        String name = snapshots.read(view).getPlayerStrategy();
+        return (name == null) ? "None" : name;
     }
 
     private void checkGameOver() {
         if (player == null || enemy == null) return;
 
         if (!player.isAlive()) {
+            player.notifyObservers(GameEventType.GAME_OVER, "You were defeated!");
             logDesignEvent("[State] Game over – player defeated");
             JOptionPane.showMessageDialog(this,
                     "You were defeated by the Goblin.",
                     "Game Over", JOptionPane.INFORMATION_MESSAGE);
         } else if (!enemy.isAlive()) {
+            enemy.notifyObservers(GameEventType.GAME_OVER, "You defeated the " + enemy.getName() + "!");
             logDesignEvent("[State] Game over – goblin defeated");
             JOptionPane.showMessageDialog(this,
                     "You defeated the Goblin!",